@@ -34,6 +34,7 @@ public class EventDissector
     private static final DataHeaderFlyweight DATA_HEADER = new DataHeaderFlyweight();
     private static final StatusMessageFlyweight SM_HEADER = new StatusMessageFlyweight();
     private static final NakFlyweight NAK_HEADER = new NakFlyweight();
+    private static final MultiNakFlyweight MULTI_NAK_HEADER = new MultiNakFlyweight();
     private static final SetupFlyweight SETUP_HEADER = new SetupFlyweight();
     private static final RttMeasurementFlyweight RTT_MEASUREMENT_FLYWEIGHT = new RttMeasurementFlyweight();
     private static final PublicationMessageFlyweight PUB_MESSAGE = new PublicationMessageFlyweight();
@@ -77,6 +78,12 @@ public class EventDissector
                 builder.append(dissect(nakFrame));
                 break;
 
+            case HeaderFlyweight.HDR_TYPE_MULTI_NAK:
+                final MultiNakFlyweight multiNakFrame = MULTI_NAK_HEADER;
+                multiNakFrame.wrap(buffer,  frameOffset, buffer.capacity() - frameOffset);
+                builder.append(dissect(multiNakFrame));
+                break;
+
             case HeaderFlyweight.HDR_TYPE_SETUP:
                 final SetupFlyweight setupFrame = SETUP_HEADER;
                 setupFrame.wrap(buffer,  frameOffset, buffer.capacity() - frameOffset);
@@ -292,6 +299,25 @@ public class EventDissector
             msg.length());
     }
 
+    private static String dissect(final MultiNakFlyweight msg)
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(
+            "MULTI_NAK 0x%x len %d %d:%d:%d",
+            msg.flags(),
+            msg.frameLength(),
+            msg.sessionId(),
+            msg.streamId(),
+            msg.termId()));
+
+        for (int i = 0, rangeCount = msg.validRangeCount(); i < rangeCount; i++)
+        {
+            builder.append(String.format(" @%x %d", msg.termOffset(i), msg.length(i)));
+        }
+
+        return builder.toString();
+    }
+
     private static String dissect(final SetupFlyweight msg)
     {
         return String.format(
@@ -29,6 +29,9 @@ class ArchiveFileUtil
 {
     static final int META_FILE_SIZE = 64;
     static final int ARCHIVE_FILE_SIZE = 1 << 30;
+    static final String INDEX_FILE_NAME = "archive.idx";
+    static final String SEGMENT_ALLOC_FILE_SUFFIX = ".alloc";
+    static final String SEGMENT_READY_FILE_SUFFIX = ".ready";
 
     static String archiveMetaFileName(final int streamInstanceId)
     {
@@ -40,6 +43,16 @@ class ArchiveFileUtil
         return streamInstanceId + "." + index + ".aaf";
     }
 
+    static String segmentAllocFileName(final int streamInstanceId, final int index)
+    {
+        return archiveDataFileName(streamInstanceId, index) + SEGMENT_ALLOC_FILE_SUFFIX;
+    }
+
+    static String segmentReadyFileName(final int streamInstanceId, final int index)
+    {
+        return archiveDataFileName(streamInstanceId, index) + SEGMENT_READY_FILE_SUFFIX;
+    }
+
     static String archiveDataFileName(
         final int streamInstanceId,
         final int initialTermId,
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import io.aeron.archiver.messages.ArchiveIndexEntryDecoder;
+import io.aeron.archiver.messages.ArchiveIndexEntryEncoder;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Persistent catalog of the stream instances archived in an archive folder. The catalog is a memory mapped,
+ * append only file of {@link ArchiveIndexEntryDecoder} records, each prefixed by its length and aligned to 8 bytes.
+ * A zero length marks the end of the catalog.
+ *
+ * Stream instance ids are assigned monotonically and the entries are indexed by {@link StreamInstance} when the
+ * catalog is loaded so lookups do not require a scan of the archive folder.
+ */
+class ArchiveIndex implements AutoCloseable
+{
+    static final int NULL_STREAM_INSTANCE_ID = -1;
+    static final int INDEX_FILE_INITIAL_LENGTH = 64 * 1024;
+    static final int RECORD_HEADER_LENGTH = SIZE_OF_LONG;
+    static final int RECORD_ALIGNMENT = SIZE_OF_LONG;
+
+    private final HashMap<StreamInstance, Integer> streamInstanceIdByKey = new HashMap<>();
+    private final ArchiveIndexEntryEncoder entryEncoder = new ArchiveIndexEntryEncoder();
+    private final ArchiveIndexEntryDecoder entryDecoder = new ArchiveIndexEntryDecoder();
+    private final UnsafeBuffer indexBuffer = new UnsafeBuffer(new byte[0]);
+    private final FileChannel indexFileChannel;
+    private MappedByteBuffer mappedIndexBuffer;
+    private int tailOffset;
+    private int nextStreamInstanceId;
+
+    ArchiveIndex(final File archiveFolder)
+    {
+        final File indexFile = new File(archiveFolder, ArchiveFileUtil.INDEX_FILE_NAME);
+        FileChannel channel = null;
+        try
+        {
+            channel = new RandomAccessFile(indexFile, "rw").getChannel();
+            final long fileLength = channel.size();
+            final long indexLength = Math.max(fileLength, INDEX_FILE_INITIAL_LENGTH);
+            mappedIndexBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexLength);
+            indexBuffer.wrap(mappedIndexBuffer);
+        }
+        catch (final IOException ex)
+        {
+            CloseHelper.quietClose(channel);
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        indexFileChannel = channel;
+        loadEntries();
+    }
+
+    public void close()
+    {
+        if (null != mappedIndexBuffer)
+        {
+            IoUtil.unmap(mappedIndexBuffer);
+            mappedIndexBuffer = null;
+        }
+        CloseHelper.quietClose(indexFileChannel);
+    }
+
+    /**
+     * Assign the next stream instance id to a stream instance and append it to the catalog.
+     *
+     * @param streamInstance to be added to the catalog.
+     * @return the stream instance id assigned.
+     */
+    int addNewStreamInstance(final StreamInstance streamInstance)
+    {
+        final int streamInstanceId = nextStreamInstanceId;
+        final int encodedLength = ArchiveIndexEntryEncoder.BLOCK_LENGTH +
+            ArchiveIndexEntryEncoder.sourceHeaderLength() + streamInstance.source().length() +
+            ArchiveIndexEntryEncoder.channelHeaderLength() + streamInstance.channel().length();
+        final int recordLength = align(RECORD_HEADER_LENGTH + encodedLength, RECORD_ALIGNMENT);
+
+        ensureCapacity(tailOffset + recordLength + SIZE_OF_INT);
+
+        entryEncoder.wrap(indexBuffer, tailOffset + RECORD_HEADER_LENGTH)
+            .streamInstanceId(streamInstanceId)
+            .sessionId(streamInstance.sessionId())
+            .streamId(streamInstance.streamId())
+            .source(streamInstance.source())
+            .channel(streamInstance.channel());
+
+        indexBuffer.putIntOrdered(tailOffset, recordLength);
+        mappedIndexBuffer.force();
+
+        tailOffset += recordLength;
+        nextStreamInstanceId++;
+        streamInstanceIdByKey.put(streamInstance, streamInstanceId);
+
+        return streamInstanceId;
+    }
+
+    /**
+     * Find the stream instance id for the most recent archive of a stream instance.
+     *
+     * @param streamInstance to look up.
+     * @return the stream instance id or {@link #NULL_STREAM_INSTANCE_ID} if not in the catalog.
+     */
+    int findStreamInstanceId(final StreamInstance streamInstance)
+    {
+        final Integer streamInstanceId = streamInstanceIdByKey.get(streamInstance);
+
+        return null == streamInstanceId ? NULL_STREAM_INSTANCE_ID : streamInstanceId;
+    }
+
+    /**
+     * The number of stream instances in the catalog.
+     *
+     * @return the number of stream instances in the catalog.
+     */
+    int streamInstanceCount()
+    {
+        return nextStreamInstanceId;
+    }
+
+    private void loadEntries()
+    {
+        final int capacity = indexBuffer.capacity();
+        while (tailOffset + SIZE_OF_INT <= capacity)
+        {
+            final int recordLength = indexBuffer.getIntVolatile(tailOffset);
+            if (recordLength <= 0)
+            {
+                break;
+            }
+
+            entryDecoder.wrap(
+                indexBuffer,
+                tailOffset + RECORD_HEADER_LENGTH,
+                ArchiveIndexEntryDecoder.BLOCK_LENGTH,
+                ArchiveIndexEntryDecoder.SCHEMA_VERSION);
+
+            final int streamInstanceId = entryDecoder.streamInstanceId();
+            final int sessionId = entryDecoder.sessionId();
+            final int streamId = entryDecoder.streamId();
+            final String source = entryDecoder.source();
+            final String channel = entryDecoder.channel();
+
+            streamInstanceIdByKey.put(new StreamInstance(source, sessionId, channel, streamId), streamInstanceId);
+            nextStreamInstanceId = Math.max(nextStreamInstanceId, streamInstanceId + 1);
+            tailOffset += recordLength;
+        }
+    }
+
+    private void ensureCapacity(final int requiredCapacity)
+    {
+        final int capacity = indexBuffer.capacity();
+        if (requiredCapacity > capacity)
+        {
+            int newCapacity = capacity;
+            while (newCapacity < requiredCapacity)
+            {
+                newCapacity <<= 1;
+            }
+
+            try
+            {
+                final MappedByteBuffer newMappedIndexBuffer =
+                    indexFileChannel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+                IoUtil.unmap(mappedIndexBuffer);
+                mappedIndexBuffer = newMappedIndexBuffer;
+                indexBuffer.wrap(mappedIndexBuffer);
+            }
+            catch (final IOException ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+        }
+    }
+}
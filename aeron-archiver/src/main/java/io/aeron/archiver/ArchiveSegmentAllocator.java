@@ -0,0 +1,263 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.agrona.LangUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.archiver.ArchiveFileUtil.ARCHIVE_FILE_SIZE;
+import static io.aeron.archiver.ArchiveFileUtil.SEGMENT_ALLOC_FILE_SUFFIX;
+import static io.aeron.archiver.ArchiveFileUtil.SEGMENT_READY_FILE_SUFFIX;
+
+/**
+ * Allocates archive segment files ahead of the write position of recordings so the archiver conductor does not
+ * stall creating a file at rollover.
+ *
+ * Segments are allocated on a background thread under an allocation file name, then renamed to a ready file name
+ * once fully allocated. The {@link ImageArchivingSession} renames a ready file to the archive data file name at
+ * rollover, so only the conductor thread ever creates archive data files. Usable storage in the archive folder is
+ * checked periodically and before each allocation, with a low storage counter set when it falls below a threshold.
+ * Segments are left sparse unless zero fill is enabled, and segments left over from a previous run are deleted on
+ * start as the recordings they were allocated for are no longer active.
+ */
+class ArchiveSegmentAllocator implements Agent
+{
+    static final int FILL_CHUNK_LENGTH = 1024 * 1024;
+    static final long STORAGE_CHECK_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Request to allocate a segment for a recording which can be cancelled when the recording is closed.
+     */
+    static class SegmentRequest
+    {
+        private final int streamInstanceId;
+        private final int index;
+        private volatile boolean isCancelled;
+
+        SegmentRequest(final int streamInstanceId, final int index)
+        {
+            this.streamInstanceId = streamInstanceId;
+            this.index = index;
+        }
+
+        int streamInstanceId()
+        {
+            return streamInstanceId;
+        }
+
+        int index()
+        {
+            return index;
+        }
+
+        boolean isCancelled()
+        {
+            return isCancelled;
+        }
+
+        void cancel()
+        {
+            isCancelled = true;
+        }
+    }
+
+    private final OneToOneConcurrentArrayQueue<SegmentRequest> requestQueue =
+        new OneToOneConcurrentArrayQueue<>(1024);
+    private final File archiveFolder;
+    private final boolean zeroFill;
+    private final long lowStorageThreshold;
+    private final NanoClock nanoClock;
+    private final AtomicCounter segmentsAllocated;
+    private final AtomicCounter lowStorage;
+    private final AtomicCounter usableStorage;
+    private ByteBuffer zeroBuffer;
+    private long timeOfLastStorageCheckNs;
+
+    ArchiveSegmentAllocator(
+        final File archiveFolder,
+        final boolean zeroFill,
+        final long lowStorageThreshold,
+        final NanoClock nanoClock,
+        final AtomicCounter segmentsAllocated,
+        final AtomicCounter lowStorage,
+        final AtomicCounter usableStorage)
+    {
+        this.archiveFolder = archiveFolder;
+        this.zeroFill = zeroFill;
+        this.lowStorageThreshold = lowStorageThreshold;
+        this.nanoClock = nanoClock;
+        this.segmentsAllocated = segmentsAllocated;
+        this.lowStorage = lowStorage;
+        this.usableStorage = usableStorage;
+        timeOfLastStorageCheckNs = nanoClock.nanoTime() - STORAGE_CHECK_INTERVAL_NS;
+    }
+
+    public String roleName()
+    {
+        return "ArchiveSegmentAllocator";
+    }
+
+    public int doWork() throws Exception
+    {
+        int workDone = 0;
+
+        final long nowNs = nanoClock.nanoTime();
+        if (nowNs - timeOfLastStorageCheckNs >= STORAGE_CHECK_INTERVAL_NS)
+        {
+            checkStorage();
+            timeOfLastStorageCheckNs = nowNs;
+            workDone++;
+        }
+
+        final SegmentRequest request = requestQueue.poll();
+        if (null != request)
+        {
+            allocate(request);
+            workDone++;
+        }
+
+        return workDone;
+    }
+
+    /**
+     * Request a segment be allocated for a recording. Called from the archiver conductor thread.
+     *
+     * @param streamInstanceId of the recording.
+     * @param index            of the segment within the recording.
+     * @return the request which can be cancelled or null if the request queue is full.
+     */
+    SegmentRequest requestSegment(final int streamInstanceId, final int index)
+    {
+        final SegmentRequest request = new SegmentRequest(streamInstanceId, index);
+
+        return requestQueue.offer(request) ? request : null;
+    }
+
+    /**
+     * Cancel a segment request and remove the ready file if it has already been allocated.
+     *
+     * @param request to be cancelled.
+     */
+    void cancel(final SegmentRequest request)
+    {
+        request.cancel();
+        readyFile(request).delete();
+    }
+
+    /**
+     * Delete allocation and ready files left in the archive folder by a previous run. Called before any segments are
+     * requested.
+     */
+    void deleteStaleSegments()
+    {
+        final File[] staleFiles = archiveFolder.listFiles(
+            (dir, name) -> name.endsWith(SEGMENT_ALLOC_FILE_SUFFIX) || name.endsWith(SEGMENT_READY_FILE_SUFFIX));
+
+        if (null != staleFiles)
+        {
+            for (final File file : staleFiles)
+            {
+                file.delete();
+            }
+        }
+    }
+
+    File readyFile(final SegmentRequest request)
+    {
+        return new File(
+            archiveFolder, ArchiveFileUtil.segmentReadyFileName(request.streamInstanceId(), request.index()));
+    }
+
+    private long checkStorage()
+    {
+        final long usableSpace = archiveFolder.getUsableSpace();
+        usableStorage.setOrdered(usableSpace);
+        lowStorage.setOrdered(usableSpace < lowStorageThreshold ? 1 : 0);
+
+        return usableSpace;
+    }
+
+    private void allocate(final SegmentRequest request)
+    {
+        if (request.isCancelled() || checkStorage() < ARCHIVE_FILE_SIZE)
+        {
+            return;
+        }
+
+        final File allocFile = new File(
+            archiveFolder, ArchiveFileUtil.segmentAllocFileName(request.streamInstanceId(), request.index()));
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(allocFile, "rw");
+             FileChannel fileChannel = randomAccessFile.getChannel())
+        {
+            if (zeroFill)
+            {
+                fill(fileChannel);
+            }
+            else
+            {
+                fileChannel.position(ARCHIVE_FILE_SIZE - 1);
+                fileChannel.write(ByteBuffer.wrap(new byte[]{ 0 }));
+            }
+            fileChannel.force(true);
+        }
+        catch (final IOException ex)
+        {
+            allocFile.delete();
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        final File readyFile = readyFile(request);
+        if (!allocFile.renameTo(readyFile))
+        {
+            allocFile.delete();
+            return;
+        }
+
+        if (request.isCancelled())
+        {
+            readyFile.delete();
+        }
+        else
+        {
+            segmentsAllocated.orderedIncrement();
+        }
+    }
+
+    private void fill(final FileChannel fileChannel) throws IOException
+    {
+        if (null == zeroBuffer)
+        {
+            zeroBuffer = ByteBuffer.allocateDirect(FILL_CHUNK_LENGTH);
+        }
+
+        long position = 0;
+        while (position < ARCHIVE_FILE_SIZE)
+        {
+            zeroBuffer.clear();
+            position += fileChannel.write(zeroBuffer, position);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * Forces archive data files to storage on a background thread so the archiver conductor does not block in
+ * {@link FileChannel#force(boolean)}.
+ *
+ * Requests are processed in the order they are made so a file handed over to be closed after its final force is
+ * only closed once earlier forces of the same file have completed. Failures are counted and reported to the error
+ * handler by the {@link ArchiveSyncPolicy} and flagged on the request for the {@link ImageArchivingSession}.
+ */
+class ArchiveSyncAgent implements Agent
+{
+    /**
+     * Request to force an archive data file which is observed by the conductor for completion.
+     */
+    static class SyncRequest
+    {
+        private final FileChannel fileChannel;
+        private final long unflushedLength;
+        private final boolean isCloseRequired;
+        private volatile boolean isDone;
+        private volatile boolean hasFailed;
+
+        SyncRequest(final FileChannel fileChannel, final long unflushedLength, final boolean isCloseRequired)
+        {
+            this.fileChannel = fileChannel;
+            this.unflushedLength = unflushedLength;
+            this.isCloseRequired = isCloseRequired;
+        }
+
+        boolean isDone()
+        {
+            return isDone;
+        }
+
+        boolean hasFailed()
+        {
+            return hasFailed;
+        }
+    }
+
+    private final OneToOneConcurrentArrayQueue<SyncRequest> requestQueue = new OneToOneConcurrentArrayQueue<>(1024);
+    private final ArchiveSyncPolicy syncPolicy;
+
+    ArchiveSyncAgent(final ArchiveSyncPolicy syncPolicy)
+    {
+        this.syncPolicy = syncPolicy;
+    }
+
+    public String roleName()
+    {
+        return "ArchiveSyncAgent";
+    }
+
+    public int doWork() throws Exception
+    {
+        final SyncRequest request = requestQueue.poll();
+        if (null != request)
+        {
+            sync(request);
+            return 1;
+        }
+
+        return 0;
+    }
+
+    public void onClose()
+    {
+        SyncRequest request;
+        while (null != (request = requestQueue.poll()))
+        {
+            sync(request);
+        }
+    }
+
+    /**
+     * Request an archive data file be forced to storage. Called from the archiver conductor thread.
+     *
+     * @param fileChannel     to be forced.
+     * @param unflushedLength of the archive file which will be flushed.
+     * @param isCloseRequired true if the file should be closed once forced, the caller must not use it again.
+     * @return the request which can be checked for completion or null if the request queue is full.
+     */
+    SyncRequest requestSync(final FileChannel fileChannel, final long unflushedLength, final boolean isCloseRequired)
+    {
+        final SyncRequest request = new SyncRequest(fileChannel, unflushedLength, isCloseRequired);
+
+        return requestQueue.offer(request) ? request : null;
+    }
+
+    private void sync(final SyncRequest request)
+    {
+        if (!syncPolicy.trySync(request.fileChannel, request.unflushedLength))
+        {
+            request.hasFailed = true;
+        }
+
+        if (request.isCloseRequired)
+        {
+            CloseHelper.quietClose(request.fileChannel);
+        }
+
+        request.isDone = true;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+/**
+ * Durability mode for archive data files. Writes always go through the page cache, the mode determines when
+ * the archived data is forced to the storage device.
+ */
+public enum ArchiveSyncMode
+{
+    /**
+     * Never force archive files, leave it to the operating system to write back the page cache.
+     */
+    NONE,
+
+    /**
+     * Force archive files once the sync period has elapsed since the last force when there is unflushed data.
+     */
+    PERIODIC,
+
+    /**
+     * Force archive files once the unflushed data for a file reaches the sync length in bytes.
+     */
+    BYTES
+}
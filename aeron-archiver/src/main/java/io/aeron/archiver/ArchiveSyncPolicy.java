@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.HdrHistogram.Histogram;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Decides when archive data files are forced to storage for a given {@link ArchiveSyncMode} and tracks the
+ * bytes written, unflushed bytes, force failures and force latency across all archiving sessions of an archiver.
+ */
+class ArchiveSyncPolicy
+{
+    private final ArchiveSyncMode syncMode;
+    private final long syncPeriodNs;
+    private final long syncLength;
+    private final NanoClock nanoClock;
+    private final AtomicCounter bytesWritten;
+    private final AtomicCounter unflushedBytes;
+    private final AtomicCounter flushes;
+    private final AtomicCounter syncFailures;
+    private final Histogram flushLatencyHistogram;
+    private final ErrorHandler errorHandler;
+
+    ArchiveSyncPolicy(
+        final ArchiveSyncMode syncMode,
+        final long syncPeriodNs,
+        final long syncLength,
+        final NanoClock nanoClock,
+        final AtomicCounter bytesWritten,
+        final AtomicCounter unflushedBytes,
+        final AtomicCounter flushes,
+        final AtomicCounter syncFailures,
+        final Histogram flushLatencyHistogram,
+        final ErrorHandler errorHandler)
+    {
+        this.syncMode = syncMode;
+        this.syncPeriodNs = syncPeriodNs;
+        this.syncLength = syncLength;
+        this.nanoClock = nanoClock;
+        this.bytesWritten = bytesWritten;
+        this.unflushedBytes = unflushedBytes;
+        this.flushes = flushes;
+        this.syncFailures = syncFailures;
+        this.flushLatencyHistogram = flushLatencyHistogram;
+        this.errorHandler = errorHandler;
+    }
+
+    ArchiveSyncMode syncMode()
+    {
+        return syncMode;
+    }
+
+    long nanoTime()
+    {
+        return nanoClock.nanoTime();
+    }
+
+    /**
+     * Account for data written to an archive file via the page cache.
+     *
+     * @param length of the data written.
+     */
+    void onWrite(final int length)
+    {
+        bytesWritten.addOrdered(length);
+        if (syncMode != ArchiveSyncMode.NONE)
+        {
+            unflushedBytes.add(length);
+        }
+    }
+
+    /**
+     * Should an archive file be forced given its unflushed length and the time it was last forced.
+     *
+     * @param unflushedLength of the archive file.
+     * @param timeOfLastSyncNs for the archive file.
+     * @param nowNs            current time.
+     * @return true if the file should be forced now.
+     */
+    boolean isSyncRequired(final long unflushedLength, final long timeOfLastSyncNs, final long nowNs)
+    {
+        if (unflushedLength <= 0)
+        {
+            return false;
+        }
+
+        switch (syncMode)
+        {
+            case PERIODIC:
+                return nowNs - timeOfLastSyncNs >= syncPeriodNs;
+
+            case BYTES:
+                return unflushedLength >= syncLength;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Force an archive file to storage if the sync mode requires durability.
+     *
+     * @param fileChannel     to be forced.
+     * @param unflushedLength of the archive file which will be flushed.
+     * @throws IOException if the force fails.
+     */
+    void sync(final FileChannel fileChannel, final long unflushedLength) throws IOException
+    {
+        if (syncMode == ArchiveSyncMode.NONE || unflushedLength <= 0)
+        {
+            return;
+        }
+
+        final long startNs = nanoClock.nanoTime();
+        fileChannel.force(false);
+        final long latencyNs = nanoClock.nanoTime() - startNs;
+
+        flushLatencyHistogram.recordValue(Math.min(latencyNs, flushLatencyHistogram.getHighestTrackableValue()));
+        flushes.orderedIncrement();
+        unflushedBytes.add(-unflushedLength);
+    }
+
+    /**
+     * Force an archive file to storage, counting and reporting a failure to the error handler rather than throwing.
+     *
+     * @param fileChannel     to be forced.
+     * @param unflushedLength of the archive file which will be flushed.
+     * @return true if the file was forced or no force was required, false if the force failed.
+     */
+    boolean trySync(final FileChannel fileChannel, final long unflushedLength)
+    {
+        try
+        {
+            sync(fileChannel, unflushedLength);
+            return true;
+        }
+        catch (final IOException ex)
+        {
+            syncFailures.orderedIncrement();
+            errorHandler.onError(ex);
+            return false;
+        }
+    }
+}
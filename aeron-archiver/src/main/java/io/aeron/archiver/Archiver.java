@@ -17,11 +17,25 @@ package io.aeron.archiver;
 
 import io.aeron.Aeron;
 import io.aeron.Image;
+import org.HdrHistogram.Histogram;
+import org.agrona.IoUtil;
 import org.agrona.concurrent.AgentRunner;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.ShutdownSignalBarrier;
+import org.agrona.concurrent.SleepingIdleStrategy;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
 
 import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
 
 import static io.aeron.driver.MediaDriver.loadPropertiesFiles;
 
@@ -29,6 +43,8 @@ public class Archiver implements AutoCloseable
 {
     private final Context ctx;
     private AgentRunner runner;
+    private AgentRunner segmentAllocatorRunner;
+    private AgentRunner syncAgentRunner;
     private Aeron aeron;
 
     public Archiver(final Context ctx)
@@ -62,11 +78,22 @@ public class Archiver implements AutoCloseable
     public void close() throws Exception
     {
         runner.close();
+        if (null != syncAgentRunner)
+        {
+            syncAgentRunner.close();
+        }
+        if (null != segmentAllocatorRunner)
+        {
+            segmentAllocatorRunner.close();
+        }
         aeron.close();
+        ctx.close();
     }
 
     public void start()
     {
+        ctx.conclude();
+
         final ManyToOneConcurrentArrayQueue<Image> imageNotifications = new ManyToOneConcurrentArrayQueue<>(1024);
 
         // TODO: needs to give up on some isRunning flag
@@ -78,11 +105,58 @@ public class Archiver implements AutoCloseable
             }
         });
 
+        final CountersManager countersManager = ctx.countersManager();
+        final ArchiveSyncPolicy syncPolicy = new ArchiveSyncPolicy(
+            ctx.syncMode(),
+            ctx.syncPeriodNs(),
+            ctx.syncLength(),
+            ctx.nanoClock(),
+            countersManager.newCounter("Archive bytes written"),
+            countersManager.newCounter("Archive unflushed bytes"),
+            countersManager.newCounter("Archive flushes"),
+            countersManager.newCounter("Archive sync failures"),
+            ctx.flushLatencyHistogram(),
+            ctx.clientContext.errorHandler());
+
+        final ArchiveSegmentAllocator segmentAllocator = new ArchiveSegmentAllocator(
+            ctx.archiveFolder(),
+            ctx.segmentZeroFill(),
+            ctx.lowStorageThreshold(),
+            ctx.nanoClock(),
+            countersManager.newCounter("Archive segments allocated"),
+            countersManager.newCounter("Archive low storage"),
+            countersManager.newCounter("Archive usable storage bytes"));
+        segmentAllocator.deleteStaleSegments();
+
         aeron = Aeron.connect(ctx.clientContext);
         /* TODO: should we have replay and record on same thread?
            TODO: should we allow the allocation of more threads to these tasks assuming slow storage/sufficient
                  traffic/sufficient replay load?*/
-        final ArchiverConductor archiverConductor = new ArchiverConductor(aeron, imageNotifications, ctx);
+        final ArchiveSyncAgent syncAgent = ctx.syncMode() != ArchiveSyncMode.NONE ?
+            new ArchiveSyncAgent(syncPolicy) : null;
+
+        final ArchiverConductor archiverConductor = new ArchiverConductor(
+            aeron, imageNotifications, syncPolicy, syncAgent, segmentAllocator, ctx);
+
+        if (null != syncAgent)
+        {
+            syncAgentRunner = new AgentRunner(
+                new SleepingIdleStrategy(TimeUnit.MILLISECONDS.toNanos(1)),
+                ctx.clientContext.errorHandler(),
+                null,
+                syncAgent);
+            AgentRunner.startOnThread(syncAgentRunner, ctx.clientContext.threadFactory());
+        }
+
+        if (ctx.segmentPreallocationCount() > 0)
+        {
+            segmentAllocatorRunner = new AgentRunner(
+                new SleepingIdleStrategy(TimeUnit.MILLISECONDS.toNanos(1)),
+                ctx.clientContext.errorHandler(),
+                null,
+                segmentAllocator);
+            AgentRunner.startOnThread(segmentAllocatorRunner, ctx.clientContext.threadFactory());
+        }
 
         runner = new AgentRunner(
             ctx.clientContext.idleStrategy(),
@@ -104,6 +178,118 @@ public class Archiver implements AutoCloseable
         return archiver;
     }
 
+    /**
+     * Configuration defaults for the archiver which can be overridden by system properties.
+     */
+    public static class Configuration
+    {
+        /**
+         * Property name for the {@link ArchiveSyncMode} applied to archive data files.
+         */
+        public static final String SYNC_MODE_PROP_NAME = "aeron.archiver.sync.mode";
+
+        /**
+         * Default {@link ArchiveSyncMode} applied to archive data files.
+         */
+        public static final String SYNC_MODE_DEFAULT = ArchiveSyncMode.PERIODIC.name();
+
+        /**
+         * Property name for the period in nanoseconds between forcing archive files in
+         * {@link ArchiveSyncMode#PERIODIC} mode.
+         */
+        public static final String SYNC_PERIOD_PROP_NAME = "aeron.archiver.sync.period";
+
+        /**
+         * Default period in nanoseconds between forcing archive files.
+         */
+        public static final long SYNC_PERIOD_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+        /**
+         * Property name for the unflushed length in bytes which triggers forcing an archive file in
+         * {@link ArchiveSyncMode#BYTES} mode.
+         */
+        public static final String SYNC_LENGTH_PROP_NAME = "aeron.archiver.sync.length";
+
+        /**
+         * Default unflushed length in bytes which triggers forcing an archive file.
+         */
+        public static final int SYNC_LENGTH_DEFAULT = 16 * 1024 * 1024;
+
+        /**
+         * Property name for the number of archive segment files allocated ahead of the write position of each
+         * recording.
+         */
+        public static final String SEGMENT_PREALLOCATION_COUNT_PROP_NAME = "aeron.archiver.segment.preallocation.count";
+
+        /**
+         * Default number of archive segment files allocated ahead of the write position of each recording.
+         */
+        public static final int SEGMENT_PREALLOCATION_COUNT_DEFAULT = 1;
+
+        /**
+         * Property name for zero filling pre-allocated archive segment files so storage is allocated up front rather
+         * than leaving sparse files. Zero filling writes the full length of every segment so is disabled by default.
+         */
+        public static final String SEGMENT_ZERO_FILL_PROP_NAME = "aeron.archiver.segment.zero.fill";
+
+        /**
+         * Default for zero filling pre-allocated archive segment files.
+         */
+        public static final String SEGMENT_ZERO_FILL_DEFAULT = "false";
+
+        /**
+         * Property name for the usable storage in bytes below which the low storage counter is set.
+         */
+        public static final String LOW_STORAGE_THRESHOLD_PROP_NAME = "aeron.archiver.low.storage.threshold";
+
+        /**
+         * Default usable storage in bytes below which the low storage counter is set.
+         */
+        public static final long LOW_STORAGE_THRESHOLD_DEFAULT = 4L * ArchiveFileUtil.ARCHIVE_FILE_SIZE;
+
+        /**
+         * Length of the buffer for archiver counter values. The labels buffer is sized in proportion.
+         */
+        public static final int COUNTERS_VALUES_BUFFER_LENGTH = 16 * COUNTER_LENGTH;
+
+        /**
+         * Name of the file in the archive folder which holds the archiver counters when a {@link CountersManager}
+         * is not provided. The labels buffer is followed by the values buffer so they can be read by a
+         * {@link org.agrona.concurrent.status.CountersReader} in another process.
+         */
+        public static final String COUNTERS_FILE_NAME = "archiver-counters.dat";
+
+        public static ArchiveSyncMode syncMode()
+        {
+            return ArchiveSyncMode.valueOf(System.getProperty(SYNC_MODE_PROP_NAME, SYNC_MODE_DEFAULT));
+        }
+
+        public static long syncPeriodNs()
+        {
+            return getLong(SYNC_PERIOD_PROP_NAME, SYNC_PERIOD_DEFAULT_NS);
+        }
+
+        public static int syncLength()
+        {
+            return getInteger(SYNC_LENGTH_PROP_NAME, SYNC_LENGTH_DEFAULT);
+        }
+
+        public static int segmentPreallocationCount()
+        {
+            return getInteger(SEGMENT_PREALLOCATION_COUNT_PROP_NAME, SEGMENT_PREALLOCATION_COUNT_DEFAULT);
+        }
+
+        public static boolean segmentZeroFill()
+        {
+            return "true".equals(System.getProperty(SEGMENT_ZERO_FILL_PROP_NAME, SEGMENT_ZERO_FILL_DEFAULT));
+        }
+
+        public static long lowStorageThreshold()
+        {
+            return getLong(LOW_STORAGE_THRESHOLD_PROP_NAME, LOW_STORAGE_THRESHOLD_DEFAULT);
+        }
+    }
+
     public static class Context
     {
         Aeron.Context clientContext;
@@ -112,6 +298,16 @@ public class Archiver implements AutoCloseable
         private int serviceRequestStreamId;
         private String archiverNotificationsChannel;
         private int archiverNotificationsStreamId;
+        private ArchiveSyncMode syncMode = Configuration.syncMode();
+        private long syncPeriodNs = Configuration.syncPeriodNs();
+        private int syncLength = Configuration.syncLength();
+        private int segmentPreallocationCount = Configuration.segmentPreallocationCount();
+        private boolean segmentZeroFill = Configuration.segmentZeroFill();
+        private long lowStorageThreshold = Configuration.lowStorageThreshold();
+        private NanoClock nanoClock;
+        private CountersManager countersManager;
+        private MappedByteBuffer countersFileBuffer;
+        private Histogram flushLatencyHistogram;
 
         public Context()
         {
@@ -136,6 +332,40 @@ public class Archiver implements AutoCloseable
             this.archiveFolder = archiveFolder;
         }
 
+        void conclude()
+        {
+            if (null == nanoClock)
+            {
+                nanoClock = new SystemNanoClock();
+            }
+
+            if (null == countersManager)
+            {
+                final int valuesLength = Configuration.COUNTERS_VALUES_BUFFER_LENGTH;
+                final int labelsLength = valuesLength * (METADATA_LENGTH / COUNTER_LENGTH);
+                final File countersFile = new File(archiveFolder, Configuration.COUNTERS_FILE_NAME);
+                IoUtil.deleteIfExists(countersFile);
+                countersFileBuffer = IoUtil.mapNewFile(countersFile, labelsLength + valuesLength);
+                countersManager = new CountersManager(
+                    new UnsafeBuffer(countersFileBuffer, 0, labelsLength),
+                    new UnsafeBuffer(countersFileBuffer, labelsLength, valuesLength));
+            }
+
+            if (null == flushLatencyHistogram)
+            {
+                flushLatencyHistogram = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+            }
+        }
+
+        void close()
+        {
+            if (null != countersFileBuffer)
+            {
+                IoUtil.unmap(countersFileBuffer);
+                countersFileBuffer = null;
+            }
+        }
+
         public File archiveFolder()
         {
             return archiveFolder;
@@ -201,5 +431,155 @@ public class Archiver implements AutoCloseable
             this.archiverNotificationsStreamId = archiverNotificationsStreamId;
             return this;
         }
+
+        public ArchiveSyncMode syncMode()
+        {
+            return syncMode;
+        }
+
+        /**
+         * Set the {@link ArchiveSyncMode} which determines when archive data files are forced to storage.
+         *
+         * @param syncMode for archive data files.
+         * @return this for a fluent API.
+         */
+        public Context syncMode(final ArchiveSyncMode syncMode)
+        {
+            this.syncMode = syncMode;
+            return this;
+        }
+
+        public long syncPeriodNs()
+        {
+            return syncPeriodNs;
+        }
+
+        /**
+         * Set the period between forcing archive data files to storage in {@link ArchiveSyncMode#PERIODIC} mode.
+         *
+         * @param syncPeriodNs between forcing archive data files.
+         * @return this for a fluent API.
+         */
+        public Context syncPeriodNs(final long syncPeriodNs)
+        {
+            this.syncPeriodNs = syncPeriodNs;
+            return this;
+        }
+
+        public int syncLength()
+        {
+            return syncLength;
+        }
+
+        /**
+         * Set the unflushed length which triggers forcing an archive data file in {@link ArchiveSyncMode#BYTES} mode.
+         *
+         * @param syncLength of unflushed bytes.
+         * @return this for a fluent API.
+         */
+        public Context syncLength(final int syncLength)
+        {
+            this.syncLength = syncLength;
+            return this;
+        }
+
+        public int segmentPreallocationCount()
+        {
+            return segmentPreallocationCount;
+        }
+
+        /**
+         * Set the number of archive segment files allocated ahead of the write position of each recording.
+         * A count of 0 disables pre-allocation and segments are created at rollover.
+         *
+         * @param segmentPreallocationCount ahead of the write position.
+         * @return this for a fluent API.
+         */
+        public Context segmentPreallocationCount(final int segmentPreallocationCount)
+        {
+            this.segmentPreallocationCount = segmentPreallocationCount;
+            return this;
+        }
+
+        public boolean segmentZeroFill()
+        {
+            return segmentZeroFill;
+        }
+
+        /**
+         * Set if pre-allocated archive segment files are zero filled rather than left sparse.
+         *
+         * @param segmentZeroFill true to zero fill pre-allocated segment files.
+         * @return this for a fluent API.
+         */
+        public Context segmentZeroFill(final boolean segmentZeroFill)
+        {
+            this.segmentZeroFill = segmentZeroFill;
+            return this;
+        }
+
+        public long lowStorageThreshold()
+        {
+            return lowStorageThreshold;
+        }
+
+        /**
+         * Set the usable storage in bytes below which the low storage counter is set.
+         *
+         * @param lowStorageThreshold in bytes.
+         * @return this for a fluent API.
+         */
+        public Context lowStorageThreshold(final long lowStorageThreshold)
+        {
+            this.lowStorageThreshold = lowStorageThreshold;
+            return this;
+        }
+
+        public NanoClock nanoClock()
+        {
+            return nanoClock;
+        }
+
+        public Context nanoClock(final NanoClock nanoClock)
+        {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public CountersManager countersManager()
+        {
+            return countersManager;
+        }
+
+        /**
+         * Set the {@link CountersManager} used to allocate the archiver counters. A {@link CountersManager} is not
+         * thread safe so it must not be shared with another component, such as a {@link io.aeron.driver.MediaDriver},
+         * which allocates counters concurrently. If not set the counters are held in a file in the archive folder.
+         *
+         * @param countersManager used to allocate the archiver counters.
+         * @return this for a fluent API.
+         */
+        public Context countersManager(final CountersManager countersManager)
+        {
+            this.countersManager = countersManager;
+            return this;
+        }
+
+        public Histogram flushLatencyHistogram()
+        {
+            return flushLatencyHistogram;
+        }
+
+        /**
+         * Set the {@link Histogram} which records the latency in nanoseconds of forcing archive data files.
+         *
+         * @param flushLatencyHistogram which records the latency in nanoseconds of forcing archive data files.
+         * @return this for a fluent API.
+         */
+        public Context flushLatencyHistogram(final Histogram flushLatencyHistogram)
+        {
+            this.flushLatencyHistogram = flushLatencyHistogram;
+            return this;
+        }
     }
 }
@@ -61,10 +61,18 @@ public class ArchiverConductor implements Agent
     // TODO: The image listener would be easier to setup on the subscription level
     private final ManyToOneConcurrentArrayQueue<Image> imageNotifications;
     private final File archiveFolder;
+    private final ArchiveIndex archiveIndex;
+    private final ArchiveSyncPolicy syncPolicy;
+    private final ArchiveSyncAgent syncAgent;
+    private final ArchiveSegmentAllocator segmentAllocator;
+    private final int segmentPreallocationCount;
 
     public ArchiverConductor(
         final Aeron aeron,
         final ManyToOneConcurrentArrayQueue<Image> imageNotifications,
+        final ArchiveSyncPolicy syncPolicy,
+        final ArchiveSyncAgent syncAgent,
+        final ArchiveSegmentAllocator segmentAllocator,
         final Archiver.Context ctx)
     {
         this.aeron = aeron;
@@ -73,6 +81,11 @@ public class ArchiverConductor implements Agent
         archiverNotifications = aeron.addPublication(
             ctx.archiverNotificationsChannel(), ctx.archiverNotificationsStreamId());
         this.archiveFolder = ctx.archiveFolder();
+        archiveIndex = new ArchiveIndex(archiveFolder);
+        this.syncPolicy = syncPolicy;
+        this.syncAgent = syncAgent;
+        this.segmentAllocator = segmentAllocator;
+        segmentPreallocationCount = ctx.segmentPreallocationCount();
     }
 
     public String roleName()
@@ -131,6 +144,7 @@ public class ArchiverConductor implements Agent
 
         archiverNotifications.close();
         serviceRequests.close();
+        archiveIndex.close();
     }
 
     private void handleNewImageNotification(final Image image)
@@ -343,15 +357,60 @@ public class ArchiverConductor implements Agent
         while (offer < 0);
     }
 
+    void notifyReplayCaughtUp(
+        final Publication control, final int instanceId, final int termId, final int termOffset)
+    {
+        final ReplayCaughtUpNotificationEncoder mEncoder = new ReplayCaughtUpNotificationEncoder();
+        responseHeaderEncoder.wrap(responseBuffer, 0)
+            .blockLength(ReplayCaughtUpNotificationEncoder.BLOCK_LENGTH)
+            .templateId(ReplayCaughtUpNotificationEncoder.TEMPLATE_ID)
+            .schemaId(ReplayCaughtUpNotificationEncoder.SCHEMA_ID)
+            .version(ReplayCaughtUpNotificationEncoder.SCHEMA_VERSION);
+        mEncoder.wrap(responseBuffer, MessageHeaderEncoder.ENCODED_LENGTH);
+        mEncoder.streamInstanceId(instanceId).termId(termId).termOffset(termOffset);
+
+        long offer;
+        do
+        {
+            offer = control.offer(
+                responseBuffer, 0, MessageHeaderEncoder.ENCODED_LENGTH + mEncoder.encodedLength());
+            if (offer == Publication.NOT_CONNECTED || offer == Publication.CLOSED)
+            {
+                throw new IllegalStateException();
+            }
+        }
+        while (offer < 0);
+    }
+
     File archiveFolder()
     {
         return archiveFolder;
     }
 
+    ArchiveSyncPolicy syncPolicy()
+    {
+        return syncPolicy;
+    }
+
+    ArchiveSyncAgent syncAgent()
+    {
+        return syncAgent;
+    }
+
+    ArchiveSegmentAllocator segmentAllocator()
+    {
+        return segmentAllocator;
+    }
+
+    int segmentPreallocationCount()
+    {
+        return segmentPreallocationCount;
+    }
+
     int notifyArchiveStarted(final String source, final int sessionId, final String channel, final int streamId)
     {
-        // TODO: persistent index for instances, as well as an index file.
-        final int instanceId = 0;
+        final int instanceId = archiveIndex.addNewStreamInstance(
+            new StreamInstance(source, sessionId, channel, streamId));
         final ArchiveStartedNotificationEncoder mEncoder = new ArchiveStartedNotificationEncoder();
         responseHeaderEncoder.wrap(responseBuffer, 0)
             .blockLength(ArchiveStartedNotificationEncoder.BLOCK_LENGTH)
@@ -424,6 +483,6 @@ public class ArchiverConductor implements Agent
 
     public int findStreamInstanceId(final StreamInstance streamInstance)
     {
-        return 0;
+        return archiveIndex.findStreamInstanceId(streamInstance);
     }
 }
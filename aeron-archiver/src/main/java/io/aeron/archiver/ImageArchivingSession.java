@@ -30,6 +30,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
 
 import static io.aeron.archiver.ArchiveFileUtil.archiveDataFileName;
 
@@ -49,6 +50,12 @@ import static io.aeron.archiver.ArchiveFileUtil.archiveDataFileName;
  * <li>file index = (term - initial term)/(1GB/term size)</li>
  * <li>file position = offset + term size * [ (term - initial term) % (1GB/term size) ] </li>
  * </ul>
+ *
+ * Data is written through the page cache and forced to storage as determined by the {@link ArchiveSyncPolicy}.
+ * Forces are performed by the {@link ArchiveSyncAgent} which also closes files once finished with at rollover or
+ * close, with failures counted and reported to the error handler.
+ * Segment files ahead of the write position are pre-allocated by the {@link ArchiveSegmentAllocator} and claimed
+ * at rollover, falling back to creating the file inline if the segment is not ready.
  */
 class ImageArchivingSession implements RawBlockHandler
 {
@@ -68,6 +75,7 @@ class ImageArchivingSession implements RawBlockHandler
             int doWork(final ImageArchivingSession session)
             {
                 final int delta = session.image.rawPoll(session, ArchiveFileUtil.ARCHIVE_FILE_SIZE);
+                session.syncIfRequired();
                 if (session.image.isClosed())
                 {
                     session.state(CLOSE);
@@ -80,7 +88,8 @@ class ImageArchivingSession implements RawBlockHandler
         {
             int doWork(final ImageArchivingSession session)
             {
-                CloseHelper.quietClose(session.archiveFileChannel);
+                session.releaseArchiveFile();
+                session.cancelSegmentRequests();
                 if (session.metaDataBuffer != null)
                 {
                     session.metaDataWriter.endTime(System.currentTimeMillis());
@@ -105,6 +114,11 @@ class ImageArchivingSession implements RawBlockHandler
     }
 
     private final ArchiverConductor archiverConductor;
+    private final ArchiveSyncPolicy syncPolicy;
+    private final ArchiveSyncAgent syncAgent;
+    private final ArchiveSegmentAllocator segmentAllocator;
+    private final int segmentPreallocationCount;
+    private final ArrayDeque<ArchiveSegmentAllocator.SegmentRequest> segmentRequests = new ArrayDeque<>();
     private final Image image;
     private final int termBufferLength;
     private final int termsPerFile;
@@ -118,6 +132,10 @@ class ImageArchivingSession implements RawBlockHandler
 
     private int initialTermId;
     private FileChannel archiveFileChannel;
+    private long unflushedLength;
+    private long timeOfLastSyncNs;
+    private int lastRequestedSegmentIndex = -1;
+    private ArchiveSyncAgent.SyncRequest syncRequest;
 
 
     State state = State.INIT;
@@ -131,6 +149,10 @@ class ImageArchivingSession implements RawBlockHandler
     ImageArchivingSession(final ArchiverConductor archiverConductor, final Image image)
     {
         this.archiverConductor = archiverConductor;
+        this.syncPolicy = archiverConductor.syncPolicy();
+        this.syncAgent = archiverConductor.syncAgent();
+        this.segmentAllocator = archiverConductor.segmentAllocator();
+        this.segmentPreallocationCount = archiverConductor.segmentPreallocationCount();
         this.image = image;
         this.initialTermId = image.initialTermId();
         this.termBufferLength = image.termBufferLength();
@@ -181,19 +203,25 @@ class ImageArchivingSession implements RawBlockHandler
 
     private void newArchiveFile(final int termId)
     {
-        final String archiveDataFileName =
-            archiveDataFileName(streamInstanceId, initialTermId, termBufferLength, termId);
+        final int segmentIndex = (termId - initialTermId) / termsPerFile;
+        final String archiveDataFileName = archiveDataFileName(streamInstanceId, segmentIndex);
         final File file = new File(archiverConductor.archiveFolder(), archiveDataFileName);
 
         final RandomAccessFile randomAccessFile;
         try
         {
-            randomAccessFile = new RandomAccessFile(file, "rwd");
+            final boolean isPreallocated = claimPreallocatedSegment(segmentIndex, file);
+            randomAccessFile = new RandomAccessFile(file, "rw");
             archiveFileChannel = randomAccessFile.getChannel();
-            // presize the file
-            archiveFileChannel.position(ArchiveFileUtil.ARCHIVE_FILE_SIZE - 1);
-            archiveFileChannel.write(ByteBuffer.wrap(new byte[]{ 0 }));
-            archiveFileChannel.position(0);
+            if (!isPreallocated)
+            {
+                // presize the file
+                archiveFileChannel.position(ArchiveFileUtil.ARCHIVE_FILE_SIZE - 1);
+                archiveFileChannel.write(ByteBuffer.wrap(new byte[]{ 0 }));
+                archiveFileChannel.position(0);
+            }
+            timeOfLastSyncNs = syncPolicy.nanoTime();
+            preallocateSegments(segmentIndex);
         }
         catch (IOException e)
         {
@@ -202,6 +230,56 @@ class ImageArchivingSession implements RawBlockHandler
         }
     }
 
+    private boolean claimPreallocatedSegment(final int segmentIndex, final File file)
+    {
+        boolean isClaimed = false;
+        ArchiveSegmentAllocator.SegmentRequest request;
+        while (null != (request = segmentRequests.peek()) && request.index() <= segmentIndex)
+        {
+            segmentRequests.poll();
+            if (request.index() == segmentIndex && segmentAllocator.readyFile(request).renameTo(file))
+            {
+                isClaimed = true;
+            }
+            else
+            {
+                segmentAllocator.cancel(request);
+            }
+        }
+
+        return isClaimed;
+    }
+
+    private void preallocateSegments(final int segmentIndex)
+    {
+        if (lastRequestedSegmentIndex < segmentIndex)
+        {
+            lastRequestedSegmentIndex = segmentIndex;
+        }
+
+        final int limit = segmentIndex + segmentPreallocationCount;
+        while (lastRequestedSegmentIndex < limit)
+        {
+            final ArchiveSegmentAllocator.SegmentRequest request =
+                segmentAllocator.requestSegment(streamInstanceId, lastRequestedSegmentIndex + 1);
+            if (null == request)
+            {
+                break;
+            }
+
+            segmentRequests.offer(request);
+            lastRequestedSegmentIndex++;
+        }
+    }
+
+    private void cancelSegmentRequests()
+    {
+        ArchiveSegmentAllocator.SegmentRequest request;
+        while (null != (request = segmentRequests.poll()))
+        {
+            segmentAllocator.cancel(request);
+        }
+    }
 
     public void onBlock(
         final FileChannel fileChannel,
@@ -257,6 +335,8 @@ class ImageArchivingSession implements RawBlockHandler
 
             fileChannel.transferTo(fileOffset, length, archiveFileChannel);
             index = archiveOffset + length;
+            unflushedLength += length;
+            syncPolicy.onWrite(length);
 
             metaDataWriter.lastTermId(termId);
             final int endTermOffset = termOffset + length;
@@ -269,9 +349,8 @@ class ImageArchivingSession implements RawBlockHandler
                 endTermOffset);
             if (index == ArchiveFileUtil.ARCHIVE_FILE_SIZE)
             {
-                archiveFileChannel.close();
+                releaseArchiveFile();
                 index = 0;
-                // TODO: allocate ahead files, will also give early indication to low storage
                 newArchiveFile(termId + 1);
             }
         }
@@ -282,6 +361,59 @@ class ImageArchivingSession implements RawBlockHandler
         }
     }
 
+    private void syncIfRequired()
+    {
+        if (null != syncRequest)
+        {
+            if (!syncRequest.isDone())
+            {
+                return;
+            }
+
+            final boolean hasFailed = syncRequest.hasFailed();
+            syncRequest = null;
+            if (hasFailed)
+            {
+                close();
+                return;
+            }
+        }
+
+        final long nowNs = syncPolicy.nanoTime();
+        if (null != archiveFileChannel && syncPolicy.isSyncRequired(unflushedLength, timeOfLastSyncNs, nowNs))
+        {
+            syncRequest = syncAgent.requestSync(archiveFileChannel, unflushedLength, false);
+            if (null != syncRequest)
+            {
+                unflushedLength = 0;
+                timeOfLastSyncNs = nowNs;
+            }
+        }
+    }
+
+    private void releaseArchiveFile()
+    {
+        final FileChannel fileChannel = archiveFileChannel;
+        if (null == fileChannel)
+        {
+            return;
+        }
+
+        archiveFileChannel = null;
+        if (null == syncAgent)
+        {
+            CloseHelper.quietClose(fileChannel);
+        }
+        else
+        {
+            while (null == syncAgent.requestSync(fileChannel, unflushedLength, true))
+            {
+                Thread.yield();
+            }
+        }
+        unflushedLength = 0;
+    }
+
     void close()
     {
         state(State.CLOSE);
@@ -18,15 +18,15 @@ package io.aeron.archiver;
 import io.aeron.Image;
 import io.aeron.Publication;
 import io.aeron.archiver.messages.ArchiveMetaFileFormatDecoder;
-import org.agrona.BufferUtil;
-import org.agrona.CloseHelper;
+import io.aeron.logbuffer.BufferClaim;
+import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
 import static io.aeron.archiver.ArchiveFileUtil.ARCHIVE_FILE_SIZE;
@@ -35,6 +35,14 @@ import static java.lang.Math.min;
 
 /**
  * replay session should transition from creation, to connected, to replaying/error, to closed/error
+ *
+ * Archive data files are mapped read only and replayed directly from the mapping into claimed space in the
+ * replay publication, so concurrent replays of a recording share the page cache.
+ *
+ * A replay requested with {@link #REPLAY_LENGTH_UNBOUNDED} follows the recording as it is archived. Replay is
+ * always from the archive files so there is no gap or duplicate when it catches up with the recording, at which
+ * point a caught up notification is sent on the control publication. The replay closes once the recording has
+ * stopped and been fully replayed.
  */
 class ReplaySession
 {
@@ -64,7 +72,23 @@ class ReplaySession
             int doWork(final ReplaySession session)
             {
                 final Publication control = session.control;
+                if (session.replayLength < REPLAY_LENGTH_UNBOUNDED)
+                {
+                    session.archiverConductor.sendResponse(
+                        control, "invalid replay length (" + session.replayLength + "), must be >= 0 or " +
+                        REPLAY_LENGTH_UNBOUNDED + " for an unbounded replay");
+                    session.state(CLOSE);
+                    return 1;
+                }
+
                 final int streamInstanceId = session.archiverConductor.findStreamInstanceId(session.streamInstance);
+                if (streamInstanceId == ArchiveIndex.NULL_STREAM_INSTANCE_ID)
+                {
+                    session.archiverConductor.sendResponse(control, "stream instance not found in archive index");
+                    session.state(CLOSE);
+                    return 1;
+                }
+
                 final String archiveMetaFileName = ArchiveFileUtil.archiveMetaFileName(streamInstanceId);
                 final File archiveMetaFile = new File(session.archiverConductor.archiveFolder(), archiveMetaFileName);
                 if (!archiveMetaFile.exists())
@@ -107,9 +131,6 @@ class ReplaySession
 
                 // TODO: what should we do if the length exceeds range? error or replay what's available?
 
-                // TODO: open ended replay
-
-
                 final int termBufferLength = archiveMetaFileFormatDecoder.termBufferLength();
                 final String archiveDataFileName = ArchiveFileUtil.archiveDataFileName(
                     streamInstanceId, initialTermId, termBufferLength, termId);
@@ -124,37 +145,19 @@ class ReplaySession
                     return 1;
                 }
 
-                final RandomAccessFile currentDataFile;
-                try
-                {
-                    currentDataFile = new RandomAccessFile(archiveDataFile, "r");
-                }
-                catch (IOException e)
+                session.metaDecoder = archiveMetaFileFormatDecoder;
+                session.initialTermId = initialTermId;
+                session.termBufferLength = termBufferLength;
+                session.streamInstanceId = streamInstanceId;
+                session.archiveFileIndex = (termId - initialTermId) / (ARCHIVE_FILE_SIZE / termBufferLength);
+                if (!session.mapArchiveFile(archiveDataFile))
                 {
-                    session.archiverConductor.sendResponse(
-                        control, archiveDataFile.getAbsolutePath() + " failed to open.");
-                    session.state(CLOSE);
-                    LangUtil.rethrowUnchecked(e);
                     return 0;
                 }
-                session.currentDataFile = currentDataFile;
-                session.currentDataChannel = currentDataFile.getChannel();
 
                 final int termOffset = session.instanceTermOffset;
-                final int archiveOffset = archiveOffset(termOffset, termId, initialTermId, termBufferLength);
-                try
-                {
-                    session.currentDataChannel.position(archiveOffset);
-                    session.channelIndex = archiveOffset;
-                }
-                catch (IOException e)
-                {
-                    session.archiverConductor.sendResponse(
-                        control, "Failed to set position in archive: " + archiveOffset);
-                    session.state(CLOSE);
-                    LangUtil.rethrowUnchecked(e);
-                    return 0;
-                }
+                session.archiveOffset = archiveOffset(termOffset, termId, initialTermId, termBufferLength);
+
                 // plumbing is secured, we can kick off the replay
                 session.archiverConductor.sendResponse(control, null);
                 session.state(REPLAY);
@@ -166,58 +169,61 @@ class ReplaySession
         {
             int doWork(final ReplaySession session)
             {
-                final long channelIndex = session.channelIndex;
-                final long remainingInFile = ARCHIVE_FILE_SIZE - channelIndex;
-                final long mtu = session.replay.maxPayloadLength();
-
-                final int claimSize = (int)min(mtu, min(remainingInFile, session.length));
-
-                final FileChannel currentDataChannel = session.currentDataChannel;
-                final ArchiverConductor conductor = session.archiverConductor;
-                try
+                final int archiveOffset = session.archiveOffset;
+                final int remainingInFile = session.archiveBuffer.capacity() - archiveOffset;
+                if (remainingInFile <= 0)
                 {
-                    // TODO: use buffer claim
-                    final UnsafeBuffer buffer = session.buffer;
-
-                    final ByteBuffer byteBuffer = buffer.byteBuffer().duplicate();
-                    byteBuffer.position(0).limit(claimSize);
-                    // Work with buffer directly or wrap with a flyweight
-                    final int read = currentDataChannel.read(byteBuffer, channelIndex);
+                    session.archiverConductor.sendResponse(
+                        session.control, "Archive ended before replay completed at position: " + archiveOffset);
+                    session.state(CLOSE);
+                    return 1;
+                }
 
-                    if (read != claimSize)
+                long available = session.length;
+                if (session.isOpenEnded())
+                {
+                    available = session.recordedPosition() - session.replayPosition();
+                    if (available <= 0)
                     {
-                        conductor.sendResponse(
-                            session.control, "Failed to read " + claimSize + " bytes at position: " + channelIndex);
-                        session.state(CLOSE);
-                        throw new IllegalStateException();
+                        return session.onCaughtUp();
                     }
-                    else
+                }
+
+                final int mtu = session.replay.maxPayloadLength();
+                final int claimSize = (int)min(mtu, min(remainingInFile, available));
+
+                final BufferClaim bufferClaim = session.bufferClaim;
+                final long result = session.replay.tryClaim(claimSize, bufferClaim);
+                if (result > 0)
+                {
+                    bufferClaim.buffer().putBytes(
+                        bufferClaim.offset(), session.archiveBuffer, archiveOffset, claimSize);
+                    bufferClaim.commit();
+
+                    session.archiveOffset += claimSize;
+                    if (!session.isOpenEnded())
                     {
-                        while (session.replay.offer(buffer, 0, claimSize) < 0)
-                        {
-                            //TODO: backoff
-                        }
+                        session.length -= claimSize;
                     }
-                    session.channelIndex += claimSize;
-                    session.length -= claimSize;
+
                     if (session.length == 0)
                     {
                         session.state(CLOSE);
                     }
-                    else if (session.channelIndex == ARCHIVE_FILE_SIZE)
+                    else if (session.archiveOffset == ARCHIVE_FILE_SIZE)
                     {
-                        throw new UnsupportedOperationException("need to implement file rollover");
+                        session.nextArchiveFile();
                     }
 
                     return claimSize;
                 }
-                catch (IOException e)
+                else if (result == Publication.CLOSED || result == Publication.NOT_CONNECTED)
                 {
-                    conductor.sendResponse(session.control, "Failed to read at position: " + channelIndex);
                     session.state(CLOSE);
-                    LangUtil.rethrowUnchecked(e);
                     return 1;
                 }
+
+                return 0;
             }
         },
 
@@ -227,8 +233,7 @@ class ReplaySession
             {
                 session.control.close();
                 session.replay.close();
-                CloseHelper.quietClose(session.currentDataFile);
-                CloseHelper.quietClose(session.currentDataChannel);
+                session.unmapArchiveFile();
                 session.state(DONE);
                 return 1;
             }
@@ -245,6 +250,11 @@ class ReplaySession
         abstract int doWork(ReplaySession session);
     }
 
+    /**
+     * Replay length which replays from the requested position and then follows the recording as it is archived.
+     */
+    static final long REPLAY_LENGTH_UNBOUNDED = -1;
+
     private final StreamInstance streamInstance;
 
     // replay boundaries
@@ -259,13 +269,19 @@ class ReplaySession
 
     private final ArchiverConductor archiverConductor;
 
-    private final UnsafeBuffer buffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(1024 * 16, 64));
+    private final BufferClaim bufferClaim = new BufferClaim();
+    private final UnsafeBuffer archiveBuffer = new UnsafeBuffer(new byte[0]);
 
     private State state = State.INIT;
 
-    private RandomAccessFile currentDataFile;
-    private FileChannel currentDataChannel;
-    private long channelIndex;
+    private MappedByteBuffer archiveMappedBuffer;
+    private ArchiveMetaFileFormatDecoder metaDecoder;
+    private int initialTermId;
+    private int termBufferLength;
+    private boolean isCaughtUp;
+    private int streamInstanceId;
+    private int archiveFileIndex;
+    private int archiveOffset;
     private long length;
 
     ReplaySession(
@@ -324,4 +340,102 @@ class ReplaySession
     {
         state(State.CLOSE);
     }
+
+    private boolean isOpenEnded()
+    {
+        return replayLength == REPLAY_LENGTH_UNBOUNDED;
+    }
+
+    private long replayPosition()
+    {
+        return (long)archiveFileIndex * ARCHIVE_FILE_SIZE + archiveOffset;
+    }
+
+    /**
+     * The position up to which the recording has been archived, in the same terms as {@link #replayPosition()}.
+     * The archiving session runs on the same conductor thread so the meta data is consistent with the data files.
+     */
+    private long recordedPosition()
+    {
+        final int lastTermOffset = metaDecoder.lastTermOffset();
+        if (lastTermOffset < 0)
+        {
+            return replayPosition();
+        }
+
+        return (long)(metaDecoder.lastTermId() - initialTermId) * termBufferLength + lastTermOffset;
+    }
+
+    private int onCaughtUp()
+    {
+        int workDone = 0;
+        if (!isCaughtUp)
+        {
+            isCaughtUp = true;
+
+            final int termsPerFile = ARCHIVE_FILE_SIZE / termBufferLength;
+            final int termId = initialTermId + archiveFileIndex * termsPerFile + archiveOffset / termBufferLength;
+            final int termOffset = archiveOffset % termBufferLength;
+            archiverConductor.notifyReplayCaughtUp(control, streamInstanceId, termId, termOffset);
+            workDone = 1;
+        }
+
+        if (metaDecoder.endTime() != -1)
+        {
+            // recording has stopped and all of it has been replayed
+            state(State.CLOSE);
+            workDone = 1;
+        }
+
+        return workDone;
+    }
+
+    private boolean mapArchiveFile(final File archiveDataFile)
+    {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(archiveDataFile, "r");
+             FileChannel fileChannel = randomAccessFile.getChannel())
+        {
+            // the mapping remains valid after the channel is closed and is shared with other replays via the page cache
+            final long mappedLength = min(fileChannel.size(), ARCHIVE_FILE_SIZE);
+            archiveMappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, mappedLength);
+            archiveBuffer.wrap(archiveMappedBuffer);
+
+            return true;
+        }
+        catch (final IOException ex)
+        {
+            archiverConductor.sendResponse(control, archiveDataFile.getAbsolutePath() + " failed to map.");
+            state(State.CLOSE);
+            LangUtil.rethrowUnchecked(ex);
+            return false;
+        }
+    }
+
+    private void nextArchiveFile()
+    {
+        unmapArchiveFile();
+        archiveFileIndex++;
+        archiveOffset = 0;
+
+        final String archiveDataFileName = ArchiveFileUtil.archiveDataFileName(streamInstanceId, archiveFileIndex);
+        final File archiveDataFile = new File(archiverConductor.archiveFolder(), archiveDataFileName);
+        if (!archiveDataFile.exists())
+        {
+            archiverConductor.sendResponse(control, archiveDataFile.getAbsolutePath() + " not found");
+            state(State.CLOSE);
+            return;
+        }
+
+        mapArchiveFile(archiveDataFile);
+    }
+
+    private void unmapArchiveFile()
+    {
+        if (null != archiveMappedBuffer)
+        {
+            IoUtil.unmap(archiveMappedBuffer);
+            archiveMappedBuffer = null;
+            archiveBuffer.wrap(new byte[0]);
+        }
+    }
 }
@@ -50,4 +50,32 @@ class StreamInstance
     {
         return streamId;
     }
+
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final StreamInstance that = (StreamInstance)o;
+
+        return sessionId == that.sessionId && streamId == that.streamId &&
+            source.equals(that.source) && channel.equals(that.channel);
+    }
+
+    public int hashCode()
+    {
+        int result = source.hashCode();
+        result = 31 * result + sessionId;
+        result = 31 * result + channel.hashCode();
+        result = 31 * result + streamId;
+
+        return result;
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.agrona.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.aeron.archiver.ArchiveIndex.NULL_STREAM_INSTANCE_ID;
+import static org.junit.Assert.assertEquals;
+
+public class ArchiveIndexTest
+{
+    private static final String SOURCE = "127.0.0.1:40123";
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40123";
+    private static final int STREAM_ID = 7;
+
+    private File archiveFolder;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        archiveFolder = ImageArchivingSessionTest.makeTempFolder();
+    }
+
+    @After
+    public void tearDown()
+    {
+        IoUtil.delete(archiveFolder, true);
+    }
+
+    @Test
+    public void shouldAssignMonotonicStreamInstanceIds()
+    {
+        try (ArchiveIndex archiveIndex = new ArchiveIndex(archiveFolder))
+        {
+            assertEquals(0, archiveIndex.addNewStreamInstance(new StreamInstance(SOURCE, 1, CHANNEL, STREAM_ID)));
+            assertEquals(1, archiveIndex.addNewStreamInstance(new StreamInstance(SOURCE, 2, CHANNEL, STREAM_ID)));
+            assertEquals(2, archiveIndex.addNewStreamInstance(new StreamInstance(SOURCE, 1, CHANNEL, STREAM_ID + 1)));
+
+            assertEquals(1, archiveIndex.findStreamInstanceId(new StreamInstance(SOURCE, 2, CHANNEL, STREAM_ID)));
+            assertEquals(2, archiveIndex.findStreamInstanceId(new StreamInstance(SOURCE, 1, CHANNEL, STREAM_ID + 1)));
+            assertEquals(
+                NULL_STREAM_INSTANCE_ID,
+                archiveIndex.findStreamInstanceId(new StreamInstance(SOURCE, 3, CHANNEL, STREAM_ID)));
+        }
+    }
+
+    @Test
+    public void shouldReloadEntriesOnRestart()
+    {
+        final int count = 5000;
+        try (ArchiveIndex archiveIndex = new ArchiveIndex(archiveFolder))
+        {
+            for (int i = 0; i < count; i++)
+            {
+                archiveIndex.addNewStreamInstance(new StreamInstance(SOURCE, i, CHANNEL, STREAM_ID));
+            }
+        }
+
+        try (ArchiveIndex archiveIndex = new ArchiveIndex(archiveFolder))
+        {
+            assertEquals(count, archiveIndex.streamInstanceCount());
+            for (int i = 0; i < count; i++)
+            {
+                assertEquals(i, archiveIndex.findStreamInstanceId(new StreamInstance(SOURCE, i, CHANNEL, STREAM_ID)));
+            }
+
+            assertEquals(count, archiveIndex.addNewStreamInstance(new StreamInstance(SOURCE, -1, CHANNEL, STREAM_ID)));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.agrona.IoUtil;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.aeron.archiver.ArchiveFileUtil.ARCHIVE_FILE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ArchiveSegmentAllocatorTest
+{
+    private static final int STREAM_INSTANCE_ID = 3;
+
+    private final AtomicCounter segmentsAllocated = mock(AtomicCounter.class);
+    private final AtomicCounter lowStorage = mock(AtomicCounter.class);
+    private final AtomicCounter usableStorage = mock(AtomicCounter.class);
+    private long currentTimeNs = 0;
+    private File archiveFolder;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        archiveFolder = ImageArchivingSessionTest.makeTempFolder();
+    }
+
+    @After
+    public void tearDown()
+    {
+        IoUtil.delete(archiveFolder, true);
+    }
+
+    @Test
+    public void shouldAllocateReadySegment() throws Exception
+    {
+        final ArchiveSegmentAllocator segmentAllocator = newSegmentAllocator(0);
+
+        final ArchiveSegmentAllocator.SegmentRequest request =
+            segmentAllocator.requestSegment(STREAM_INSTANCE_ID, 1);
+        segmentAllocator.doWork();
+
+        final File readyFile = segmentAllocator.readyFile(request);
+        assertTrue(readyFile.exists());
+        assertEquals(ARCHIVE_FILE_SIZE, readyFile.length());
+        assertFalse(new File(
+            archiveFolder, ArchiveFileUtil.segmentAllocFileName(STREAM_INSTANCE_ID, 1)).exists());
+        verify(segmentsAllocated).orderedIncrement();
+        verify(lowStorage, atLeastOnce()).setOrdered(0);
+    }
+
+    @Test
+    public void shouldNotAllocateCancelledSegment() throws Exception
+    {
+        final ArchiveSegmentAllocator segmentAllocator = newSegmentAllocator(0);
+
+        final ArchiveSegmentAllocator.SegmentRequest request =
+            segmentAllocator.requestSegment(STREAM_INSTANCE_ID, 1);
+        segmentAllocator.cancel(request);
+        segmentAllocator.doWork();
+
+        assertFalse(segmentAllocator.readyFile(request).exists());
+        verify(segmentsAllocated, never()).orderedIncrement();
+    }
+
+    @Test
+    public void shouldRemoveReadySegmentOnCancel() throws Exception
+    {
+        final ArchiveSegmentAllocator segmentAllocator = newSegmentAllocator(0);
+
+        final ArchiveSegmentAllocator.SegmentRequest request =
+            segmentAllocator.requestSegment(STREAM_INSTANCE_ID, 1);
+        segmentAllocator.doWork();
+        segmentAllocator.cancel(request);
+
+        assertFalse(segmentAllocator.readyFile(request).exists());
+    }
+
+    @Test
+    public void shouldDeleteStaleSegmentsLeftByPreviousRun() throws Exception
+    {
+        final File allocFile = new File(
+            archiveFolder, ArchiveFileUtil.segmentAllocFileName(STREAM_INSTANCE_ID, 1));
+        final File readyFile = new File(
+            archiveFolder, ArchiveFileUtil.segmentReadyFileName(STREAM_INSTANCE_ID, 2));
+        final File dataFile = new File(
+            archiveFolder, ArchiveFileUtil.archiveDataFileName(STREAM_INSTANCE_ID, 0));
+        assertTrue(allocFile.createNewFile());
+        assertTrue(readyFile.createNewFile());
+        assertTrue(dataFile.createNewFile());
+
+        newSegmentAllocator(0).deleteStaleSegments();
+
+        assertFalse(allocFile.exists());
+        assertFalse(readyFile.exists());
+        assertTrue(dataFile.exists());
+    }
+
+    @Test
+    public void shouldReportLowStorageBelowThreshold() throws Exception
+    {
+        final ArchiveSegmentAllocator segmentAllocator = newSegmentAllocator(Long.MAX_VALUE);
+
+        segmentAllocator.doWork();
+
+        verify(lowStorage).setOrdered(1);
+        verify(usableStorage).setOrdered(anyLong());
+    }
+
+    private ArchiveSegmentAllocator newSegmentAllocator(final long lowStorageThreshold)
+    {
+        return new ArchiveSegmentAllocator(
+            archiveFolder,
+            false,
+            lowStorageThreshold,
+            () -> currentTimeNs,
+            segmentsAllocated,
+            lowStorage,
+            usableStorage);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.HdrHistogram.Histogram;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ArchiveSyncAgentTest
+{
+    private final AtomicCounter syncFailures = mock(AtomicCounter.class);
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final FileChannel fileChannel = mock(FileChannel.class);
+    private final ArchiveSyncAgent syncAgent = new ArchiveSyncAgent(new ArchiveSyncPolicy(
+        ArchiveSyncMode.BYTES,
+        0,
+        1,
+        System::nanoTime,
+        mock(AtomicCounter.class),
+        mock(AtomicCounter.class),
+        mock(AtomicCounter.class),
+        syncFailures,
+        new Histogram(TimeUnit.SECONDS.toNanos(10), 3),
+        errorHandler));
+
+    @Test
+    public void shouldForceOnAgentThreadRatherThanWhenRequested() throws Exception
+    {
+        final ArchiveSyncAgent.SyncRequest request = syncAgent.requestSync(fileChannel, 100, false);
+
+        assertFalse(request.isDone());
+        verify(fileChannel, never()).force(anyBoolean());
+
+        assertEquals(1, syncAgent.doWork());
+
+        assertTrue(request.isDone());
+        assertFalse(request.hasFailed());
+        verify(fileChannel).force(false);
+    }
+
+    @Test
+    public void shouldCloseFileOnceForcedWhenAgentClosed() throws Exception
+    {
+        final File file = File.createTempFile("archiver.test", "sync");
+        file.deleteOnExit();
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw"))
+        {
+            final FileChannel fileChannel = randomAccessFile.getChannel();
+            final ArchiveSyncAgent.SyncRequest request = syncAgent.requestSync(fileChannel, 100, true);
+
+            syncAgent.onClose();
+
+            assertTrue(request.isDone());
+            assertFalse(request.hasFailed());
+            assertFalse(fileChannel.isOpen());
+        }
+    }
+
+    @Test
+    public void shouldFlagAndReportFailedForce() throws Exception
+    {
+        final IOException ex = new IOException("force failed");
+        doThrow(ex).when(fileChannel).force(false);
+
+        final ArchiveSyncAgent.SyncRequest request = syncAgent.requestSync(fileChannel, 100, false);
+        syncAgent.doWork();
+
+        assertTrue(request.isDone());
+        assertTrue(request.hasFailed());
+        verify(syncFailures).orderedIncrement();
+        verify(errorHandler).onError(ex);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import org.HdrHistogram.Histogram;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ArchiveSyncPolicyTest
+{
+    private static final long SYNC_PERIOD_NS = 1000;
+    private static final int SYNC_LENGTH = 4096;
+
+    private final AtomicCounter bytesWritten = mock(AtomicCounter.class);
+    private final AtomicCounter unflushedBytes = mock(AtomicCounter.class);
+    private final AtomicCounter flushes = mock(AtomicCounter.class);
+    private final AtomicCounter syncFailures = mock(AtomicCounter.class);
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final Histogram flushLatencyHistogram = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+    private final FileChannel fileChannel = mock(FileChannel.class);
+    private long currentTimeNs = 0;
+
+    @Test
+    public void shouldNeverSyncInNoneMode() throws Exception
+    {
+        final ArchiveSyncPolicy syncPolicy = newSyncPolicy(ArchiveSyncMode.NONE);
+
+        syncPolicy.onWrite(100);
+        assertFalse(syncPolicy.isSyncRequired(SYNC_LENGTH * 2, 0, SYNC_PERIOD_NS * 2));
+
+        syncPolicy.sync(fileChannel, 100);
+
+        verify(bytesWritten).addOrdered(100);
+        verifyZeroInteractions(unflushedBytes, flushes, fileChannel);
+    }
+
+    @Test
+    public void shouldSyncWhenPeriodElapsedInPeriodicMode()
+    {
+        final ArchiveSyncPolicy syncPolicy = newSyncPolicy(ArchiveSyncMode.PERIODIC);
+
+        assertFalse(syncPolicy.isSyncRequired(0, 0, SYNC_PERIOD_NS));
+        assertFalse(syncPolicy.isSyncRequired(100, 0, SYNC_PERIOD_NS - 1));
+        assertTrue(syncPolicy.isSyncRequired(100, 0, SYNC_PERIOD_NS));
+    }
+
+    @Test
+    public void shouldSyncWhenUnflushedLengthReachedInBytesMode()
+    {
+        final ArchiveSyncPolicy syncPolicy = newSyncPolicy(ArchiveSyncMode.BYTES);
+
+        assertFalse(syncPolicy.isSyncRequired(SYNC_LENGTH - 1, 0, SYNC_PERIOD_NS * 2));
+        assertTrue(syncPolicy.isSyncRequired(SYNC_LENGTH, 0, 0));
+    }
+
+    @Test
+    public void shouldForceAndRecordLatencyOnSync() throws Exception
+    {
+        final ArchiveSyncPolicy syncPolicy = newSyncPolicy(ArchiveSyncMode.BYTES);
+        doAnswer((invocation) ->
+        {
+            currentTimeNs += 500;
+            return null;
+        }).when(fileChannel).force(false);
+
+        syncPolicy.onWrite(SYNC_LENGTH);
+        syncPolicy.sync(fileChannel, SYNC_LENGTH);
+
+        verify(fileChannel).force(false);
+        verify(unflushedBytes).add(SYNC_LENGTH);
+        verify(unflushedBytes).add(-SYNC_LENGTH);
+        verify(flushes).orderedIncrement();
+        assertEquals(1, flushLatencyHistogram.getTotalCount());
+        assertEquals(500, flushLatencyHistogram.getMaxValue());
+    }
+
+    @Test
+    public void shouldCountAndReportFailedSync() throws Exception
+    {
+        final ArchiveSyncPolicy syncPolicy = newSyncPolicy(ArchiveSyncMode.BYTES);
+        final IOException ex = new IOException("force failed");
+        doThrow(ex).when(fileChannel).force(false);
+
+        assertFalse(syncPolicy.trySync(fileChannel, SYNC_LENGTH));
+
+        verify(syncFailures).orderedIncrement();
+        verify(errorHandler).onError(ex);
+        verifyZeroInteractions(flushes);
+    }
+
+    private ArchiveSyncPolicy newSyncPolicy(final ArchiveSyncMode syncMode)
+    {
+        return new ArchiveSyncPolicy(
+            syncMode,
+            SYNC_PERIOD_NS,
+            SYNC_LENGTH,
+            () -> currentTimeNs,
+            bytesWritten,
+            unflushedBytes,
+            flushes,
+            syncFailures,
+            flushLatencyHistogram,
+            errorHandler);
+    }
+}
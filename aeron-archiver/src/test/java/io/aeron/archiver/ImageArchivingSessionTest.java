@@ -18,6 +18,8 @@ package io.aeron.archiver;
 
 import io.aeron.Image;
 import io.aeron.Subscription;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Assert;
 import org.junit.Test;
@@ -27,6 +29,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.archiver.ArchiveFileUtil.archiveDataFileName;
 import static io.aeron.archiver.ArchiveFileUtil.archiveMetaFileName;
@@ -40,7 +43,7 @@ import static org.mockito.Mockito.when;
 public class ImageArchivingSessionTest
 {
     @Test
-    public void shouldRecordDataFromImage() throws IOException
+    public void shouldRecordDataFromImage() throws Exception
     {
         final String channel = "channel";
         final String sourceIdentity = "sourceIdentity";
@@ -52,6 +55,20 @@ public class ImageArchivingSessionTest
         final ArchiverConductor archive = mock(ArchiverConductor.class);
         final File tempFolderForTest = makeTempFolder();
         when(archive.archiveFolder()).thenReturn(tempFolderForTest);
+        final ArchiveSyncPolicy syncPolicy = new ArchiveSyncPolicy(
+            ArchiveSyncMode.BYTES,
+            0,
+            1,
+            System::nanoTime,
+            mock(AtomicCounter.class),
+            mock(AtomicCounter.class),
+            mock(AtomicCounter.class),
+            mock(AtomicCounter.class),
+            new Histogram(TimeUnit.SECONDS.toNanos(10), 3),
+            Throwable::printStackTrace);
+        final ArchiveSyncAgent syncAgent = new ArchiveSyncAgent(syncPolicy);
+        when(archive.syncPolicy()).thenReturn(syncPolicy);
+        when(archive.syncAgent()).thenReturn(syncAgent);
 
         final Subscription subscription = mock(Subscription.class);
         when(subscription.channel()).thenReturn(channel);
@@ -91,6 +108,7 @@ public class ImageArchivingSessionTest
                 });
             final int work = session.doWork();
             Assert.assertNotEquals("Expect some work", 0, work);
+            assertEquals("Expect the force to be handed to the sync agent", 1, syncAgent.doWork());
 
             // meta and data exist
             final File archiveMetaFile = new File(tempFolderForTest, archiveMetaFileName(session.streamInstanceId()));
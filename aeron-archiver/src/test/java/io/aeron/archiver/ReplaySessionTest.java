@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.aeron.archiver;
+
+import io.aeron.Image;
+import io.aeron.Publication;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ReplaySessionTest
+{
+    private final Publication replay = mock(Publication.class);
+    private final Publication control = mock(Publication.class);
+    private final ArchiverConductor archiverConductor = mock(ArchiverConductor.class);
+
+    @Test
+    public void shouldRejectReplayLengthBelowUnbounded()
+    {
+        when(replay.isConnected()).thenReturn(true);
+        when(control.isConnected()).thenReturn(true);
+
+        final ReplaySession replaySession = new ReplaySession(
+            new StreamInstance("source", 1, "channel", 2),
+            0,
+            0,
+            ReplaySession.REPLAY_LENGTH_UNBOUNDED - 1,
+            replay,
+            control,
+            mock(Image.class),
+            archiverConductor);
+
+        replaySession.doWork();
+
+        verify(archiverConductor).sendResponse(eq(control), startsWith("invalid replay length (-2)"));
+        verify(archiverConductor, never()).findStreamInstanceId(any());
+        assertThat(replaySession.state(), is(ReplaySession.State.DONE));
+    }
+}
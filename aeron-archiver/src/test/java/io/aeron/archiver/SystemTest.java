@@ -62,7 +62,9 @@ public class SystemTest
 
         driver = MediaDriver.launch(driverCtx);
         archiveFolder = ImageArchivingSessionTest.makeTempFolder();
-        archiverCtx.archiveFolder(archiveFolder);
+        archiverCtx
+            .archiveFolder(archiveFolder)
+            .segmentZeroFill(false);
         archiver = Archiver.launch(archiverCtx);
         println("Archiver started, folder: " + archiverCtx.archiveFolder().getAbsolutePath());
         publishingClient = Aeron.connect();
@@ -170,26 +172,7 @@ public class SystemTest
         awaitPublicationIsConnected(publication, 1000);
 
 
-        // the archiver has subscribed to the pingPub, now we wait for the archive start message
-        poll(archiverNotifications,
-            (buffer, offset, length, header) ->
-            {
-                final MessageHeaderDecoder hDecoder = new MessageHeaderDecoder().wrap(buffer, offset);
-                Assert.assertEquals(ArchiveStartedNotificationDecoder.TEMPLATE_ID, hDecoder.templateId());
-
-                final ArchiveStartedNotificationDecoder mDecoder = new ArchiveStartedNotificationDecoder()
-                    .wrap(
-                        buffer,
-                        offset + MessageHeaderDecoder.ENCODED_LENGTH,
-                        hDecoder.blockLength(),
-                        hDecoder.version());
-                Assert.assertEquals(mDecoder.streamId(), PUBLISH_STREAM_ID);
-                Assert.assertEquals(mDecoder.channel(), PUBLISH_URI);
-                Assert.assertEquals(mDecoder.sessionId(), publication.sessionId());
-                streamInstanceId = mDecoder.streamInstanceId();
-                source = mDecoder.source();
-                println("Archive started. source: " + source);
-            }, 1, 1000);
+        awaitArchiveStartedNotification(archiverNotifications, publication);
 
         final int messageCount = 128;
         final CountDownLatch waitForData = new CountDownLatch(1);
@@ -222,6 +205,125 @@ public class SystemTest
         validateReplay(archiverServiceRequest, publication);
     }
 
+    @Test(timeout = 10000)
+    public void archiveAndReplayOpenEndedFollowingRecording() throws IOException, InterruptedException
+    {
+        final Publication archiverServiceRequest = publishingClient.addPublication(
+            archiverCtx.serviceRequestChannel(), archiverCtx.serviceRequestStreamId());
+
+        final Subscription archiverNotifications = publishingClient.addSubscription(
+            archiverCtx.archiverNotificationsChannel(), archiverCtx.archiverNotificationsStreamId());
+
+        awaitPublicationIsConnected(archiverServiceRequest, 1000);
+        awaitSubscriptionIsConnected(archiverNotifications, 1000);
+
+        requestArchive(archiverServiceRequest, PUBLISH_URI, PUBLISH_STREAM_ID);
+
+        final Publication publication = publishingClient.addPublication(PUBLISH_URI, PUBLISH_STREAM_ID);
+        awaitPublicationIsConnected(publication, 1000);
+        awaitArchiveStartedNotification(archiverNotifications, publication);
+
+        final int messageCount = 64;
+        final CountDownLatch waitForData = new CountDownLatch(1);
+        trackArchiveProgress(publication, archiverNotifications, messageCount, waitForData);
+        publishDataToBeArchived(publication, messageCount);
+        waitForData.await();
+
+        requestReplay(
+            archiverServiceRequest,
+            source,
+            publication.sessionId(),
+            PUBLISH_URI,
+            PUBLISH_STREAM_ID,
+            publication.initialTermId(),
+            0,
+            (int)ReplaySession.REPLAY_LENGTH_UNBOUNDED,
+            REPLAY_URI,
+            1,
+            2);
+
+        final Subscription replay = publishingClient.addSubscription(REPLAY_URI, 1);
+        final Subscription control = publishingClient.addSubscription(REPLAY_URI, 2);
+        poll(control,
+            (buffer, offset, length, header) ->
+            {
+                final MessageHeaderDecoder hDecoder = new MessageHeaderDecoder().wrap(buffer, offset);
+                Assert.assertEquals(ArchiverResponseDecoder.TEMPLATE_ID, hDecoder.templateId());
+            }, 1, 1000);
+
+        final UnsafeBuffer replayed = new UnsafeBuffer(new byte[2 * messageCount * 1024]);
+        delivered = 0;
+        awaitReplayed(replay, replayed, messageCount * 1024);
+
+        poll(control,
+            (buffer, offset, length, header) ->
+            {
+                final MessageHeaderDecoder hDecoder = new MessageHeaderDecoder().wrap(buffer, offset);
+                Assert.assertEquals(ReplayCaughtUpNotificationDecoder.TEMPLATE_ID, hDecoder.templateId());
+
+                final ReplayCaughtUpNotificationDecoder mDecoder = new ReplayCaughtUpNotificationDecoder()
+                    .wrap(
+                        buffer,
+                        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                        hDecoder.blockLength(),
+                        hDecoder.version());
+                Assert.assertEquals(streamInstanceId, mDecoder.streamInstanceId());
+                Assert.assertEquals(publication.initialTermId(), mDecoder.termId());
+                Assert.assertEquals(messageCount * 1024, mDecoder.termOffset());
+            }, 1, 1000);
+
+        // replay follows the recording as more data is archived
+        for (int i = messageCount; i < 2 * messageCount; i++)
+        {
+            buffer.putInt(0, i);
+            offer(publication, buffer, 0, 1024 - DataHeaderFlyweight.HEADER_LENGTH, 1000);
+        }
+        awaitReplayed(replay, replayed, 2 * messageCount * 1024);
+
+        for (int i = 0; i < 2 * messageCount; i++)
+        {
+            Assert.assertEquals(i, replayed.getInt(i * 1024 + DataHeaderFlyweight.HEADER_LENGTH));
+        }
+    }
+
+    private void awaitReplayed(final Subscription replay, final UnsafeBuffer replayed, final int length)
+    {
+        while (delivered < length)
+        {
+            poll(replay,
+                (buffer, offset, fragmentLength, header) ->
+                {
+                    replayed.putBytes(delivered, buffer, offset, fragmentLength);
+                    delivered += fragmentLength;
+                }, 1, 1000);
+        }
+    }
+
+    private void awaitArchiveStartedNotification(
+        final Subscription archiverNotifications, final Publication publication)
+    {
+        // the archiver has subscribed to the pingPub, now we wait for the archive start message
+        poll(archiverNotifications,
+            (buffer, offset, length, header) ->
+            {
+                final MessageHeaderDecoder hDecoder = new MessageHeaderDecoder().wrap(buffer, offset);
+                Assert.assertEquals(ArchiveStartedNotificationDecoder.TEMPLATE_ID, hDecoder.templateId());
+
+                final ArchiveStartedNotificationDecoder mDecoder = new ArchiveStartedNotificationDecoder()
+                    .wrap(
+                        buffer,
+                        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                        hDecoder.blockLength(),
+                        hDecoder.version());
+                Assert.assertEquals(mDecoder.streamId(), PUBLISH_STREAM_ID);
+                Assert.assertEquals(mDecoder.channel(), PUBLISH_URI);
+                Assert.assertEquals(mDecoder.sessionId(), publication.sessionId());
+                streamInstanceId = mDecoder.streamInstanceId();
+                source = mDecoder.source();
+                println("Archive started. source: " + source);
+            }, 1, 1000);
+    }
+
     private void awaitArchiveStoppedNotification(final Subscription archiverNotifications)
     {
         poll(archiverNotifications,
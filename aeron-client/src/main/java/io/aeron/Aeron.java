@@ -184,6 +184,32 @@ public final class Aeron implements AutoCloseable
         }
     }
 
+    /**
+     * Add an {@link ExclusivePublication} for publishing messages to subscribers from a single thread. Each
+     * ExclusivePublication has its own session and is not shared with other callers for the same channel and stream.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the new ExclusivePublication.
+     */
+    public ExclusivePublication addExclusivePublication(final String channel, final int streamId)
+    {
+        conductor.mainLock().lock();
+        try
+        {
+            if (isClosed)
+            {
+                throw new IllegalStateException("Aeron client is closed");
+            }
+
+            return conductor.addExclusivePublication(channel, streamId);
+        }
+        finally
+        {
+            conductor.mainLock().unlock();
+        }
+    }
+
     /**
      * Add a new {@link Subscription} for subscribing to messages from publishers.
      *
@@ -209,6 +235,116 @@ public final class Aeron implements AutoCloseable
         }
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers. The command is sent to the
+     * media driver without waiting for a response so many registrations can be pipelined. Poll for the result with
+     * {@link #getPublication(long)}.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id to be used with {@link #getPublication(long)}.
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        conductor.mainLock().lock();
+        try
+        {
+            if (isClosed)
+            {
+                throw new IllegalStateException("Aeron client is closed");
+            }
+
+            return conductor.asyncAddPublication(channel, streamId);
+        }
+        finally
+        {
+            conductor.mainLock().unlock();
+        }
+    }
+
+    /**
+     * Get the {@link Publication} for a registration made with {@link #asyncAddPublication(String, int)}. Once the
+     * Publication has been returned, or the registration has failed, the registration id is no longer valid.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)}.
+     * @return the new Publication or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     * @throws io.aeron.exceptions.DriverTimeoutException if the media driver did not respond in time.
+     * @throws IllegalArgumentException if the registration id is not known.
+     */
+    public Publication getPublication(final long registrationId)
+    {
+        conductor.mainLock().lock();
+        try
+        {
+            if (isClosed)
+            {
+                throw new IllegalStateException("Aeron client is closed");
+            }
+
+            return conductor.getPublication(registrationId);
+        }
+        finally
+        {
+            conductor.mainLock().unlock();
+        }
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers. The command is sent
+     * to the media driver without waiting for a response so many registrations can be pipelined. Poll for the result
+     * with {@link #getSubscription(long)}.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id to be used with {@link #getSubscription(long)}.
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        conductor.mainLock().lock();
+        try
+        {
+            if (isClosed)
+            {
+                throw new IllegalStateException("Aeron client is closed");
+            }
+
+            return conductor.asyncAddSubscription(channel, streamId);
+        }
+        finally
+        {
+            conductor.mainLock().unlock();
+        }
+    }
+
+    /**
+     * Get the {@link Subscription} for a registration made with {@link #asyncAddSubscription(String, int)}. Once the
+     * Subscription has been returned, or the registration has failed, the registration id is no longer valid.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     * @return the new Subscription or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     * @throws io.aeron.exceptions.DriverTimeoutException if the media driver did not respond in time.
+     * @throws IllegalArgumentException if the registration id is not known.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        conductor.mainLock().lock();
+        try
+        {
+            if (isClosed)
+            {
+                throw new IllegalStateException("Aeron client is closed");
+            }
+
+            return conductor.getSubscription(registrationId);
+        }
+        finally
+        {
+            conductor.mainLock().unlock();
+        }
+    }
+
     /**
      * Create and return a {@link CountersReader} for the Aeron media driver counters.
      *
@@ -21,6 +21,7 @@ import io.aeron.exceptions.RegistrationException;
 import org.agrona.ErrorHandler;
 import org.agrona.ManagedResource;
 import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.NanoClock;
@@ -30,6 +31,7 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.LockSupport;
@@ -43,6 +45,35 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  */
 class ClientConductor implements Agent, DriverListener
 {
+    /**
+     * Registration of a {@link Publication} or {@link Subscription} with the driver which completes asynchronously.
+     */
+    static final class AsyncRegistration
+    {
+        final long registrationId;
+        final String channel;
+        final boolean isPublication;
+        final long deadlineNs;
+        Subscription subscription;
+        Publication publication;
+        boolean isSubscriptionRegistered;
+        RuntimeException exception;
+
+        AsyncRegistration(
+            final long registrationId, final String channel, final boolean isPublication, final long deadlineNs)
+        {
+            this.registrationId = registrationId;
+            this.channel = channel;
+            this.isPublication = isPublication;
+            this.deadlineNs = deadlineNs;
+        }
+
+        boolean isComplete()
+        {
+            return null != exception || (isPublication ? null != publication : isSubscriptionRegistered);
+        }
+    }
+
     private static final long NO_CORRELATION_ID = -1;
     private static final long RESOURCE_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
     private static final long RESOURCE_LINGER_NS = TimeUnit.SECONDS.toNanos(5);
@@ -66,6 +97,8 @@ class ClientConductor implements Agent, DriverListener
     private final ActivePublications activePublications = new ActivePublications();
     private final ActiveSubscriptions activeSubscriptions = new ActiveSubscriptions();
     private final ArrayList<ManagedResource> lingeringResources = new ArrayList<>();
+    private final Long2ObjectHashMap<AsyncRegistration> asyncRegistrations = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<ExclusivePublication> activeExclusivePublications = new Long2ObjectHashMap<>();
     private final UnsafeBuffer counterValuesBuffer;
     private final DriverProxy driverProxy;
     private final ErrorHandler errorHandler;
@@ -117,6 +150,7 @@ class ClientConductor implements Agent, DriverListener
         try
         {
             activePublications.close();
+            new ArrayList<>(activeExclusivePublications.values()).forEach(ExclusivePublication::release);
             activeSubscriptions.close();
 
             Thread.yield();
@@ -134,6 +168,11 @@ class ClientConductor implements Agent, DriverListener
         return lock;
     }
 
+    UnsafeBuffer counterValuesBuffer()
+    {
+        return counterValuesBuffer;
+    }
+
     public int doWork()
     {
         if (!lock.tryLock())
@@ -172,6 +211,46 @@ class ClientConductor implements Agent, DriverListener
         return publication;
     }
 
+    ExclusivePublication addExclusivePublication(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
+        awaitResponse(registrationId, channel);
+
+        return activeExclusivePublications.get(registrationId);
+    }
+
+    void releaseExclusivePublication(final ExclusivePublication publication)
+    {
+        verifyDriverIsActive();
+
+        if (publication == activeExclusivePublications.remove(publication.registrationId()))
+        {
+            lingerResource(publication.managedResource());
+            awaitResponse(driverProxy.removePublication(publication.registrationId()), publication.channel());
+        }
+    }
+
+    long asyncAddPublication(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long registrationId = driverProxy.addPublication(channel, streamId);
+        asyncRegistrations.put(
+            registrationId,
+            new AsyncRegistration(registrationId, channel, true, nanoClock.nanoTime() + driverTimeoutNs));
+
+        return registrationId;
+    }
+
+    Publication getPublication(final long registrationId)
+    {
+        final AsyncRegistration registration = completedRegistration(registrationId, true);
+
+        return null != registration ? registration.publication : null;
+    }
+
     void releasePublication(final Publication publication)
     {
         verifyDriverIsActive();
@@ -196,6 +275,27 @@ class ClientConductor implements Agent, DriverListener
         return subscription;
     }
 
+    long asyncAddSubscription(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long registrationId = driverProxy.addSubscription(channel, streamId);
+        final AsyncRegistration registration = new AsyncRegistration(
+            registrationId, channel, false, nanoClock.nanoTime() + driverTimeoutNs);
+        registration.subscription = new Subscription(this, channel, streamId, registrationId);
+        activeSubscriptions.add(registration.subscription);
+        asyncRegistrations.put(registrationId, registration);
+
+        return registrationId;
+    }
+
+    Subscription getSubscription(final long registrationId)
+    {
+        final AsyncRegistration registration = completedRegistration(registrationId, false);
+
+        return null != registration ? registration.subscription : null;
+    }
+
     void releaseSubscription(final Subscription subscription)
     {
         verifyDriverIsActive();
@@ -213,6 +313,12 @@ class ClientConductor implements Agent, DriverListener
         final String logFileName,
         final long correlationId)
     {
+        if (null != activePublications.get(channel, streamId))
+        {
+            driverProxy.removePublication(correlationId);
+            return;
+        }
+
         final Publication publication = new Publication(
             this,
             channel,
@@ -225,6 +331,63 @@ class ClientConductor implements Agent, DriverListener
         activePublications.put(channel, streamId, publication);
     }
 
+    public void onNewExclusivePublication(
+        final String channel,
+        final int streamId,
+        final int sessionId,
+        final int publicationLimitId,
+        final String logFileName,
+        final long correlationId)
+    {
+        final ExclusivePublication publication = new ExclusivePublication(
+            this,
+            channel,
+            streamId,
+            sessionId,
+            new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
+            logBuffersFactory.map(logFileName, FileChannel.MapMode.READ_WRITE),
+            correlationId);
+
+        activeExclusivePublications.put(correlationId, publication);
+    }
+
+    public void onNewAsyncPublication(
+        final int streamId,
+        final int sessionId,
+        final int publicationLimitId,
+        final String logFileName,
+        final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration && registration.isPublication && !registration.isComplete())
+        {
+            onNewPublication(
+                registration.channel, streamId, sessionId, publicationLimitId, logFileName, correlationId);
+
+            final Publication publication = activePublications.get(registration.channel, streamId);
+            publication.incRef();
+            registration.publication = publication;
+        }
+    }
+
+    public void onAsyncOperationSuccess(final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration && !registration.isPublication && !registration.isComplete())
+        {
+            registration.isSubscriptionRegistered = true;
+        }
+    }
+
+    public void onAsyncError(final ErrorCode errorCode, final String message, final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration && !registration.isComplete())
+        {
+            failRegistration(registration, new RegistrationException(errorCode, message));
+        }
+    }
+
     public void onAvailableImage(
         final int streamId,
         final int sessionId,
@@ -321,6 +484,72 @@ class ClientConductor implements Agent, DriverListener
         }
     }
 
+    private AsyncRegistration completedRegistration(final long registrationId, final boolean isPublication)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(registrationId);
+        if (null == registration || registration.isPublication != isPublication)
+        {
+            throw new IllegalArgumentException("Unknown registration id: " + registrationId);
+        }
+
+        if (!registration.isComplete())
+        {
+            return null;
+        }
+
+        asyncRegistrations.remove(registrationId);
+        if (null != registration.exception)
+        {
+            throw registration.exception;
+        }
+
+        return registration;
+    }
+
+    private void failRegistration(final AsyncRegistration registration, final RuntimeException exception)
+    {
+        registration.exception = exception;
+        if (!registration.isPublication)
+        {
+            activeSubscriptions.remove(registration.subscription);
+        }
+    }
+
+    private int checkAsyncRegistrationTimeouts(final long now)
+    {
+        int result = 0;
+
+        final Iterator<AsyncRegistration> iterator = asyncRegistrations.values().iterator();
+        while (iterator.hasNext())
+        {
+            final AsyncRegistration registration = iterator.next();
+            if (now > registration.deadlineNs && !registration.isComplete())
+            {
+                failRegistration(registration, new DriverTimeoutException("No response within driver timeout"));
+                releaseTimedOutRegistration(registration);
+                result++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The driver may still complete a registration after it has timed out so ask for it to be removed. Responses to
+     * the removal are not awaited and any late response to the registration is ignored as it is already complete.
+     */
+    private void releaseTimedOutRegistration(final AsyncRegistration registration)
+    {
+        if (registration.isPublication)
+        {
+            driverProxy.removePublication(registration.registrationId);
+        }
+        else
+        {
+            driverProxy.removeSubscription(registration.registrationId);
+        }
+    }
+
     private int doWork(final long correlationId, final String expectedChannel)
     {
         int workCount = 0;
@@ -402,6 +631,11 @@ class ClientConductor implements Agent, DriverListener
                 }
             }
 
+            if (!asyncRegistrations.isEmpty())
+            {
+                result += checkAsyncRegistrationTimeouts(now);
+            }
+
             timeOfLastCheckResources = now;
             result++;
         }
@@ -78,6 +78,21 @@ public class CommonContext implements AutoCloseable
      */
     public static final String MTU_LENGTH_URI_PARAM_NAME = "mtu";
 
+    /**
+     * Receive batch length parameter name for using as a channel URI param on a network subscription.
+     */
+    public static final String RECEIVE_BATCH_LENGTH_PARAM_NAME = "rcv-batch";
+
+    /**
+     * Send burst length parameter name for using as a channel URI param on a network publication.
+     */
+    public static final String SEND_BURST_LENGTH_PARAM_NAME = "send-burst";
+
+    /**
+     * Send pacing rate in bytes per second parameter name for using as a channel URI param on a network publication.
+     */
+    public static final String SEND_PACING_RATE_PARAM_NAME = "pacing-rate";
+
     private long driverTimeoutMs = DEFAULT_DRIVER_TIMEOUT_MS;
     private String aeronDirectoryName;
     private File cncFile;
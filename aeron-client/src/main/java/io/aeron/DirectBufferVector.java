@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Vector into a {@link DirectBuffer} to be used for gathering IO as an offset and length.
+ *
+ * An array of vectors can be offered as the parts of a single message so that a message built from a header and a
+ * separate payload can be gathered directly into the log without first being copied into a staging buffer.
+ */
+public final class DirectBufferVector
+{
+    public DirectBuffer buffer;
+    public int offset;
+    public int length;
+
+    /**
+     * Default constructor so the fluent API can be used.
+     */
+    public DirectBufferVector()
+    {
+    }
+
+    /**
+     * Construct a new vector as a subset of a buffer.
+     *
+     * @param buffer which is the super set.
+     * @param offset at which the vector begins.
+     * @param length of the vector.
+     */
+    public DirectBufferVector(final DirectBuffer buffer, final int offset, final int length)
+    {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Reset the values.
+     *
+     * @param buffer which is the super set.
+     * @param offset at which the vector begins.
+     * @param length of the vector.
+     * @return this for a fluent API.
+     */
+    public DirectBufferVector reset(final DirectBuffer buffer, final int offset, final int length)
+    {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+
+        return this;
+    }
+
+    /**
+     * Ensure the vector is valid for the buffer.
+     *
+     * @return this for a fluent API.
+     * @throws IllegalArgumentException if the offset or length is negative or the vector exceeds the buffer.
+     */
+    public DirectBufferVector validate()
+    {
+        final int capacity = buffer.capacity();
+        if (offset < 0 || offset > capacity)
+        {
+            throw new IllegalArgumentException("offset=" + offset + " capacity=" + capacity);
+        }
+
+        if (length < 0 || length > (capacity - offset))
+        {
+            throw new IllegalArgumentException("offset=" + offset + " capacity=" + capacity + " length=" + length);
+        }
+
+        return this;
+    }
+
+    /**
+     * Validate an array of vectors to make up a message and compute the total length.
+     *
+     * @param vectors to be validated and summed.
+     * @return the sum of the vector lengths.
+     * @throws IllegalArgumentException if any vector is invalid or the total length overflows.
+     */
+    public static int validateAndComputeLength(final DirectBufferVector[] vectors)
+    {
+        int messageLength = 0;
+        for (final DirectBufferVector vector : vectors)
+        {
+            vector.validate();
+            messageLength += vector.length;
+
+            if (messageLength < 0)
+            {
+                throw new IllegalArgumentException("length overflow: " + vector);
+            }
+        }
+
+        return messageLength;
+    }
+
+    public String toString()
+    {
+        return "DirectBufferVector{" +
+            "buffer=" + buffer +
+            ", offset=" + offset +
+            ", length=" + length +
+            '}';
+    }
+}
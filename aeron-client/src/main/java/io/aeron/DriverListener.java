@@ -30,6 +30,14 @@ interface DriverListener
         String logFileName,
         long correlationId);
 
+    void onNewExclusivePublication(
+        String channel,
+        int streamId,
+        int sessionId,
+        int publicationLimitId,
+        String logFileName,
+        long correlationId);
+
     void onAvailableImage(
         int streamId,
         int sessionId,
@@ -41,4 +49,15 @@ interface DriverListener
     void onUnavailableImage(int streamId, long correlationId);
 
     void onError(ErrorCode errorCode, String message, long correlationId);
+
+    void onNewAsyncPublication(
+        int streamId,
+        int sessionId,
+        int publicationLimitId,
+        String logFileName,
+        long correlationId);
+
+    void onAsyncOperationSuccess(long correlationId);
+
+    void onAsyncError(ErrorCode errorCode, String message, long correlationId);
 }
@@ -85,6 +85,35 @@ class DriverListenerAdapter implements MessageHandler
 
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onNewAsyncPublication(
+                        publicationReady.streamId(),
+                        publicationReady.sessionId(),
+                        publicationReady.publicationLimitCounterId(),
+                        publicationReady.logFileName(),
+                        correlationId);
+                }
+                break;
+            }
+
+            case ON_EXCLUSIVE_PUBLICATION_READY:
+            {
+                publicationReady.wrap(buffer, index);
+
+                final long correlationId = publicationReady.correlationId();
+                if (correlationId == activeCorrelationId)
+                {
+                    listener.onNewExclusivePublication(
+                        expectedChannel,
+                        publicationReady.streamId(),
+                        publicationReady.sessionId(),
+                        publicationReady.publicationLimitCounterId(),
+                        publicationReady.logFileName(),
+                        correlationId);
+
+                    lastReceivedCorrelationId = correlationId;
+                }
                 break;
             }
 
@@ -120,6 +149,10 @@ class DriverListenerAdapter implements MessageHandler
                 {
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onAsyncOperationSuccess(correlationId);
+                }
                 break;
             }
 
@@ -142,6 +175,10 @@ class DriverListenerAdapter implements MessageHandler
 
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onAsyncError(errorResponse.errorCode(), errorResponse.errorMessage(), correlationId);
+                }
                 break;
             }
         }
@@ -0,0 +1,541 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.*;
+import org.agrona.DirectBuffer;
+import org.agrona.ManagedResource;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.ReadablePosition;
+
+import static io.aeron.Publication.*;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+
+/**
+ * Aeron Publisher API for sending messages to subscribers of a given channel and streamId pair from a single
+ * thread. ExclusivePublications are created via the {@link Aeron#addExclusivePublication(String, int)} method, and
+ * messages are sent via one of the {@link #offer(DirectBuffer)} methods, or a
+ * {@link #tryClaim(int, BufferClaim)} and {@link BufferClaim#commit()} method combination.
+ *
+ * Each ExclusivePublication has its own session so the term id and offset are tracked locally and the tail is
+ * advanced with ordered stores, avoiding the atomic operations required by a concurrent {@link Publication}.
+ *
+ * The APIs used to send are all non-blocking.
+ *
+ * <b>Note:</b> ExclusivePublication instances are NOT threadsafe for offer and tryClaim methods and should only be
+ * used by a single publishing thread.
+ *
+ * @see Aeron#addExclusivePublication(String, int)
+ */
+public class ExclusivePublication implements AutoCloseable
+{
+    private final long registrationId;
+    private final int streamId;
+    private final int sessionId;
+    private final int initialTermId;
+    private final int maxMessageLength;
+    private final int maxPayloadLength;
+    private final int positionBitsToShift;
+    private final int termBufferLength;
+    private volatile boolean isClosed = false;
+
+    private int termId;
+    private int termOffset;
+    private int activePartitionIndex;
+    private long termBeginPosition;
+
+    private final ExclusiveTermAppender[] termAppenders = new ExclusiveTermAppender[PARTITION_COUNT];
+    private final ReadablePosition positionLimit;
+    private final UnsafeBuffer logMetaDataBuffer;
+    private final HeaderWriter headerWriter;
+    private final LogBuffers logBuffers;
+    private final ClientConductor clientConductor;
+    private final UnsafeBuffer counterValuesBuffer;
+    private final String channel;
+
+    ExclusivePublication(
+        final ClientConductor clientConductor,
+        final String channel,
+        final int streamId,
+        final int sessionId,
+        final ReadablePosition positionLimit,
+        final LogBuffers logBuffers,
+        final long registrationId)
+    {
+        final UnsafeBuffer[] buffers = logBuffers.termBuffers();
+        final UnsafeBuffer logMetaDataBuffer = logBuffers.metaDataBuffer();
+
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            termAppenders[i] = new ExclusiveTermAppender(buffers[i], logMetaDataBuffer, i);
+        }
+
+        final int termLength = logBuffers.termLength();
+        this.termBufferLength = termLength;
+        this.maxPayloadLength = mtuLength(logMetaDataBuffer) - HEADER_LENGTH;
+        this.maxMessageLength = FrameDescriptor.computeMaxMessageLength(termLength);
+        this.clientConductor = clientConductor;
+        this.counterValuesBuffer = clientConductor.counterValuesBuffer();
+        this.channel = channel;
+        this.streamId = streamId;
+        this.sessionId = sessionId;
+        this.initialTermId = LogBufferDescriptor.initialTermId(logMetaDataBuffer);
+        this.logMetaDataBuffer = logMetaDataBuffer;
+        this.registrationId = registrationId;
+        this.positionLimit = positionLimit;
+        this.logBuffers = logBuffers;
+        this.positionBitsToShift = Integer.numberOfTrailingZeros(termLength);
+        this.headerWriter = new HeaderWriter(defaultFrameHeader(logMetaDataBuffer));
+
+        activePartitionIndex = activePartitionIndex(logMetaDataBuffer);
+        final long rawTail = termAppenders[activePartitionIndex].rawTailVolatile();
+        termId = LogBufferDescriptor.termId(rawTail);
+        termOffset = LogBufferDescriptor.termOffset(rawTail, termLength);
+        termBeginPosition = computeTermBeginPosition(termId, positionBitsToShift, initialTermId);
+    }
+
+    /**
+     * Get the length in bytes for each term partition in the log buffer.
+     *
+     * @return the length in bytes for each term partition in the log buffer.
+     */
+    public int termBufferLength()
+    {
+        return termBufferLength;
+    }
+
+    /**
+     * Media address for delivery to the channel.
+     *
+     * @return Media address for delivery to the channel.
+     */
+    public String channel()
+    {
+        return channel;
+    }
+
+    /**
+     * Stream identity for scoping within the channel media address.
+     *
+     * @return Stream identity for scoping within the channel media address.
+     */
+    public int streamId()
+    {
+        return streamId;
+    }
+
+    /**
+     * Session under which messages are published. Identifies this ExclusivePublication instance.
+     *
+     * @return the session id for this publication.
+     */
+    public int sessionId()
+    {
+        return sessionId;
+    }
+
+    /**
+     * The initial term id assigned when this {@link ExclusivePublication} was created. This can be used to determine
+     * how many terms have passed since creation.
+     *
+     * @return the initial term id.
+     */
+    public int initialTermId()
+    {
+        return initialTermId;
+    }
+
+    /**
+     * Maximum message length supported in bytes. Messages may be made of multiple fragments if greater than
+     * MTU length.
+     *
+     * @return maximum message length supported in bytes.
+     */
+    public int maxMessageLength()
+    {
+        return maxMessageLength;
+    }
+
+    /**
+     * Maximum length of a message payload that fits within a message fragment.
+     *
+     * This is he MTU length minus the message fragment header length.
+     *
+     * @return maximum message fragment payload length.
+     */
+    public int maxPayloadLength()
+    {
+        return maxPayloadLength;
+    }
+
+    /**
+     * Has the {@link ExclusivePublication} seen an active Subscriber recently?
+     *
+     * @return true if this {@link ExclusivePublication} has seen an active subscriber otherwise false.
+     */
+    public boolean isConnected()
+    {
+        return !isClosed && clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer));
+    }
+
+    /**
+     * Release resources used by this ExclusivePublication.
+     */
+    public void close()
+    {
+        clientConductor.mainLock().lock();
+        try
+        {
+            release();
+        }
+        finally
+        {
+            clientConductor.mainLock().unlock();
+        }
+    }
+
+    /**
+     * Has this object been closed and should no longer be used?
+     *
+     * @return true if it has been closed otherwise false.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * Release resources and forcibly close the ExclusivePublication.
+     */
+    void release()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            clientConductor.releaseExclusivePublication(this);
+        }
+    }
+
+    /**
+     * Get the current position to which the publication has advanced for this stream.
+     *
+     * @return the current position to which the publication has advanced for this stream.
+     */
+    public long position()
+    {
+        if (isClosed)
+        {
+            return CLOSED;
+        }
+
+        return termBeginPosition + termOffset;
+    }
+
+    /**
+     * Get the position limit beyond which this {@link ExclusivePublication} will be back pressured.
+     *
+     * This should only be used as a guide to determine when back pressure is likely to be applied.
+     *
+     * @return the position limit beyond which this {@link ExclusivePublication} will be back pressured.
+     */
+    public long positionLimit()
+    {
+        if (isClosed)
+        {
+            return CLOSED;
+        }
+
+        return Math.max(positionLimit.getVolatile(), ipcPublisherLimit());
+    }
+
+    /**
+     * Non-blocking publish of a buffer containing a message.
+     *
+     * @param buffer containing message.
+     * @return The new stream position, otherwise {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     */
+    public long offer(final DirectBuffer buffer)
+    {
+        return offer(buffer, 0, buffer.capacity());
+    }
+
+    /**
+     * Non-blocking publish of a partial buffer containing a message.
+     *
+     * @param buffer containing message.
+     * @param offset offset in the buffer at which the encoded message begins.
+     * @param length in bytes of the encoded message.
+     * @return The new stream position, otherwise a negative error value {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     */
+    public long offer(final DirectBuffer buffer, final int offset, final int length)
+    {
+        return offer(buffer, offset, length, null);
+    }
+
+    /**
+     * Non-blocking publish of a partial buffer containing a message.
+     *
+     * @param buffer                containing message.
+     * @param offset                offset in the buffer at which the encoded message begins.
+     * @param length                in bytes of the encoded message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return The new stream position, otherwise a negative error value {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     */
+    public long offer(
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit || position < ipcPublisherLimit())
+            {
+                final int result;
+                if (length <= maxPayloadLength)
+                {
+                    result = termAppender.appendUnfragmentedMessage(
+                        termId, termOffset, headerWriter, buffer, offset, length, reservedValueSupplier);
+                }
+                else
+                {
+                    checkForMaxMessageLength(length);
+                    result = termAppender.appendFragmentedMessage(
+                        termId,
+                        termOffset,
+                        headerWriter,
+                        buffer,
+                        offset,
+                        length,
+                        maxPayloadLength,
+                        reservedValueSupplier);
+                }
+
+                newPosition = newPosition(result);
+            }
+            else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * Non-blocking publish of a message gathered from a vector of buffers without first copying to a staging buffer.
+     *
+     * @param vectors which make up the message.
+     * @return The new stream position, otherwise a negative error value {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     */
+    public long offer(final DirectBufferVector[] vectors)
+    {
+        return offer(vectors, null);
+    }
+
+    /**
+     * Non-blocking publish of a message gathered from a vector of buffers without first copying to a staging buffer.
+     *
+     * @param vectors               which make up the message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return The new stream position, otherwise a negative error value {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     * @throws IllegalArgumentException if a vector is invalid or the message exceeds {@link #maxMessageLength()}.
+     */
+    public long offer(final DirectBufferVector[] vectors, final ReservedValueSupplier reservedValueSupplier)
+    {
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final int length = DirectBufferVector.validateAndComputeLength(vectors);
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit || position < ipcPublisherLimit())
+            {
+                final int result;
+                if (length <= maxPayloadLength)
+                {
+                    result = termAppender.appendUnfragmentedMessage(
+                        termId, termOffset, headerWriter, vectors, length, reservedValueSupplier);
+                }
+                else
+                {
+                    checkForMaxMessageLength(length);
+                    result = termAppender.appendFragmentedMessage(
+                        termId,
+                        termOffset,
+                        headerWriter,
+                        vectors,
+                        length,
+                        maxPayloadLength,
+                        reservedValueSupplier);
+                }
+
+                newPosition = newPosition(result);
+            }
+            else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
+     * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
+     *
+     * <b>Note:</b> This method can only be used for message lengths less than MTU length minus header.
+     *
+     * @param length      of the range to claim, in bytes..
+     * @param bufferClaim to be populated if the claim succeeds.
+     * @return The new stream position, otherwise {@link Publication#NOT_CONNECTED},
+     * {@link Publication#BACK_PRESSURED}, {@link Publication#ADMIN_ACTION}, or {@link Publication#CLOSED}.
+     * @throws IllegalArgumentException if the length is greater than {@link #maxPayloadLength()} within an MTU.
+     * @see BufferClaim#commit()
+     * @see BufferClaim#abort()
+     */
+    public long tryClaim(final int length, final BufferClaim bufferClaim)
+    {
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            checkForMaxPayloadLength(length);
+
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit || position < ipcPublisherLimit())
+            {
+                final int result = termAppender.claim(termId, termOffset, headerWriter, length, bufferClaim);
+                newPosition = newPosition(result);
+            }
+            else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * Return the registration id used to register this ExclusivePublication with the media driver.
+     *
+     * @return registration id
+     */
+    public long registrationId()
+    {
+        return registrationId;
+    }
+
+    private long newPosition(final int resultingOffset)
+    {
+        if (resultingOffset > 0)
+        {
+            termOffset = resultingOffset;
+
+            return termBeginPosition + resultingOffset;
+        }
+
+        final int nextIndex = nextPartitionIndex(activePartitionIndex);
+        final int nextTermId = termId + 1;
+
+        activePartitionIndex = nextIndex;
+        termOffset = 0;
+        termId = nextTermId;
+        termBeginPosition = computeTermBeginPosition(nextTermId, positionBitsToShift, initialTermId);
+
+        termAppenders[nextIndex].tailTermId(nextTermId);
+        LogBufferDescriptor.activePartitionIndex(logMetaDataBuffer, nextIndex);
+
+        return ADMIN_ACTION;
+    }
+
+    private long ipcPublisherLimit()
+    {
+        return LogBufferDescriptor.ipcPublisherLimit(logMetaDataBuffer, counterValuesBuffer);
+    }
+
+    private void checkForMaxPayloadLength(final int length)
+    {
+        if (length > maxPayloadLength)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Claim exceeds maxPayloadLength of %d, length=%d", maxPayloadLength, length));
+        }
+    }
+
+    private void checkForMaxMessageLength(final int length)
+    {
+        if (length > maxMessageLength)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Encoded message exceeds maxMessageLength of %d, length=%d", maxMessageLength, length));
+        }
+    }
+
+    ManagedResource managedResource()
+    {
+        return new ExclusivePublicationManagedResource();
+    }
+
+    private class ExclusivePublicationManagedResource implements ManagedResource
+    {
+        private long timeOfLastStateChange = 0;
+
+        public void timeOfLastStateChange(final long time)
+        {
+            this.timeOfLastStateChange = time;
+        }
+
+        public long timeOfLastStateChange()
+        {
+            return timeOfLastStateChange;
+        }
+
+        public void delete()
+        {
+            logBuffers.close();
+        }
+    }
+}
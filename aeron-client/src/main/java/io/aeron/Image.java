@@ -49,6 +49,8 @@ import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
  */
 public class Image
 {
+    private static final int[] EMPTY_BATCH = new int[0];
+
     private final long correlationId;
     private final int sessionId;
     private final int termLengthMask;
@@ -62,6 +64,10 @@ public class Image
     private final LogBuffers logBuffers;
     private final String sourceIdentity;
     private final Subscription subscription;
+    private int weight = 1;
+    private int fairShareCredit = 0;
+    private int[] batchOffsets = EMPTY_BATCH;
+    private int[] batchLengths = EMPTY_BATCH;
 
     /**
      * Construct a new image over a log to represent a stream of messages from a {@link Publication}.
@@ -159,6 +165,37 @@ public class Image
         return subscription;
     }
 
+    /**
+     * The weight given to this {@link Image} relative to other images when its {@link Subscription} shares a poll
+     * budget with {@link Subscription#fairPoll(FragmentHandler, int, int)}.
+     *
+     * @return the weight given to this {@link Image} when sharing a poll budget.
+     */
+    public int weight()
+    {
+        return weight;
+    }
+
+    /**
+     * Set the weight given to this {@link Image} relative to other images when its {@link Subscription} shares a
+     * poll budget with {@link Subscription#fairPoll(FragmentHandler, int, int)}. This should be set from the thread
+     * which polls the {@link Subscription}.
+     *
+     * @param weight to be given to this {@link Image} when sharing a poll budget which must be 1 or greater.
+     * @return this for a fluent API.
+     * @throws IllegalArgumentException if the weight is less than 1.
+     */
+    public Image weight(final int weight)
+    {
+        if (weight < 1)
+        {
+            throw new IllegalArgumentException("weight must be >= 1: weight=" + weight);
+        }
+
+        this.weight = weight;
+        return this;
+    }
+
     /**
      * Has this object been closed and should no longer be used?
      *
@@ -223,6 +260,120 @@ public class Image
         return fragmentsRead(outcome);
     }
 
+    /**
+     * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
+     * will be delivered to the {@link FragmentHandler} up to a limited number of fragments and bytes as specified.
+     *
+     * Fragments are delivered whole so the bytes consumed may exceed the length limit by up to one fragment.
+     *
+     * @param fragmentHandler to which message fragments are delivered.
+     * @param fragmentLimit   for the number of fragments to be consumed during one polling operation.
+     * @param lengthLimit     in bytes beyond which no further fragments will be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     */
+    public int poll(final FragmentHandler fragmentHandler, final int fragmentLimit, final int lengthLimit)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        final long position = subscriberPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        final UnsafeBuffer termBuffer = activeTermBuffer(position);
+        final int limitOffset = (int)Math.min((long)termOffset + lengthLimit, termBuffer.capacity());
+
+        final long outcome = read(
+            termBuffer, termOffset, fragmentHandler, fragmentLimit, limitOffset, header, errorHandler);
+
+        updatePosition(position, termOffset, offset(outcome));
+
+        return fragmentsRead(outcome);
+    }
+
+    /**
+     * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
+     * will be delivered to the {@link BatchFragmentHandler} as a single batch up to a limited number of fragments.
+     *
+     * The frame lengths of the batch are checked ahead of delivery with a single load fence rather than a volatile
+     * read per fragment which suits small message streams being polled from a busy spinning thread.
+     *
+     * @param batchFragmentHandler to which the batch of message fragments is delivered.
+     * @param fragmentLimit        for the number of fragments to be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     */
+    public int batchPoll(final BatchFragmentHandler batchFragmentHandler, final int fragmentLimit)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        if (fragmentLimit > batchOffsets.length)
+        {
+            batchOffsets = new int[fragmentLimit];
+            batchLengths = new int[fragmentLimit];
+        }
+
+        final long position = subscriberPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        final UnsafeBuffer termBuffer = activeTermBuffer(position);
+
+        final long outcome = readBatch(
+            termBuffer,
+            termOffset,
+            batchFragmentHandler,
+            fragmentLimit,
+            batchOffsets,
+            batchLengths,
+            header,
+            errorHandler);
+
+        updatePosition(position, termOffset, offset(outcome));
+
+        return fragmentsRead(outcome);
+    }
+
+    /**
+     * Poll for a fair share of a budget shared with other images using deficit round robin. Each call adds the
+     * quantum to the credit of this image, capped at one quantum, and then reads while credit remains. A fragment
+     * which overruns the credit is read in full and the overrun is repaid from subsequent quanta so images carrying
+     * large fragments get no more than their share over time.
+     *
+     * @param fragmentHandler to which message fragments are delivered.
+     * @param fragmentLimit   for the number of fragments to be consumed during one polling operation.
+     * @param quantum         in bytes of this image's share of the budget for one polling operation.
+     * @return the number of fragments that have been consumed.
+     */
+    int fairSharePoll(final FragmentHandler fragmentHandler, final int fragmentLimit, final int quantum)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        final int credit = Math.min(fairShareCredit + quantum, quantum);
+        if (credit <= 0)
+        {
+            fairShareCredit = credit;
+            return 0;
+        }
+
+        final long position = subscriberPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        final UnsafeBuffer termBuffer = activeTermBuffer(position);
+        final int limitOffset = (int)Math.min((long)termOffset + credit, termBuffer.capacity());
+
+        final long outcome = read(
+            termBuffer, termOffset, fragmentHandler, fragmentLimit, limitOffset, header, errorHandler);
+
+        final int resultingOffset = offset(outcome);
+        updatePosition(position, termOffset, resultingOffset);
+        fairShareCredit = credit - (resultingOffset - termOffset);
+
+        return fragmentsRead(outcome);
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link ControlledFragmentHandler} up to a limited number of fragments as specified.
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.function.IntFunction;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+
+/**
+ * A {@link FragmentHandler} that reassembles fragmented messages into off-heap buffers acquired from a
+ * {@link ReassemblyBufferPool} so that the next handler in the chain only sees whole messages.
+ *
+ * Unfragmented messages are delegated without copy. A buffer is only held for a session while a message is being
+ * reassembled and is returned to the pool once the message has been delegated, or on growing to a larger size class,
+ * so steady state reassembly does not allocate.
+ *
+ * Messages longer than the max message length are dropped and counted by {@link #droppedMessages()}. Registering the
+ * assembler as an {@link UnavailableImageHandler} frees the state for a session when its image goes unavailable.
+ *
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ *
+ * <b>Note:</b> This class is not threadsafe and should be used from the thread polling the subscription.
+ */
+public class PooledFragmentAssembler implements FragmentHandler, UnavailableImageHandler
+{
+    private final FragmentHandler delegate;
+    private final ReassemblyBufferPool pool;
+    private final int maxMessageLength;
+    private final Int2ObjectHashMap<Session> sessionBySessionIdMap = new Int2ObjectHashMap<>();
+    private final IntFunction<Session> sessionFunc = (ignore) -> new Session();
+    private long droppedMessages;
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate         onto which whole messages are forwarded.
+     * @param pool             from which buffers are acquired for reassembly.
+     * @param maxMessageLength beyond which messages are dropped.
+     */
+    public PooledFragmentAssembler(
+        final FragmentHandler delegate, final ReassemblyBufferPool pool, final int maxMessageLength)
+    {
+        if (maxMessageLength > pool.maxBufferLength())
+        {
+            throw new IllegalArgumentException(
+                "max message length greater than pool max buffer length: " + maxMessageLength);
+        }
+
+        this.delegate = delegate;
+        this.pool = pool;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            delegate.onFragment(buffer, offset, length, header);
+        }
+        else
+        {
+            handleFragment(buffer, offset, length, header, flags);
+        }
+    }
+
+    /**
+     * Free the reassembly state for the session of an image which has become unavailable.
+     *
+     * @param image the image that has become unavailable.
+     */
+    public void onUnavailableImage(final Image image)
+    {
+        freeSessionBuffer(image.sessionId());
+    }
+
+    /**
+     * Free the reassembly state for a session returning any buffer held to the pool.
+     *
+     * @param sessionId to have its state freed.
+     * @return true if state has been freed otherwise false.
+     */
+    public boolean freeSessionBuffer(final int sessionId)
+    {
+        final Session session = sessionBySessionIdMap.remove(sessionId);
+        if (null != session)
+        {
+            session.reset(pool);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Number of messages dropped for exceeding the max message length.
+     *
+     * @return number of messages dropped for exceeding the max message length.
+     */
+    public long droppedMessages()
+    {
+        return droppedMessages;
+    }
+
+    /**
+     * The pool from which buffers are acquired for reassembly.
+     *
+     * @return the pool from which buffers are acquired for reassembly.
+     */
+    public ReassemblyBufferPool pool()
+    {
+        return pool;
+    }
+
+    private void handleFragment(
+        final DirectBuffer buffer, final int offset, final int length, final Header header, final byte flags)
+    {
+        if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            final Session session = sessionBySessionIdMap.computeIfAbsent(header.sessionId(), sessionFunc);
+            session.reset(pool);
+
+            if (length > maxMessageLength)
+            {
+                droppedMessages++;
+                return;
+            }
+
+            session.buffer = pool.acquire(length);
+            session.buffer.putBytes(0, buffer, offset, length);
+            session.limit = length;
+        }
+        else
+        {
+            final Session session = sessionBySessionIdMap.get(header.sessionId());
+            if (null != session && null != session.buffer)
+            {
+                final int limit = session.limit;
+                final int newLimit = limit + length;
+
+                if (newLimit > maxMessageLength)
+                {
+                    session.reset(pool);
+                    droppedMessages++;
+                    return;
+                }
+
+                if (newLimit > session.buffer.capacity())
+                {
+                    final UnsafeBuffer newBuffer = pool.acquire(newLimit);
+                    newBuffer.putBytes(0, session.buffer, 0, limit);
+                    pool.release(session.buffer);
+                    session.buffer = newBuffer;
+                }
+
+                session.buffer.putBytes(limit, buffer, offset, length);
+                session.limit = newLimit;
+
+                if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+                {
+                    try
+                    {
+                        delegate.onFragment(session.buffer, 0, newLimit, header);
+                    }
+                    finally
+                    {
+                        session.reset(pool);
+                    }
+                }
+            }
+        }
+    }
+
+    static final class Session
+    {
+        UnsafeBuffer buffer;
+        int limit;
+
+        void reset(final ReassemblyBufferPool pool)
+        {
+            if (null != buffer)
+            {
+                pool.release(buffer);
+                buffer = null;
+            }
+
+            limit = 0;
+        }
+    }
+}
@@ -22,7 +22,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
 
 /**
  * Aeron Publisher API for sending messages to subscribers of a given channel and streamId pair. Publishers
@@ -74,6 +76,7 @@ public class Publication implements AutoCloseable
     private final HeaderWriter headerWriter;
     private final LogBuffers logBuffers;
     private final ClientConductor clientConductor;
+    private final UnsafeBuffer counterValuesBuffer;
     private final String channel;
 
     Publication(
@@ -97,6 +100,7 @@ public class Publication implements AutoCloseable
         this.maxPayloadLength = mtuLength(logMetaDataBuffer) - HEADER_LENGTH;
         this.maxMessageLength = FrameDescriptor.computeMaxMessageLength(termLength);
         this.clientConductor = clientConductor;
+        this.counterValuesBuffer = clientConductor.counterValuesBuffer();
         this.channel = channel;
         this.streamId = streamId;
         this.sessionId = sessionId;
@@ -269,7 +273,7 @@ public class Publication implements AutoCloseable
             return CLOSED;
         }
 
-        return positionLimit.getVolatile();
+        return Math.max(positionLimit.getVolatile(), ipcPublisherLimit());
     }
 
     /**
@@ -325,7 +329,7 @@ public class Publication implements AutoCloseable
             final long position =
                 computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
 
-            if (position < limit)
+            if (position < limit || position < ipcPublisherLimit())
             {
                 final long result;
                 if (length <= maxPayloadLength)
@@ -355,6 +359,148 @@ public class Publication implements AutoCloseable
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a message gathered from a vector of buffers without first copying to a staging buffer.
+     *
+     * @param vectors which make up the message.
+     * @return The new stream position, otherwise a negative error value {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offer(final DirectBufferVector[] vectors)
+    {
+        return offer(vectors, null);
+    }
+
+    /**
+     * Non-blocking publish of a message gathered from a vector of buffers without first copying to a staging buffer.
+     *
+     * @param vectors               which make up the message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return The new stream position, otherwise a negative error value {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     * @throws IllegalArgumentException if a vector is invalid or the message exceeds {@link #maxMessageLength()}.
+     */
+    public long offer(final DirectBufferVector[] vectors, final ReservedValueSupplier reservedValueSupplier)
+    {
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final int length = DirectBufferVector.validateAndComputeLength(vectors);
+            final long limit = positionLimit.getVolatile();
+            final int partitionIndex = activePartitionIndex(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[partitionIndex];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final long position =
+                computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
+
+            if (position < limit || position < ipcPublisherLimit())
+            {
+                final long result;
+                if (length <= maxPayloadLength)
+                {
+                    result = termAppender.appendUnfragmentedMessage(
+                        headerWriter, vectors, length, reservedValueSupplier);
+                }
+                else
+                {
+                    checkForMaxMessageLength(length);
+                    result = termAppender.appendFragmentedMessage(
+                        headerWriter, vectors, length, maxPayloadLength, reservedValueSupplier);
+                }
+
+                newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+            }
+            else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages which are appended contiguously to the log with a single claim
+     * on the tail, rather than one claim per message as with {@link #offer(DirectBuffer, int, int)}.
+     *
+     * @param messages  to be published with each vector being a whole message.
+     * @param positions to be filled with the stream position after each message on success.
+     * @return The new stream position after the last message, otherwise a negative error value
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offerBatch(final DirectBufferVector[] messages, final long[] positions)
+    {
+        return offerBatch(messages, positions, null);
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages which are appended contiguously to the log with a single claim
+     * on the tail, rather than one claim per message as with {@link #offer(DirectBuffer, int, int)}.
+     *
+     * Each message must fit within an MTU and the whole batch within {@link #maxMessageLength()} so it can be
+     * appended in a single term. If the batch does not fit in the remainder of the current term then
+     * {@link #ADMIN_ACTION} is returned and no messages are published so the batch can be offered again.
+     *
+     * @param messages              to be published with each vector being a whole message.
+     * @param positions             to be filled with the stream position after each message on success.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position after the last message, otherwise a negative error value
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     * @throws IllegalArgumentException if the batch is empty, a message is invalid or exceeds
+     * {@link #maxPayloadLength()}, the batch exceeds {@link #maxMessageLength()}, or positions is shorter than
+     * messages.
+     */
+    public long offerBatch(
+        final DirectBufferVector[] messages,
+        final long[] positions,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final int requiredLength = validateAndComputeBatchLength(messages, positions);
+            final long limit = positionLimit.getVolatile();
+            final int partitionIndex = activePartitionIndex(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[partitionIndex];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final long position =
+                computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
+
+            if (position < limit || position < ipcPublisherLimit())
+            {
+                final long result = termAppender.appendUnfragmentedBatch(
+                    headerWriter, messages, requiredLength, reservedValueSupplier);
+                newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+
+                if (newPosition > 0)
+                {
+                    long messagePosition = newPosition - requiredLength;
+                    for (int i = 0, length = messages.length; i < length; i++)
+                    {
+                        messagePosition += align(messages[i].length + HEADER_LENGTH, FRAME_ALIGNMENT);
+                        positions[i] = messagePosition;
+                    }
+                }
+            }
+            else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
@@ -403,7 +549,7 @@ public class Publication implements AutoCloseable
             final long position =
                 computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
 
-            if (position < limit)
+            if (position < limit || position < ipcPublisherLimit())
             {
                 final long result = termAppender.claim(headerWriter, length, bufferClaim);
                 newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
@@ -457,6 +603,11 @@ public class Publication implements AutoCloseable
         return newPosition;
     }
 
+    private long ipcPublisherLimit()
+    {
+        return LogBufferDescriptor.ipcPublisherLimit(logMetaDataBuffer, counterValuesBuffer);
+    }
+
     private void checkForMaxPayloadLength(final int length)
     {
         if (length > maxPayloadLength)
@@ -466,6 +617,40 @@ public class Publication implements AutoCloseable
         }
     }
 
+    private int validateAndComputeBatchLength(final DirectBufferVector[] messages, final long[] positions)
+    {
+        if (0 == messages.length)
+        {
+            throw new IllegalArgumentException("Batch must contain at least one message");
+        }
+
+        if (positions.length < messages.length)
+        {
+            throw new IllegalArgumentException(String.format(
+                "Batch positions length of %d is less than messages length of %d", positions.length, messages.length));
+        }
+
+        int requiredLength = 0;
+        for (final DirectBufferVector message : messages)
+        {
+            final int length = message.validate().length;
+            if (length > maxPayloadLength)
+            {
+                throw new IllegalArgumentException(String.format(
+                    "Batch message exceeds maxPayloadLength of %d, length=%d", maxPayloadLength, length));
+            }
+
+            requiredLength += align(length + HEADER_LENGTH, FRAME_ALIGNMENT);
+            if (requiredLength > maxMessageLength)
+            {
+                throw new IllegalArgumentException(String.format(
+                    "Batch exceeds maxMessageLength of %d, length=%d", maxMessageLength, requiredLength));
+            }
+        }
+
+        return requiredLength;
+    }
+
     private void checkForMaxMessageLength(final int length)
     {
         if (length > maxMessageLength)
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Bounded pool of off-heap, page aligned buffers in power of two size classes for reassembling fragmented messages.
+ *
+ * Buffers are acquired for the smallest size class which fits the requested length and returned to the pool on
+ * release. If the pool has no buffer free for a size class a new one is allocated and counted as a miss. Each size
+ * class retains at most a fixed number of buffers so the memory held by the pool is bounded.
+ *
+ * <b>Note:</b> This class is not threadsafe and should be used from the thread polling the subscription.
+ */
+public class ReassemblyBufferPool
+{
+    /**
+     * Alignment of buffers allocated by the pool and the minimum size class.
+     */
+    public static final int PAGE_SIZE = 4 * 1024;
+
+    /**
+     * Default number of free buffers retained for each size class.
+     */
+    public static final int BUFFERS_PER_SIZE_CLASS_DEFAULT = 4;
+
+    private final int minBufferLengthShift;
+    private final int maxBufferLength;
+    private final UnsafeBuffer[][] freeBuffersBySizeClass;
+    private final int[] freeCountBySizeClass;
+    private long hits;
+    private long misses;
+    private long allocatedLength;
+    private long peakAllocatedLength;
+
+    /**
+     * Construct a pool of buffers with size classes from {@link #PAGE_SIZE} up to a max buffer length which
+     * retains {@link #BUFFERS_PER_SIZE_CLASS_DEFAULT} free buffers per size class.
+     *
+     * @param maxBufferLength the largest buffer which can be acquired, will be rounded up to a power of 2.
+     */
+    public ReassemblyBufferPool(final int maxBufferLength)
+    {
+        this(PAGE_SIZE, maxBufferLength, BUFFERS_PER_SIZE_CLASS_DEFAULT);
+    }
+
+    /**
+     * Construct a pool of buffers with power of 2 size classes from a min to a max buffer length.
+     *
+     * @param minBufferLength     the smallest size class, will be rounded up to a power of 2.
+     * @param maxBufferLength     the largest buffer which can be acquired, will be rounded up to a power of 2.
+     * @param buffersPerSizeClass the number of free buffers retained for each size class.
+     */
+    public ReassemblyBufferPool(final int minBufferLength, final int maxBufferLength, final int buffersPerSizeClass)
+    {
+        if (minBufferLength < 1 || maxBufferLength < minBufferLength)
+        {
+            throw new IllegalArgumentException(
+                "invalid buffer lengths: min=" + minBufferLength + " max=" + maxBufferLength);
+        }
+
+        if (buffersPerSizeClass < 0)
+        {
+            throw new IllegalArgumentException("buffers per size class must be >= 0: " + buffersPerSizeClass);
+        }
+
+        final int minLength = BitUtil.findNextPositivePowerOfTwo(minBufferLength);
+        this.minBufferLengthShift = Integer.numberOfTrailingZeros(minLength);
+        this.maxBufferLength = BitUtil.findNextPositivePowerOfTwo(maxBufferLength);
+
+        final int sizeClassCount = Integer.numberOfTrailingZeros(this.maxBufferLength) - minBufferLengthShift + 1;
+        this.freeBuffersBySizeClass = new UnsafeBuffer[sizeClassCount][buffersPerSizeClass];
+        this.freeCountBySizeClass = new int[sizeClassCount];
+    }
+
+    /**
+     * The largest buffer length which can be acquired from the pool.
+     *
+     * @return the largest buffer length which can be acquired from the pool.
+     */
+    public int maxBufferLength()
+    {
+        return maxBufferLength;
+    }
+
+    /**
+     * Acquire a buffer with a capacity of at least the given length.
+     *
+     * @param length required for the buffer.
+     * @return a buffer with a capacity of at least the given length.
+     * @throws IllegalArgumentException if the length is greater than {@link #maxBufferLength()}.
+     */
+    public UnsafeBuffer acquire(final int length)
+    {
+        if (length > maxBufferLength)
+        {
+            throw new IllegalArgumentException(
+                "length greater than max buffer length: length=" + length + " max=" + maxBufferLength);
+        }
+
+        final int sizeClass = sizeClass(length);
+        final int freeCount = freeCountBySizeClass[sizeClass];
+        final UnsafeBuffer buffer;
+
+        if (freeCount > 0)
+        {
+            final UnsafeBuffer[] freeBuffers = freeBuffersBySizeClass[sizeClass];
+            buffer = freeBuffers[freeCount - 1];
+            freeBuffers[freeCount - 1] = null;
+            freeCountBySizeClass[sizeClass] = freeCount - 1;
+            hits++;
+        }
+        else
+        {
+            final int capacity = 1 << (sizeClass + minBufferLengthShift);
+            buffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(capacity, PAGE_SIZE));
+            misses++;
+        }
+
+        allocatedLength += buffer.capacity();
+        peakAllocatedLength = Math.max(peakAllocatedLength, allocatedLength);
+
+        return buffer;
+    }
+
+    /**
+     * Release a buffer previously acquired from this pool so it can be reused.
+     *
+     * @param buffer to be released.
+     */
+    public void release(final UnsafeBuffer buffer)
+    {
+        final int capacity = buffer.capacity();
+        final int sizeClass = sizeClass(capacity);
+        final int freeCount = freeCountBySizeClass[sizeClass];
+        final UnsafeBuffer[] freeBuffers = freeBuffersBySizeClass[sizeClass];
+
+        allocatedLength -= capacity;
+
+        if (freeCount < freeBuffers.length)
+        {
+            freeBuffers[freeCount] = buffer;
+            freeCountBySizeClass[sizeClass] = freeCount + 1;
+        }
+    }
+
+    /**
+     * Number of times a buffer was acquired from the free buffers of the pool.
+     *
+     * @return number of times a buffer was acquired from the free buffers of the pool.
+     */
+    public long hits()
+    {
+        return hits;
+    }
+
+    /**
+     * Number of times a buffer had to be allocated because none was free for the size class.
+     *
+     * @return number of times a buffer had to be allocated because none was free for the size class.
+     */
+    public long misses()
+    {
+        return misses;
+    }
+
+    /**
+     * Total capacity of the buffers currently acquired from the pool.
+     *
+     * @return total capacity of the buffers currently acquired from the pool.
+     */
+    public long allocatedLength()
+    {
+        return allocatedLength;
+    }
+
+    /**
+     * Peak total capacity of the buffers acquired from the pool at any one time.
+     *
+     * @return peak total capacity of the buffers acquired from the pool at any one time.
+     */
+    public long peakAllocatedLength()
+    {
+        return peakAllocatedLength;
+    }
+
+    private int sizeClass(final int length)
+    {
+        final int shift = Integer.numberOfTrailingZeros(BitUtil.findNextPositivePowerOfTwo(length));
+
+        return Math.max(0, shift - minBufferLengthShift);
+    }
+}
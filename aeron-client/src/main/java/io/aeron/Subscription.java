@@ -135,6 +135,87 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments delivering them in batches
+     * per {@link Image} to a {@link BatchFragmentHandler}.
+     *
+     * @param batchFragmentHandler callback for handling each batch of message fragments as it is read.
+     * @param fragmentLimit        number of message fragments to limit for the poll operation across multiple
+     *                             {@link Image}s.
+     * @return the number of fragments received
+     * @see Image#batchPoll(BatchFragmentHandler, int)
+     */
+    public int batchPoll(final BatchFragmentHandler batchFragmentHandler, final int fragmentLimit)
+    {
+        final Image[] images = this.images;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        for (int i = startingIndex; i < length && fragmentsRead < fragmentLimit; i++)
+        {
+            fragmentsRead += images[i].batchPoll(batchFragmentHandler, fragmentLimit - fragmentsRead);
+        }
+
+        for (int i = 0; i < startingIndex && fragmentsRead < fragmentLimit; i++)
+        {
+            fragmentsRead += images[i].batchPoll(batchFragmentHandler, fragmentLimit - fragmentsRead);
+        }
+
+        return fragmentsRead;
+    }
+
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments sharing the fragment and byte
+     * budgets between them in proportion to their {@link Image#weight()}.
+     *
+     * Unlike {@link #poll(FragmentHandler, int)}, an {@link Image} which is polled first cannot consume the whole
+     * budget, so a publisher of large or frequent fragments cannot starve other publishers on the stream. Byte shares
+     * are enforced by deficit round robin so a fragment which overruns an image's share is repaid from its share on
+     * subsequent polls. An {@link Image} in credit with data available reads at least one fragment per poll, whereas
+     * an {@link Image} still repaying an overrun is skipped, reading no fragments until its deficit is cleared.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit for the poll operation across multiple {@link Image}s.
+     * @param lengthLimit     number of bytes to limit for the poll operation across multiple {@link Image}s.
+     * @return the number of fragments received
+     */
+    public int fairPoll(final FragmentHandler fragmentHandler, final int fragmentLimit, final int lengthLimit)
+    {
+        final Image[] images = this.images;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        long totalWeight = 0;
+        for (final Image image : images)
+        {
+            totalWeight += image.weight();
+        }
+
+        for (int i = startingIndex; i < length; i++)
+        {
+            fragmentsRead += fairSharePoll(images[i], fragmentHandler, fragmentLimit, lengthLimit, totalWeight);
+        }
+
+        for (int i = 0; i < startingIndex; i++)
+        {
+            fragmentsRead += fairSharePoll(images[i], fragmentHandler, fragmentLimit, lengthLimit, totalWeight);
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll in a controlled manner the {@link Image}s under the subscription for available message fragments.
      * Control is applied to fragments in the stream. If more fragments can be read on another stream
@@ -215,6 +296,20 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return bytesConsumed;
     }
 
+    private static int fairSharePoll(
+        final Image image,
+        final FragmentHandler fragmentHandler,
+        final int fragmentLimit,
+        final int lengthLimit,
+        final long totalWeight)
+    {
+        final int weight = image.weight();
+        final int fragmentShare = (int)Math.max(1, (fragmentLimit * (long)weight) / totalWeight);
+        final int lengthShare = (int)Math.max(1, (lengthLimit * (long)weight) / totalWeight);
+
+        return image.fairSharePoll(fragmentHandler, fragmentShare, lengthShare);
+    }
+
     /**
      * Count of images connected to this subscription.
      *
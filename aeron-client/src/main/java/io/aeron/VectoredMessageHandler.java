@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+
+/**
+ * Handler for whole messages delivered as a sequence of vectors over the payloads of their fragments.
+ */
+@FunctionalInterface
+public interface VectoredMessageHandler
+{
+    /**
+     * Callback for a whole message. The vectors and the buffers they reference are only valid for the duration of the
+     * callback and must not be retained.
+     *
+     * @param vectors     over the message payload in order, only the first vectorCount are valid.
+     * @param vectorCount number of valid vectors.
+     * @param length      of the message payload in bytes across all vectors.
+     * @param header      representing the meta data for the last fragment of the message.
+     */
+    void onMessage(DirectBufferVector[] vectors, int vectorCount, int length, Header header);
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+
+/**
+ * A {@link FragmentHandler} that reassembles fragmented messages for a {@link VectoredMessageHandler} without copying
+ * when all the fragments of a message are already in the term.
+ *
+ * The fragments of a message are appended contiguously to a single term so on the first fragment of a message the
+ * frames which follow are checked for availability. If the last fragment is available the message is delegated as
+ * vectors over the fragment payloads in the term and the remaining fragments are skipped as they are read. If the
+ * message is not yet complete in the term, e.g. fragments are still in flight from the network, then the fragments
+ * are copied to a session buffer for reassembly and delegated as a single vector.
+ *
+ * Unfragmented messages are delegated as a single vector without copy.
+ *
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ */
+public class ZeroCopyFragmentAssembler implements FragmentHandler
+{
+    private final VectoredMessageHandler delegate;
+    private final Int2ObjectHashMap<Session> sessionBySessionIdMap = new Int2ObjectHashMap<>();
+    private final IntFunction<Session> sessionFunc;
+    private DirectBufferVector[] vectors = new DirectBufferVector[0];
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     */
+    public ZeroCopyFragmentAssembler(final VectoredMessageHandler delegate)
+    {
+        this(delegate, BufferBuilder.INITIAL_CAPACITY);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for each session when fragments must be copied.
+     */
+    public ZeroCopyFragmentAssembler(final VectoredMessageHandler delegate, final int initialBufferLength)
+    {
+        this.delegate = delegate;
+        sessionFunc = (ignore) -> new Session(initialBufferLength);
+        ensureVectorCapacity(4);
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            vectors[0].reset(buffer, offset, length);
+            delegate.onMessage(vectors, 1, length, header);
+        }
+        else if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            final Session session = sessionBySessionIdMap.computeIfAbsent(header.sessionId(), sessionFunc);
+            session.builder.reset();
+
+            if (!delegateContiguousMessage(session, buffer, header))
+            {
+                session.builder.append(buffer, offset, length);
+            }
+        }
+        else
+        {
+            final Session session = sessionBySessionIdMap.get(header.sessionId());
+            if (null != session)
+            {
+                handleFragment(session, buffer, offset, length, header, flags);
+            }
+        }
+    }
+
+    /**
+     * Free an existing session buffer to reduce memory pressure when an image goes inactive or no more
+     * large messages are expected.
+     *
+     * @param sessionId to have its buffer freed
+     * @return true if a buffer has been freed otherwise false.
+     */
+    public boolean freeSessionBuffer(final int sessionId)
+    {
+        return null != sessionBySessionIdMap.remove(sessionId);
+    }
+
+    private void handleFragment(
+        final Session session,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final Header header,
+        final byte flags)
+    {
+        if (header.termId() == session.skipTermId && header.termOffset() < session.skipTermOffsetLimit)
+        {
+            return;
+        }
+
+        final BufferBuilder builder = session.builder;
+        if (builder.limit() != 0)
+        {
+            builder.append(buffer, offset, length);
+
+            if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                final int msgLength = builder.limit();
+                vectors[0].reset(builder.buffer(), 0, msgLength);
+                delegate.onMessage(vectors, 1, msgLength, header);
+                builder.reset();
+            }
+        }
+    }
+
+    private boolean delegateContiguousMessage(final Session session, final DirectBuffer buffer, final Header header)
+    {
+        if (!(buffer instanceof UnsafeBuffer))
+        {
+            return false;
+        }
+
+        final UnsafeBuffer termBuffer = (UnsafeBuffer)buffer;
+        final int capacity = termBuffer.capacity();
+        int frameOffset = header.offset();
+        int vectorCount = 0;
+        int msgLength = 0;
+
+        while (frameOffset < capacity)
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, frameOffset);
+            if (frameLength <= 0)
+            {
+                return false;
+            }
+
+            final int payloadLength = frameLength - HEADER_LENGTH;
+            ensureVectorCapacity(vectorCount + 1);
+            vectors[vectorCount++].reset(termBuffer, frameOffset + HEADER_LENGTH, payloadLength);
+            msgLength += payloadLength;
+
+            if ((termBuffer.getByte(flagsOffset(frameOffset)) & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                final int beginOffset = header.offset();
+                session.skipTermId = header.termId();
+                session.skipTermOffsetLimit = frameOffset + BitUtil.align(frameLength, FRAME_ALIGNMENT);
+
+                header.offset(frameOffset);
+                try
+                {
+                    delegate.onMessage(vectors, vectorCount, msgLength, header);
+                }
+                finally
+                {
+                    header.offset(beginOffset);
+                }
+
+                return true;
+            }
+
+            frameOffset += BitUtil.align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return false;
+    }
+
+    private void ensureVectorCapacity(final int required)
+    {
+        final int length = vectors.length;
+        if (required > length)
+        {
+            final int newLength = Math.max(required, length * 2);
+            vectors = Arrays.copyOf(vectors, newLength);
+            for (int i = length; i < newLength; i++)
+            {
+                vectors[i] = new DirectBufferVector();
+            }
+        }
+    }
+
+    static final class Session
+    {
+        final BufferBuilder builder;
+        int skipTermId;
+        int skipTermOffsetLimit;
+
+        Session(final int initialBufferLength)
+        {
+            builder = new BufferBuilder(initialBufferLength);
+        }
+    }
+}
@@ -27,6 +27,8 @@ public class ControlProtocolEvents
     public static final int ADD_PUBLICATION = 0x01;
     /** Remove Publication */
     public static final int REMOVE_PUBLICATION = 0x02;
+    /** Add Exclusive Publication */
+    public static final int ADD_EXCLUSIVE_PUBLICATION = 0x03;
     /** Add Subscriber */
     public static final int ADD_SUBSCRIPTION = 0x04;
     /** Remove Subscriber */
@@ -46,4 +48,6 @@ public class ControlProtocolEvents
     public static final int ON_OPERATION_SUCCESS = 0x0F04;
     /** Inform client of timeout and removal of inactive image */
     public static final int ON_UNAVAILABLE_IMAGE = 0x0F05;
+    /** New Exclusive Publication Buffer notification */
+    public static final int ON_EXCLUSIVE_PUBLICATION_READY = 0x0F06;
 }
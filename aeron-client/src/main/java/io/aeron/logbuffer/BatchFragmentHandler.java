@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Function for handling a batch of message fragments read from the log in one callback.
+ */
+@FunctionalInterface
+public interface BatchFragmentHandler
+{
+    /**
+     * Callback for handling a batch of fragments read from the log. The arrays are reused between batches and only
+     * valid for the duration of the callback.
+     *
+     * The frame header for each fragment begins {@link io.aeron.protocol.DataHeaderFlyweight#HEADER_LENGTH} bytes
+     * before its offset.
+     *
+     * @param buffer        containing the fragments.
+     * @param offsets       at which the fragment payloads begin, only the first fragmentCount are valid.
+     * @param lengths       of the fragment payloads, only the first fragmentCount are valid.
+     * @param fragmentCount number of fragments in the batch.
+     * @param header        representing the meta data for the last fragment in the batch.
+     */
+    void onFragments(DirectBuffer buffer, int[] offsets, int[] lengths, int fragmentCount, Header header);
+}
@@ -17,6 +17,7 @@ package io.aeron.logbuffer;
 
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
 
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
@@ -76,6 +77,38 @@ public class LogBufferDescriptor
      */
     public static final int LOG_TIME_OF_LAST_SM_OFFSET;
 
+    /**
+     * Offset within the log meta data where the limit up to which an IPC log has been cleaned for reuse is stored.
+     */
+    public static final int LOG_IPC_CLEAN_LIMIT_OFFSET;
+
+    /**
+     * Offset within the log meta data where the version of the IPC subscriber position ids is stored. A version of 0
+     * means publishers are not driven by the client and an odd version means the ids are being updated.
+     */
+    public static final int LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET;
+
+    /**
+     * Offset within the log meta data where the count of IPC subscriber position ids is stored.
+     */
+    public static final int LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET;
+
+    /**
+     * Offset within the log meta data where the term window length for IPC publishers is stored.
+     */
+    public static final int LOG_IPC_TERM_WINDOW_LENGTH_OFFSET;
+
+    /**
+     * Offset within the log meta data where the counter ids of IPC subscriber positions begin.
+     */
+    public static final int LOG_IPC_SUBSCRIBER_POSITION_IDS_OFFSET;
+
+    /**
+     * Maximum number of IPC subscriber position ids which can be stored in the log meta data. When exceeded the
+     * count is set to -1 and publishers rely on the publisher limit maintained by the driver.
+     */
+    public static final int LOG_IPC_SUBSCRIBER_POSITIONS_MAX_COUNT;
+
     /**
      * Offset within the log meta data where the active term id is stored.
      */
@@ -117,7 +150,14 @@ public class LogBufferDescriptor
         offset = (CACHE_LINE_LENGTH * 2);
         LOG_TIME_OF_LAST_SM_OFFSET = offset;
 
+        LOG_IPC_CLEAN_LIMIT_OFFSET = offset + CACHE_LINE_LENGTH;
+        LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET = LOG_IPC_CLEAN_LIMIT_OFFSET + SIZE_OF_LONG;
+        LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET = LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET + SIZE_OF_INT;
+        LOG_IPC_TERM_WINDOW_LENGTH_OFFSET = LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET + SIZE_OF_INT;
+        LOG_IPC_SUBSCRIBER_POSITION_IDS_OFFSET = LOG_IPC_TERM_WINDOW_LENGTH_OFFSET + SIZE_OF_INT;
+
         offset += (CACHE_LINE_LENGTH * 2);
+        LOG_IPC_SUBSCRIBER_POSITIONS_MAX_COUNT = (offset - LOG_IPC_SUBSCRIBER_POSITION_IDS_OFFSET) / SIZE_OF_INT;
         LOG_CORRELATION_ID_OFFSET = offset;
         LOG_INITIAL_TERM_ID_OFFSET = LOG_CORRELATION_ID_OFFSET + SIZE_OF_LONG;
         LOG_DEFAULT_FRAME_HEADER_LENGTH_OFFSET = LOG_INITIAL_TERM_ID_OFFSET + SIZE_OF_INT;
@@ -156,6 +196,18 @@ public class LogBufferDescriptor
      *  |                      Cache Line Padding                      ...
      * ...                                                              |
      *  +---------------------------------------------------------------+
+     *  |                        IPC Clean Limit                        |
+     *  |                                                               |
+     *  +---------------------------------------------------------------+
+     *  |               IPC Subscriber Positions Version                |
+     *  +---------------------------------------------------------------+
+     *  |                IPC Subscriber Positions Count                 |
+     *  +---------------------------------------------------------------+
+     *  |                    IPC Term Window Length                     |
+     *  +---------------------------------------------------------------+
+     *  |                IPC Subscriber Position Ids                   ...
+     * ...                                                              |
+     *  +---------------------------------------------------------------+
      *  |                 Registration / Correlation ID                 |
      *  |                                                               |
      *  +---------------------------------------------------------------+
@@ -289,6 +341,103 @@ public class LogBufferDescriptor
         logMetaDataBuffer.putLongOrdered(LOG_TIME_OF_LAST_SM_OFFSET, timeInMillis);
     }
 
+    /**
+     * Set the limit up to which an IPC log has been cleaned for reuse using memory ordered semantics.
+     *
+     * @param logMetaDataBuffer containing the meta data.
+     * @param cleanLimit        position up to which publishers can write without encountering stale data.
+     */
+    public static void ipcCleanLimit(final UnsafeBuffer logMetaDataBuffer, final long cleanLimit)
+    {
+        logMetaDataBuffer.putLongOrdered(LOG_IPC_CLEAN_LIMIT_OFFSET, cleanLimit);
+    }
+
+    /**
+     * Set the term window length which IPC publishers can be ahead of the slowest subscriber.
+     *
+     * @param logMetaDataBuffer containing the meta data.
+     * @param termWindowLength  which IPC publishers can be ahead of the slowest subscriber.
+     */
+    public static void ipcTermWindowLength(final UnsafeBuffer logMetaDataBuffer, final int termWindowLength)
+    {
+        logMetaDataBuffer.putInt(LOG_IPC_TERM_WINDOW_LENGTH_OFFSET, termWindowLength);
+    }
+
+    /**
+     * Store the counter ids of the subscriber positions for an IPC log so publishers can compute their limit
+     * directly. The ids are stored under a version which is odd while the update is in progress so readers can
+     * detect a torn read. If there are more ids than {@link #LOG_IPC_SUBSCRIBER_POSITIONS_MAX_COUNT} then the
+     * count is set to -1 and publishers rely on the limit maintained by the driver.
+     *
+     * @param logMetaDataBuffer containing the meta data.
+     * @param positionIds       of the subscriber position counters.
+     * @param count             of the position ids to be stored.
+     */
+    public static void ipcSubscriberPositionIds(
+        final UnsafeBuffer logMetaDataBuffer, final int[] positionIds, final int count)
+    {
+        final int version = logMetaDataBuffer.getInt(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET);
+        logMetaDataBuffer.putIntVolatile(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET, version + 1);
+
+        if (count > LOG_IPC_SUBSCRIBER_POSITIONS_MAX_COUNT)
+        {
+            logMetaDataBuffer.putInt(LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET, -1);
+        }
+        else
+        {
+            for (int i = 0; i < count; i++)
+            {
+                logMetaDataBuffer.putInt(LOG_IPC_SUBSCRIBER_POSITION_IDS_OFFSET + (i * SIZE_OF_INT), positionIds[i]);
+            }
+
+            logMetaDataBuffer.putInt(LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET, count);
+        }
+
+        logMetaDataBuffer.putIntOrdered(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET, version + 2);
+    }
+
+    /**
+     * Compute the limit for a publisher of an IPC log directly from the subscriber position counters rather than
+     * waiting for the driver to update the publisher limit. The limit is the position of the slowest subscriber plus
+     * the term window length, bounded by the limit to which the log has been cleaned.
+     *
+     * @param logMetaDataBuffer   containing the meta data.
+     * @param counterValuesBuffer containing the subscriber position counters.
+     * @return the limit for a publisher or 0 if it cannot be computed by the client.
+     */
+    public static long ipcPublisherLimit(final UnsafeBuffer logMetaDataBuffer, final UnsafeBuffer counterValuesBuffer)
+    {
+        final int version = logMetaDataBuffer.getIntVolatile(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET);
+        if (0 == version || (version & 1) == 1)
+        {
+            return 0;
+        }
+
+        final int count = logMetaDataBuffer.getIntVolatile(LOG_IPC_SUBSCRIBER_POSITIONS_COUNT_OFFSET);
+        if (count <= 0)
+        {
+            return 0;
+        }
+
+        long minSubscriberPosition = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++)
+        {
+            final int id = logMetaDataBuffer.getIntVolatile(LOG_IPC_SUBSCRIBER_POSITION_IDS_OFFSET + (i * SIZE_OF_INT));
+            minSubscriberPosition = Math.min(
+                minSubscriberPosition, counterValuesBuffer.getLongVolatile(CountersReader.counterOffset(id)));
+        }
+
+        final long cleanLimit = logMetaDataBuffer.getLongVolatile(LOG_IPC_CLEAN_LIMIT_OFFSET);
+        final int termWindowLength = logMetaDataBuffer.getIntVolatile(LOG_IPC_TERM_WINDOW_LENGTH_OFFSET);
+
+        if (logMetaDataBuffer.getIntVolatile(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET) != version)
+        {
+            return 0;
+        }
+
+        return Math.min(minSubscriberPosition + termWindowLength, cleanLimit);
+    }
+
     /**
      * Get the value of the active partition index used by the producer of this log. Consumers may have a different
      * active index if they are running behind. The read is done with volatile semantics.
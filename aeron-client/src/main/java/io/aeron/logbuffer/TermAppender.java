@@ -15,6 +15,7 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import io.aeron.ReservedValueSupplier;
 import org.agrona.DirectBuffer;
 import org.agrona.UnsafeAccess;
@@ -262,6 +263,209 @@ public class TermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append an unfragmented message to the the term buffer by gathering it from a vector of buffers.
+     *
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers which make up the message.
+     * @param length                of the message as a sum of the vectors.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or {@link #FAILED}
+     * packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendUnfragmentedMessage(
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int frameLength = length + HEADER_LENGTH;
+        final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+        final long rawTail = getAndAddRawTail(alignedLength);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + alignedLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId(rawTail));
+        }
+        else
+        {
+            final int offset = (int)termOffset;
+            header.write(termBuffer, offset, frameLength, termId(rawTail));
+
+            int payloadOffset = offset + HEADER_LENGTH;
+            for (final DirectBufferVector vector : vectors)
+            {
+                termBuffer.putBytes(payloadOffset, vector.buffer, vector.offset, vector.length);
+                payloadOffset += vector.length;
+            }
+
+            if (null != reservedValueSupplier)
+            {
+                final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+            }
+
+            frameLengthOrdered(termBuffer, offset, frameLength);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a fragmented message to the the term buffer by gathering it from a vector of buffers.
+     * The message will be split up into fragments of MTU length minus header.
+     *
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers which make up the message.
+     * @param length                of the message as a sum of the vectors.
+     * @param maxPayloadLength      that the message will be fragmented into.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or {@link #FAILED}
+     * packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendFragmentedMessage(
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final int maxPayloadLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int numMaxPayloads = length / maxPayloadLength;
+        final int remainingPayload = length % maxPayloadLength;
+        final int lastFrameLength = remainingPayload > 0 ? align(remainingPayload + HEADER_LENGTH, FRAME_ALIGNMENT) : 0;
+        final int requiredLength = (numMaxPayloads * (maxPayloadLength + HEADER_LENGTH)) + lastFrameLength;
+        final long rawTail = getAndAddRawTail(requiredLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = (int)termOffset;
+            byte flags = BEGIN_FRAG_FLAG;
+            int remaining = length;
+            int vectorIndex = 0;
+            int vectorOffset = 0;
+            do
+            {
+                final int bytesToWrite = Math.min(remaining, maxPayloadLength);
+                final int frameLength = bytesToWrite + HEADER_LENGTH;
+                final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+
+                header.write(termBuffer, offset, frameLength, termId);
+
+                int bytesWritten = 0;
+                int payloadOffset = offset + HEADER_LENGTH;
+                do
+                {
+                    final DirectBufferVector vector = vectors[vectorIndex];
+                    final int vectorRemaining = vector.length - vectorOffset;
+                    final int numBytes = Math.min(bytesToWrite - bytesWritten, vectorRemaining);
+
+                    termBuffer.putBytes(payloadOffset, vector.buffer, vector.offset + vectorOffset, numBytes);
+
+                    bytesWritten += numBytes;
+                    payloadOffset += numBytes;
+                    vectorOffset += numBytes;
+
+                    if (vectorRemaining <= numBytes)
+                    {
+                        vectorIndex++;
+                        vectorOffset = 0;
+                    }
+                }
+                while (bytesWritten < bytesToWrite);
+
+                if (remaining <= maxPayloadLength)
+                {
+                    flags |= END_FRAG_FLAG;
+                }
+
+                frameFlags(termBuffer, offset, flags);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                flags = 0;
+                offset += alignedLength;
+                remaining -= bytesToWrite;
+            }
+            while (remaining > 0);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a batch of unfragmented messages to the the term buffer with a single claim on the tail so the batch
+     * is contiguous in the log. Each message must be no longer than the MTU length minus header.
+     *
+     * @param header                for writing the default header.
+     * @param messages              to be appended with each vector being a whole message.
+     * @param requiredLength        of the batch in the term as the sum of the aligned frame lengths of the messages.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or {@link #FAILED}
+     * packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendUnfragmentedBatch(
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int requiredLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final long rawTail = getAndAddRawTail(requiredLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = (int)termOffset;
+            for (final DirectBufferVector message : messages)
+            {
+                final int frameLength = message.length + HEADER_LENGTH;
+
+                header.write(termBuffer, offset, frameLength, termId);
+                termBuffer.putBytes(offset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                offset += align(frameLength, FRAME_ALIGNMENT);
+            }
+        }
+
+        return resultingOffset;
+    }
 
     /**
      * Pack the values for termOffset and termId into a long for returning on the stack.
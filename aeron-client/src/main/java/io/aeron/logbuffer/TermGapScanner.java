@@ -65,6 +65,50 @@ public class TermGapScanner
         final int termOffset,
         final int limitOffset,
         final GapHandler handler)
+    {
+        return scanForGaps(termBuffer, termId, termOffset, limitOffset, 1, handler);
+    }
+
+    /**
+     * Scan for up to a maximum number of gaps from the scanOffset up to a limit offset. Each gap will be reported to
+     * the {@link GapHandler} in order of increasing offset so scattered loss can be reported in a single pass.
+     *
+     * @param termBuffer  to be scanned for gaps.
+     * @param termId      of the current term buffer.
+     * @param termOffset  at which to start scanning.
+     * @param limitOffset at which to stop scanning.
+     * @param maxGaps     to be reported before the scan stops.
+     * @param handler     to call for each gap found.
+     * @return offset of last contiguous frame before the first gap.
+     */
+    public static int scanForGaps(
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final int maxGaps,
+        final GapHandler handler)
+    {
+        int offset = scanFrames(termBuffer, termOffset, limitOffset);
+        final int gapBeginOffset = offset;
+
+        int gapCount = 0;
+        while (offset < limitOffset && gapCount < maxGaps)
+        {
+            final int gapOffset = offset;
+            offset = scanGap(termBuffer, gapOffset, limitOffset);
+            handler.onGap(termId, gapOffset, offset - gapOffset);
+
+            if (++gapCount < maxGaps && offset < limitOffset)
+            {
+                offset = scanFrames(termBuffer, offset, limitOffset);
+            }
+        }
+
+        return gapBeginOffset;
+    }
+
+    private static int scanFrames(final UnsafeBuffer termBuffer, final int termOffset, final int limitOffset)
     {
         int offset = termOffset;
         do
@@ -79,25 +123,24 @@ public class TermGapScanner
         }
         while (offset < limitOffset);
 
-        final int gapBeginOffset = offset;
-        if (offset < limitOffset)
+        return offset;
+    }
+
+    private static int scanGap(final UnsafeBuffer termBuffer, final int gapBeginOffset, final int limitOffset)
+    {
+        int offset = gapBeginOffset;
+        final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
+        while (offset < limit)
         {
-            final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
-            while (offset < limit)
-            {
-                offset += FRAME_ALIGNMENT;
+            offset += FRAME_ALIGNMENT;
 
-                if (0 != termBuffer.getIntVolatile(offset))
-                {
-                    offset -= ALIGNED_HEADER_LENGTH;
-                    break;
-                }
+            if (0 != termBuffer.getIntVolatile(offset))
+            {
+                offset -= ALIGNED_HEADER_LENGTH;
+                break;
             }
-
-            final int gapLength = (offset - gapBeginOffset) + ALIGNED_HEADER_LENGTH;
-            handler.onGap(termId, gapBeginOffset, gapLength);
         }
 
-        return gapBeginOffset;
+        return offset + ALIGNED_HEADER_LENGTH;
     }
 }
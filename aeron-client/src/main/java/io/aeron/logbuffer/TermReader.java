@@ -17,6 +17,7 @@ package io.aeron.logbuffer;
 
 import org.agrona.BitUtil;
 import org.agrona.ErrorHandler;
+import org.agrona.UnsafeAccess;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
@@ -49,10 +50,38 @@ public class TermReader
         final int fragmentsLimit,
         final Header header,
         final ErrorHandler errorHandler)
+    {
+        return read(termBuffer, termOffset, handler, fragmentsLimit, termBuffer.capacity(), header, errorHandler);
+    }
+
+    /**
+     * Reads data from a term in a log buffer up to a limit offset within the term.
+     *
+     * Fragments which begin before the limit offset are read in full so the resulting offset may exceed the limit
+     * offset by up to one fragment. If a fragmentsLimit of 0 or less is passed then at least one read will be
+     * attempted.
+     *
+     * @param termBuffer     to be read for fragments.
+     * @param termOffset     within the buffer that the read should begin.
+     * @param handler        the handler for data that has been read
+     * @param fragmentsLimit limit the number of fragments read.
+     * @param limitOffset    in the term beyond which no further fragments will be read.
+     * @param header         to be used for mapping over the header for a given fragment.
+     * @param errorHandler   to be notified if an error occurs during the callback.
+     * @return the number of fragments read
+     */
+    public static long read(
+        final UnsafeBuffer termBuffer,
+        final int termOffset,
+        final FragmentHandler handler,
+        final int fragmentsLimit,
+        final int limitOffset,
+        final Header header,
+        final ErrorHandler errorHandler)
     {
         int fragmentsRead = 0;
         int offset = termOffset;
-        final int capacity = termBuffer.capacity();
+        final int capacity = Math.min(limitOffset, termBuffer.capacity());
 
         try
         {
@@ -87,6 +116,88 @@ public class TermReader
         return pack(offset, fragmentsRead);
     }
 
+    /**
+     * Reads a batch of fragments from a term in a log buffer and delivers them in a single callback.
+     *
+     * The length of the first frame is read with a volatile load and the lengths of the remaining frames in the batch
+     * with plain loads followed by a single load fence before the payloads are delivered, rather than a volatile read
+     * per frame. Frames are committed by a release store of their length so any frame with a length observed before
+     * the fence has its contents visible after it.
+     *
+     * @param termBuffer     to be read for fragments.
+     * @param termOffset     within the buffer that the read should begin.
+     * @param handler        to which the batch of fragments is delivered.
+     * @param fragmentsLimit limit the number of fragments read which is further limited by the length of the arrays.
+     * @param offsets        into which the payload offsets of the fragments are written.
+     * @param lengths        into which the payload lengths of the fragments are written.
+     * @param header         to be used for mapping over the header of the last fragment in the batch.
+     * @param errorHandler   to be notified if an error occurs during the callback.
+     * @return the number of fragments read
+     */
+    public static long readBatch(
+        final UnsafeBuffer termBuffer,
+        final int termOffset,
+        final BatchFragmentHandler handler,
+        final int fragmentsLimit,
+        final int[] offsets,
+        final int[] lengths,
+        final Header header,
+        final ErrorHandler errorHandler)
+    {
+        final int capacity = termBuffer.capacity();
+        final int batchLimit = Math.min(fragmentsLimit, offsets.length);
+        int offset = termOffset;
+        int fragmentsRead = 0;
+
+        while (fragmentsRead < batchLimit && offset < capacity)
+        {
+            final int frameLength = 0 == fragmentsRead ?
+                frameLengthVolatile(termBuffer, offset) : frameLength(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            offsets[fragmentsRead] = offset;
+            lengths[fragmentsRead] = frameLength;
+            ++fragmentsRead;
+            offset += BitUtil.align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        if (fragmentsRead > 0)
+        {
+            UnsafeAccess.UNSAFE.loadFence();
+
+            if (isPaddingFrame(termBuffer, offsets[fragmentsRead - 1]))
+            {
+                --fragmentsRead;
+            }
+        }
+
+        if (fragmentsRead > 0)
+        {
+            for (int i = 0; i < fragmentsRead; i++)
+            {
+                offsets[i] += HEADER_LENGTH;
+                lengths[i] -= HEADER_LENGTH;
+            }
+
+            header.buffer(termBuffer);
+            header.offset(offsets[fragmentsRead - 1] - HEADER_LENGTH);
+
+            try
+            {
+                handler.onFragments(termBuffer, offsets, lengths, fragmentsRead, header);
+            }
+            catch (final Throwable t)
+            {
+                errorHandler.onError(t);
+            }
+        }
+
+        return pack(offset, fragmentsRead);
+    }
+
     /**
      * Pack the values for fragmentsRead and offset into a long for returning on the stack.
      *
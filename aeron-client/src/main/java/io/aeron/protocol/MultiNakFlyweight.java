@@ -0,0 +1,265 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Flyweight for a Multi-range Nak Packet which requests retransmission of several gaps within a single term.
+ *
+ * The fixed header is followed by {@link #rangeCount()} ranges each made up of a term offset and length.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +---------------------------------------------------------------+
+ *  |                          Frame Length                         |
+ *  +---------------+---------------+-------------------------------+
+ *  |   Version     |     Flags     |         Type (=0x07)          |
+ *  +---------------+---------------+-------------------------------+
+ *  |                          Session ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                            Term ID                            |
+ *  +---------------------------------------------------------------+
+ *  |                          Range Count                          |
+ *  +---------------------------------------------------------------+
+ *  |                        Term Offset 0                          |
+ *  +---------------------------------------------------------------+
+ *  |                           Length 0                            |
+ *  +---------------------------------------------------------------+
+ *  |                              ...                             ...
+ *  +---------------------------------------------------------------+
+ * </pre>
+ *
+ * @see NakFlyweight
+ */
+public class MultiNakFlyweight extends HeaderFlyweight
+{
+    public static final int HEADER_LENGTH = 24;
+    public static final int RANGE_LENGTH = 8;
+
+    private static final int SESSION_ID_FIELD_OFFSET = 8;
+    private static final int STREAM_ID_FIELD_OFFSET = 12;
+    private static final int TERM_ID_FIELD_OFFSET = 16;
+    private static final int RANGE_COUNT_FIELD_OFFSET = 20;
+    private static final int RANGE_TERM_OFFSET_FIELD_OFFSET = 0;
+    private static final int RANGE_LENGTH_FIELD_OFFSET = 4;
+
+    public MultiNakFlyweight()
+    {
+    }
+
+    public MultiNakFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    public MultiNakFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * The length of a frame carrying a given number of ranges.
+     *
+     * @param rangeCount carried in the frame.
+     * @return the length of the frame in bytes.
+     */
+    public static int computeFrameLength(final int rangeCount)
+    {
+        return HEADER_LENGTH + (rangeCount * RANGE_LENGTH);
+    }
+
+    /**
+     * return session id field
+     *
+     * @return session id field
+     */
+    public int sessionId()
+    {
+        return getInt(SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set session id field
+     *
+     * @param sessionId field value
+     * @return flyweight
+     */
+    public MultiNakFlyweight sessionId(final int sessionId)
+    {
+        putInt(SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return stream id field
+     *
+     * @return stream id field
+     */
+    public int streamId()
+    {
+        return getInt(STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set stream id field
+     *
+     * @param streamId field value
+     * @return flyweight
+     */
+    public MultiNakFlyweight streamId(final int streamId)
+    {
+        putInt(STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return term id field
+     *
+     * @return term id field
+     */
+    public int termId()
+    {
+        return getInt(TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set term id field
+     *
+     * @param termId field value
+     * @return flyweight
+     */
+    public MultiNakFlyweight termId(final int termId)
+    {
+        putInt(TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return range count field
+     *
+     * @return range count field
+     */
+    public int rangeCount()
+    {
+        return getInt(RANGE_COUNT_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set range count field and the frame length to match.
+     *
+     * @param rangeCount field value
+     * @return flyweight
+     */
+    public MultiNakFlyweight rangeCount(final int rangeCount)
+    {
+        putInt(RANGE_COUNT_FIELD_OFFSET, rangeCount, LITTLE_ENDIAN);
+        frameLength(computeFrameLength(rangeCount));
+
+        return this;
+    }
+
+    /**
+     * The number of ranges which are contained within the frame length and the underlying buffer.
+     *
+     * @return the number of ranges which can be safely read.
+     */
+    public int validRangeCount()
+    {
+        final int frameLength = Math.min(frameLength(), capacity());
+        final int maxRangeCount = frameLength >= HEADER_LENGTH ? (frameLength - HEADER_LENGTH) / RANGE_LENGTH : 0;
+
+        return Math.max(0, Math.min(rangeCount(), maxRangeCount));
+    }
+
+    /**
+     * return term offset field for a range
+     *
+     * @param index of the range
+     * @return term offset field
+     */
+    public int termOffset(final int index)
+    {
+        return getInt(rangeOffset(index) + RANGE_TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * return length field for a range
+     *
+     * @param index of the range
+     * @return length field
+     */
+    public int length(final int index)
+    {
+        return getInt(rangeOffset(index) + RANGE_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set the term offset and length fields for a range
+     *
+     * @param index      of the range
+     * @param termOffset field value
+     * @param length     field value
+     * @return flyweight
+     */
+    public MultiNakFlyweight range(final int index, final int termOffset, final int length)
+    {
+        final int offset = rangeOffset(index);
+        putInt(offset + RANGE_TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+        putInt(offset + RANGE_LENGTH_FIELD_OFFSET, length, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        final String formattedFlags = String.format("%1$8s", Integer.toBinaryString(flags())).replace(' ', '0');
+
+        sb.append("Multi NAK Message{")
+            .append("frame_length=").append(frameLength())
+            .append(" version=").append(version())
+            .append(" flags=").append(formattedFlags)
+            .append(" type=").append(headerType())
+            .append(" session_id=").append(sessionId())
+            .append(" stream_id=").append(streamId())
+            .append(" term_id=").append(termId())
+            .append(" ranges=[");
+
+        for (int i = 0, count = validRangeCount(); i < count; i++)
+        {
+            sb.append(i > 0 ? " " : "").append(termOffset(i)).append(':').append(length(i));
+        }
+
+        sb.append("]}");
+
+        return sb.toString();
+    }
+
+    private static int rangeOffset(final int index)
+    {
+        return HEADER_LENGTH + (index * RANGE_LENGTH);
+    }
+}
@@ -44,7 +44,9 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 import static io.aeron.ErrorCode.INVALID_CHANNEL;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
@@ -87,7 +89,8 @@ public class ClientConductorTest
     private final UnsafeBuffer counterValuesBuffer = new UnsafeBuffer(allocateDirect(COUNTER_BUFFER_LENGTH));
 
     private final EpochClock epochClock = new SystemEpochClock();
-    private final NanoClock nanoClock = new SystemNanoClock();
+    private long nanoTimeOffsetNs = 0;
+    private final NanoClock nanoClock = () -> System.nanoTime() + nanoTimeOffsetNs;
     private final ErrorHandler mockClientErrorHandler = spy(new PrintError());
 
     private DriverProxy driverProxy;
@@ -385,6 +388,79 @@ public class ClientConductorTest
         assertThat(publication.registrationId(), is(CORRELATION_ID));
     }
 
+    @Test
+    public void asyncAddPublicationShouldCompleteOnReadyMessage()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        verify(driverProxy).addPublication(CHANNEL, STREAM_ID_1);
+        assertThat(registrationId, is(CORRELATION_ID));
+        assertNull(conductor.getPublication(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+        conductor.doWork();
+
+        final Publication publication = conductor.getPublication(registrationId);
+        assertThat(publication.registrationId(), is(CORRELATION_ID));
+        verify(logBuffersFactory).map(SESSION_ID_1 + "-log", READ_WRITE);
+    }
+
+    @Test
+    public void asyncAddPublicationShouldShareExistingPublicationAndReleaseDuplicateRegistration()
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        final Publication firstPublication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        when(driverProxy.addPublication(CHANNEL, STREAM_ID_1)).thenReturn(CORRELATION_ID_2);
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) ->
+            {
+                publicationReady.correlationId(CORRELATION_ID_2);
+                return publicationReady.length();
+            });
+        conductor.doWork();
+
+        assertThat(conductor.getPublication(registrationId), sameInstance(firstPublication));
+        verify(driverProxy).removePublication(CORRELATION_ID_2);
+        verify(logBuffersFactory, times(1)).map(anyString(), any(FileChannel.MapMode.class));
+
+        firstPublication.close();
+        verify(driverProxy, never()).removePublication(CORRELATION_ID);
+    }
+
+    @Test(expected = RegistrationException.class)
+    public void asyncAddPublicationShouldFailOnMediaDriverError()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+        conductor.doWork();
+
+        conductor.getPublication(registrationId);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPublicationShouldFailForUnknownRegistrationId()
+    {
+        conductor.getPublication(UNKNOWN_CORRELATION_ID);
+    }
+
     // ---------------------------------
     // Subscription related interactions
     // ---------------------------------
@@ -503,6 +579,87 @@ public class ClientConductorTest
         assertTrue(subscription.hasNoImages());
     }
 
+    @Test
+    public void asyncAddSubscriptionShouldCompleteOnOperationSuccess()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        verify(driverProxy).addSubscription(CHANNEL, STREAM_ID_1);
+        assertNull(conductor.getSubscription(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS,
+            correlatedMessageBuffer,
+            (buffer) ->
+            {
+                correlatedMessage.correlationId(CORRELATION_ID);
+                return CorrelatedMessageFlyweight.LENGTH;
+            });
+        conductor.doWork();
+
+        final Subscription subscription = conductor.getSubscription(registrationId);
+        assertThat(subscription.registrationId(), is(CORRELATION_ID));
+
+        conductor.onAvailableImage(
+            STREAM_ID_1, SESSION_ID_1, subscriberPositionMap, SESSION_ID_1 + "-log", SOURCE_INFO, CORRELATION_ID);
+
+        assertFalse(subscription.hasNoImages());
+    }
+
+    @Test
+    public void asyncAddSubscriptionShouldRemoveSubscriptionFromDriverOnTimeout()
+    {
+        when(driverProxy.timeOfLastDriverKeepalive()).thenAnswer((invocation) -> epochClock.time());
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        nanoTimeOffsetNs += TimeUnit.MILLISECONDS.toNanos(INTER_SERVICE_TIMEOUT_MS / 2 + 100);
+        conductor.doWork();
+        nanoTimeOffsetNs += TimeUnit.MILLISECONDS.toNanos(INTER_SERVICE_TIMEOUT_MS / 2 + 100);
+        conductor.doWork();
+
+        verify(driverProxy).removeSubscription(CORRELATION_ID);
+        try
+        {
+            conductor.getSubscription(registrationId);
+            fail("expected DriverTimeoutException");
+        }
+        catch (final DriverTimeoutException ignore)
+        {
+        }
+    }
+
+    @Test
+    public void asyncAddSubscriptionShouldFailOnMediaDriverError()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+        conductor.doWork();
+
+        try
+        {
+            conductor.getSubscription(registrationId);
+            fail("expected RegistrationException");
+        }
+        catch (final RegistrationException ignore)
+        {
+        }
+
+        conductor.onAvailableImage(
+            STREAM_ID_1, SESSION_ID_1, subscriberPositionMap, SESSION_ID_1 + "-log", SOURCE_INFO, CORRELATION_ID);
+
+        verify(mockAvailableImageHandler, never()).onAvailableImage(any(Image.class));
+    }
+
     @Test
     public void shouldIgnoreUnknownNewImage()
     {
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.BufferClaim;
+import io.aeron.logbuffer.FrameDescriptor;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.ReadablePosition;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.concurrent.locks.Lock;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.align;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ExclusivePublicationTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40124";
+    private static final int STREAM_ID_1 = 2;
+    private static final int SESSION_ID_1 = 13;
+    private static final int TERM_ID_1 = 1;
+    private static final int CORRELATION_ID = 2000;
+    private static final int MTU_LENGTH = 1408;
+    private static final int MESSAGE_LENGTH = 200;
+    private static final int PARTITION_INDEX = 0;
+
+    private final UnsafeBuffer sendBuffer = new UnsafeBuffer(allocateDirect(MESSAGE_LENGTH));
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+    private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
+
+    private final Lock conductorLock = mock(Lock.class);
+    private final ClientConductor conductor = mock(ClientConductor.class);
+    private final LogBuffers logBuffers = mock(LogBuffers.class);
+    private final ReadablePosition publicationLimit = mock(ReadablePosition.class);
+    private ExclusivePublication publication;
+
+    @Before
+    public void setUp()
+    {
+        when(publicationLimit.getVolatile()).thenReturn(Long.MAX_VALUE);
+        when(logBuffers.termBuffers()).thenReturn(termBuffers);
+        when(logBuffers.termLength()).thenReturn(TERM_MIN_LENGTH);
+        when(logBuffers.metaDataBuffer()).thenReturn(logMetaDataBuffer);
+        when(conductor.mainLock()).thenReturn(conductorLock);
+
+        initialTermId(logMetaDataBuffer, TERM_ID_1);
+        mtuLength(logMetaDataBuffer, MTU_LENGTH);
+        timeOfLastStatusMessage(logMetaDataBuffer, 0);
+        initialiseTailWithTermId(logMetaDataBuffer, PARTITION_INDEX, TERM_ID_1);
+
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            termBuffers[i] = new UnsafeBuffer(allocateDirect(TERM_MIN_LENGTH));
+        }
+
+        publication = new ExclusivePublication(
+            conductor,
+            CHANNEL,
+            STREAM_ID_1,
+            SESSION_ID_1,
+            publicationLimit,
+            logBuffers,
+            CORRELATION_ID);
+    }
+
+    @Test
+    public void shouldReleaseOnCloseUnderConductorLock()
+    {
+        publication.close();
+
+        assertTrue(publication.isClosed());
+        assertThat(publication.position(), is(Publication.CLOSED));
+        assertThat(publication.offer(sendBuffer), is(Publication.CLOSED));
+        assertThat(publication.tryClaim(MESSAGE_LENGTH, new BufferClaim()), is(Publication.CLOSED));
+
+        final InOrder inOrder = Mockito.inOrder(conductorLock, conductor);
+        inOrder.verify(conductorLock).lock();
+        inOrder.verify(conductor).releaseExclusivePublication(publication);
+        inOrder.verify(conductorLock).unlock();
+    }
+
+    @Test
+    public void shouldReportInitialPosition()
+    {
+        assertThat(publication.position(), is(0L));
+    }
+
+    @Test
+    public void shouldAdvanceTailWithOfferAndClaim()
+    {
+        final int alignedLength = align(MESSAGE_LENGTH + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+
+        assertThat(publication.offer(sendBuffer), is((long)alignedLength));
+
+        final BufferClaim bufferClaim = new BufferClaim();
+        assertThat(publication.tryClaim(MESSAGE_LENGTH, bufferClaim), is((long)alignedLength * 2));
+        bufferClaim.commit();
+
+        final long rawTail = rawTailVolatile(logMetaDataBuffer);
+        assertThat(termId(rawTail), is(TERM_ID_1));
+        assertThat(termOffset(rawTail, TERM_MIN_LENGTH), is(alignedLength * 2));
+        assertThat(publication.position(), is((long)alignedLength * 2));
+    }
+
+    @Test
+    public void shouldOfferFragmentedMessageGatheredFromVectors()
+    {
+        final int maxPayloadLength = publication.maxPayloadLength();
+        final UnsafeBuffer payload = new UnsafeBuffer(allocateDirect(maxPayloadLength));
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(sendBuffer, 0, MESSAGE_LENGTH),
+            new DirectBufferVector(payload, 0, maxPayloadLength)
+        };
+        final int lastFrameLength = MESSAGE_LENGTH + HEADER_LENGTH;
+        final int requiredLength = (maxPayloadLength + HEADER_LENGTH) + align(lastFrameLength, FRAME_ALIGNMENT);
+
+        assertThat(publication.offer(vectors), is((long)requiredLength));
+        assertThat(termBuffers[PARTITION_INDEX].getInt(0), is(MTU_LENGTH));
+        assertThat(termBuffers[PARTITION_INDEX].getInt(MTU_LENGTH), is(lastFrameLength));
+        assertThat(publication.position(), is((long)requiredLength));
+    }
+
+    @Test
+    public void shouldBackPressureWhenLimitReached()
+    {
+        when(publicationLimit.getVolatile()).thenReturn(0L);
+        when(conductor.isPublicationConnected(anyLong())).thenReturn(true);
+
+        assertThat(publication.offer(sendBuffer), is(Publication.BACK_PRESSURED));
+    }
+
+    @Test
+    public void shouldRotateToNextTermWhenTermIsFilled()
+    {
+        final int alignedLength = align(MESSAGE_LENGTH + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+
+        long result;
+        while ((result = publication.offer(sendBuffer)) > 0)
+        {
+            assertThat(result % alignedLength, is(0L));
+        }
+
+        assertThat(result, is(Publication.ADMIN_ACTION));
+        assertThat(activePartitionIndex(logMetaDataBuffer), is(PARTITION_INDEX + 1));
+        assertThat(publication.position(), is((long)TERM_MIN_LENGTH));
+
+        assertThat(publication.offer(sendBuffer), is((long)TERM_MIN_LENGTH + alignedLength));
+
+        final long rawTail = rawTailVolatile(logMetaDataBuffer);
+        assertThat(termId(rawTail), is(TERM_ID_1 + 1));
+        assertThat(termOffset(rawTail, TERM_MIN_LENGTH), is(alignedLength));
+    }
+}
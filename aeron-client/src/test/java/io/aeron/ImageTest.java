@@ -307,6 +307,82 @@ public class ImageTest
         inOrder.verify(position).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 2));
     }
 
+    @Test
+    public void shouldLimitPollToLengthLimitWithWholeFragments()
+    {
+        position.setOrdered(0);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE, ALIGNED_FRAME_LENGTH + 1), is(2));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH * 2));
+
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE, 1), is(1));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH * 3));
+    }
+
+    @Test
+    public void shouldRepayOverrunOfFairShareFromSubsequentQuanta()
+    {
+        position.setOrdered(0);
+        final Image image = createImage();
+        final int quantum = ALIGNED_FRAME_LENGTH / 2;
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        assertThat(image.fairSharePoll(mockFragmentHandler, Integer.MAX_VALUE, quantum), is(1));
+        assertThat(image.fairSharePoll(mockFragmentHandler, Integer.MAX_VALUE, quantum), is(0));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH));
+
+        assertThat(image.fairSharePoll(mockFragmentHandler, Integer.MAX_VALUE, quantum), is(1));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH * 2));
+    }
+
+    @Test
+    public void shouldBatchPollFragmentsInSingleCallback()
+    {
+        position.setOrdered(0);
+        final Image image = createImage();
+        final int[] batchSizes = new int[2];
+        final int[] batchCount = new int[1];
+        final BatchFragmentHandler handler =
+            (buffer, offsets, lengths, fragmentCount, header) ->
+            {
+                batchSizes[batchCount[0]++] = fragmentCount;
+                for (int i = 0; i < fragmentCount; i++)
+                {
+                    assertThat(lengths[i], is(DATA.length));
+                    assertThat(buffer.getByte(offsets[i]), is(DATA[0]));
+                }
+
+                assertThat(header.termOffset(), is(offsets[fragmentCount - 1] - HEADER_LENGTH));
+            };
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        assertThat(image.batchPoll(handler, 2), is(2));
+        assertThat(image.batchPoll(handler, 2), is(1));
+        assertThat(image.batchPoll(handler, 2), is(0));
+
+        assertThat(batchCount[0], is(2));
+        assertThat(batchSizes[0], is(2));
+        assertThat(batchSizes[1], is(1));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH * 3));
+        verify(errorHandler, never()).onError(any());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectWeightLessThanOne()
+    {
+        createImage().weight(0);
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteOrder;
+
+import static io.aeron.ReassemblyBufferPool.PAGE_SIZE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class PooledFragmentAssemblerTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int INITIAL_TERM_ID = 3;
+    private static final int MAX_MESSAGE_LENGTH = PAGE_SIZE * 4;
+
+    private final FragmentHandler delegateFragmentHandler = mock(FragmentHandler.class);
+    private final UnsafeBuffer termBuffer = mock(UnsafeBuffer.class);
+    private final Header header = spy(new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH));
+    private final ReassemblyBufferPool pool = new ReassemblyBufferPool(MAX_MESSAGE_LENGTH);
+    private final PooledFragmentAssembler adapter =
+        new PooledFragmentAssembler(delegateFragmentHandler, pool, MAX_MESSAGE_LENGTH);
+
+    @Before
+    public void setUp()
+    {
+        header.buffer(termBuffer);
+        when(termBuffer.getInt(anyInt(), any(ByteOrder.class))).thenReturn(SESSION_ID);
+    }
+
+    @Test
+    public void shouldPassThroughUnfragmentedMessage()
+    {
+        when(header.flags()).thenReturn(FrameDescriptor.UNFRAGMENTED);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+
+        adapter.onFragment(srcBuffer, 8, 32, header);
+
+        verify(delegateFragmentHandler, times(1)).onFragment(srcBuffer, 8, 32, header);
+        assertThat(pool.misses(), is(0L));
+    }
+
+    @Test
+    public void shouldAssembleMessageGrowingAcrossSizeClasses()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final int length = PAGE_SIZE;
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[length * 3]);
+        for (int i = 0; i < 3; i++)
+        {
+            srcBuffer.setMemory(i * length, length, (byte)(65 + i));
+        }
+
+        adapter.onFragment(srcBuffer, 0, length, header);
+        adapter.onFragment(srcBuffer, length, length, header);
+        adapter.onFragment(srcBuffer, length * 2, length, header);
+
+        final ArgumentCaptor<DirectBuffer> bufferArg = ArgumentCaptor.forClass(DirectBuffer.class);
+        verify(delegateFragmentHandler, times(1)).onFragment(
+            bufferArg.capture(), eq(0), eq(length * 3), any(Header.class));
+
+        final DirectBuffer capturedBuffer = bufferArg.getValue();
+        for (int i = 0; i < srcBuffer.capacity(); i++)
+        {
+            assertThat("same at i=" + i, capturedBuffer.getByte(i), is(srcBuffer.getByte(i)));
+        }
+
+        assertThat(pool.allocatedLength(), is(0L));
+        assertThat(pool.peakAllocatedLength(), is((long)PAGE_SIZE * 6));
+    }
+
+    @Test
+    public void shouldReuseBufferFromPoolForNextMessage()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+
+        for (int i = 0; i < 2; i++)
+        {
+            adapter.onFragment(srcBuffer, 0, 512, header);
+            adapter.onFragment(srcBuffer, 512, 512, header);
+        }
+
+        verify(delegateFragmentHandler, times(2)).onFragment(any(DirectBuffer.class), eq(0), eq(1024), eq(header));
+        assertThat(pool.misses(), is(1L));
+        assertThat(pool.hits(), is(1L));
+    }
+
+    @Test
+    public void shouldDropMessageExceedingMaxMessageLength()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MAX_MESSAGE_LENGTH]);
+
+        adapter.onFragment(srcBuffer, 0, MAX_MESSAGE_LENGTH, header);
+        adapter.onFragment(srcBuffer, 0, 1, header);
+        adapter.onFragment(srcBuffer, 0, 1, header);
+
+        verify(delegateFragmentHandler, never()).onFragment(
+            any(DirectBuffer.class), anyInt(), anyInt(), any(Header.class));
+        assertThat(adapter.droppedMessages(), is(1L));
+        assertThat(pool.allocatedLength(), is(0L));
+    }
+
+    @Test
+    public void shouldFreeSessionWhenImageUnavailable()
+    {
+        when(header.flags()).thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG);
+        final Image image = mock(Image.class);
+        when(image.sessionId()).thenReturn(SESSION_ID);
+
+        adapter.onFragment(new UnsafeBuffer(new byte[128]), 0, 128, header);
+        assertThat(pool.allocatedLength(), is((long)PAGE_SIZE));
+
+        adapter.onUnavailableImage(image);
+
+        assertThat(pool.allocatedLength(), is(0L));
+        assertFalse(adapter.freeSessionBuffer(SESSION_ID));
+    }
+}
@@ -19,8 +19,10 @@ import org.junit.Before;
 import org.junit.Test;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.TermAppender;
 
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
 import org.agrona.concurrent.status.ReadablePosition;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
@@ -29,12 +31,15 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.locks.Lock;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
 
 public class PublicationTest
 {
@@ -44,6 +49,7 @@ public class PublicationTest
     private static final int TERM_ID_1 = 1;
     private static final int CORRELATION_ID = 2000;
     private static final int SEND_BUFFER_CAPACITY = 1024;
+    private static final int MTU_LENGTH = 1408;
     public static final int PARTITION_INDEX = 0;
 
     private final ByteBuffer sendBuffer = allocateDirect(SEND_BUFFER_CAPACITY);
@@ -67,6 +73,7 @@ public class PublicationTest
         when(conductor.mainLock()).thenReturn(conductorLock);
 
         initialTermId(logMetaDataBuffer, TERM_ID_1);
+        mtuLength(logMetaDataBuffer, MTU_LENGTH);
         timeOfLastStatusMessage(logMetaDataBuffer, 0);
 
         for (int i = 0; i < PARTITION_COUNT; i++)
@@ -137,6 +144,94 @@ public class PublicationTest
         assertThat(publication.position(), is(0L));
     }
 
+    @Test
+    public void shouldOfferMessageGatheredFromVectors()
+    {
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(atomicSendBuffer, 0, 8),
+            new DirectBufferVector(atomicSendBuffer, 100, 92)
+        };
+        final int alignedLength = align(100 + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+
+        assertThat(publication.offer(vectors), is((long)alignedLength));
+        assertThat(termBuffers[PARTITION_INDEX].getInt(0), is(100 + HEADER_LENGTH));
+    }
+
+    @Test
+    public void shouldOfferBatchAndReportPositionOfEachMessage()
+    {
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(atomicSendBuffer, 0, 20),
+            new DirectBufferVector(atomicSendBuffer, 0, 100),
+            new DirectBufferVector(atomicSendBuffer, 0, 40)
+        };
+        final long[] positions = new long[messages.length];
+        final int firstAligned = align(20 + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+        final int secondAligned = align(100 + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+        final int thirdAligned = align(40 + HEADER_LENGTH, FrameDescriptor.FRAME_ALIGNMENT);
+        final long expectedPosition = firstAligned + secondAligned + thirdAligned;
+
+        assertThat(publication.offerBatch(messages, positions), is(expectedPosition));
+        assertThat(positions[0], is((long)firstAligned));
+        assertThat(positions[1], is((long)(firstAligned + secondAligned)));
+        assertThat(positions[2], is(expectedPosition));
+        assertThat(
+            rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(TermAppender.pack(TERM_ID_1, (int)expectedPosition)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyBatch()
+    {
+        publication.offerBatch(new DirectBufferVector[0], new long[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBatchMessageLongerThanMaxPayloadLength()
+    {
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(new UnsafeBuffer(new byte[MTU_LENGTH]), 0, MTU_LENGTH)
+        };
+
+        publication.offerBatch(messages, new long[1]);
+    }
+
+    @Test
+    public void shouldOfferBeyondDriverLimitWhenIpcSubscribersHaveConsumed()
+    {
+        final UnsafeBuffer counterValuesBuffer = new UnsafeBuffer(allocateDirect(SEND_BUFFER_CAPACITY));
+        final int subscriberPositionId = 1;
+        counterValuesBuffer.putLongOrdered(CountersReader.counterOffset(subscriberPositionId), 0);
+
+        ipcTermWindowLength(logMetaDataBuffer, TERM_MIN_LENGTH / 2);
+        ipcCleanLimit(logMetaDataBuffer, TERM_MIN_LENGTH * 2);
+        ipcSubscriberPositionIds(logMetaDataBuffer, new int[]{ subscriberPositionId }, 1);
+
+        when(publicationLimit.getVolatile()).thenReturn(0L);
+        when(conductor.counterValuesBuffer()).thenReturn(counterValuesBuffer);
+
+        final Publication ipcPublication = new Publication(
+            conductor, CHANNEL, STREAM_ID_1, SESSION_ID_1, publicationLimit, logBuffers, CORRELATION_ID);
+
+        assertThat(ipcPublication.positionLimit(), is((long)TERM_MIN_LENGTH / 2));
+        assertThat(ipcPublication.offer(atomicSendBuffer, 0, 100), greaterThan(0L));
+    }
+
+    @Test
+    public void shouldBackPressureWhenIpcSubscriberPositionsAreBeingUpdated()
+    {
+        ipcTermWindowLength(logMetaDataBuffer, TERM_MIN_LENGTH / 2);
+        ipcCleanLimit(logMetaDataBuffer, TERM_MIN_LENGTH * 2);
+        logMetaDataBuffer.putInt(LOG_IPC_SUBSCRIBER_POSITIONS_VERSION_OFFSET, 1);
+
+        when(publicationLimit.getVolatile()).thenReturn(0L);
+        when(conductor.isPublicationConnected(anyLong())).thenReturn(true);
+
+        assertThat(publication.offer(atomicSendBuffer, 0, 100), is(Publication.BACK_PRESSURED));
+    }
+
     @Test
     public void shouldReportMaxMessageLength()
     {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import static io.aeron.ReassemblyBufferPool.PAGE_SIZE;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ReassemblyBufferPoolTest
+{
+    private static final int MAX_BUFFER_LENGTH = 64 * 1024;
+
+    private final ReassemblyBufferPool pool = new ReassemblyBufferPool(PAGE_SIZE, MAX_BUFFER_LENGTH, 1);
+
+    @Test
+    public void shouldAcquirePageAlignedBufferOfSizeClass()
+    {
+        final UnsafeBuffer buffer = pool.acquire(PAGE_SIZE + 1);
+
+        assertThat(buffer.capacity(), is(PAGE_SIZE * 2));
+        assertThat(buffer.addressOffset() % PAGE_SIZE, is(0L));
+        assertThat(pool.misses(), is(1L));
+        assertThat(pool.allocatedLength(), is((long)PAGE_SIZE * 2));
+    }
+
+    @Test
+    public void shouldReuseReleasedBufferForSameSizeClass()
+    {
+        final UnsafeBuffer buffer = pool.acquire(100);
+        pool.release(buffer);
+
+        assertThat(pool.acquire(PAGE_SIZE), is(buffer));
+        assertThat(pool.hits(), is(1L));
+        assertThat(pool.misses(), is(1L));
+    }
+
+    @Test
+    public void shouldTrackPeakAllocatedLength()
+    {
+        final UnsafeBuffer small = pool.acquire(PAGE_SIZE);
+        final UnsafeBuffer large = pool.acquire(MAX_BUFFER_LENGTH);
+        pool.release(large);
+        pool.release(small);
+
+        assertThat(pool.allocatedLength(), is(0L));
+        assertThat(pool.peakAllocatedLength(), is((long)PAGE_SIZE + MAX_BUFFER_LENGTH));
+    }
+
+    @Test
+    public void shouldNotRetainMoreThanBuffersPerSizeClass()
+    {
+        final UnsafeBuffer first = pool.acquire(PAGE_SIZE);
+        final UnsafeBuffer second = pool.acquire(PAGE_SIZE);
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire(PAGE_SIZE), is(first));
+        pool.acquire(PAGE_SIZE);
+        assertThat(pool.misses(), is(3L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectLengthGreaterThanMaxBufferLength()
+    {
+        pool.acquire(MAX_BUFFER_LENGTH + 1);
+    }
+}
@@ -136,4 +136,36 @@ public class SubscriptionTest
 
         assertThat(subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT), is(2));
     }
+
+    @Test
+    public void shouldShareFairPollBudgetByImageWeight()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        when(imageOneMock.weight()).thenReturn(1);
+        when(imageTwoMock.weight()).thenReturn(3);
+        when(imageOneMock.fairSharePoll(any(FragmentHandler.class), anyInt(), anyInt())).thenReturn(1);
+        when(imageTwoMock.fairSharePoll(any(FragmentHandler.class), anyInt(), anyInt())).thenReturn(3);
+
+        assertThat(subscription.fairPoll(fragmentHandler, 8, 4096), is(4));
+
+        verify(imageOneMock).fairSharePoll(fragmentHandler, 2, 1024);
+        verify(imageTwoMock).fairSharePoll(fragmentHandler, 6, 3072);
+    }
+
+    @Test
+    public void shouldGiveEachImageAtLeastOneFragmentInFairPoll()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        when(imageOneMock.weight()).thenReturn(1);
+        when(imageTwoMock.weight()).thenReturn(1);
+
+        assertThat(subscription.fairPoll(fragmentHandler, 1, 1), is(0));
+
+        verify(imageOneMock).fairSharePoll(fragmentHandler, 1, 1);
+        verify(imageTwoMock).fairSharePoll(fragmentHandler, 1, 1);
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.*;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class ZeroCopyFragmentAssemblerTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int STREAM_ID = 3;
+    private static final int TERM_ID = 7;
+    private static final int PARTITION_INDEX = 0;
+    private static final int MAX_PAYLOAD_LENGTH = 1024 - HEADER_LENGTH;
+    private static final int MESSAGE_LENGTH = (MAX_PAYLOAD_LENGTH * 2) + 100;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(TERM_MIN_LENGTH));
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+    private final HeaderWriter headerWriter = new HeaderWriter(createDefaultHeader(SESSION_ID, STREAM_ID, TERM_ID));
+    private final Header header = new Header(TERM_ID, Integer.numberOfTrailingZeros(TERM_MIN_LENGTH));
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final List<DirectBufferVector> delivered = new ArrayList<>();
+    private final UnsafeBuffer messageCopy = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+    private int messageCount = 0;
+    private int lastFlags;
+
+    private final ZeroCopyFragmentAssembler assembler = new ZeroCopyFragmentAssembler(
+        (vectors, vectorCount, length, header) ->
+        {
+            messageCount++;
+            lastFlags = header.flags();
+            delivered.clear();
+
+            int offset = 0;
+            for (int i = 0; i < vectorCount; i++)
+            {
+                final DirectBufferVector vector = vectors[i];
+                delivered.add(new DirectBufferVector(vector.buffer, vector.offset, vector.length));
+                messageCopy.putBytes(offset, vector.buffer, vector.offset, vector.length);
+                offset += vector.length;
+            }
+
+            assertThat(offset, is(length));
+        });
+
+    private TermAppender termAppender;
+
+    @Before
+    public void setUp()
+    {
+        initialiseTailWithTermId(logMetaDataBuffer, PARTITION_INDEX, TERM_ID);
+        termAppender = new TermAppender(termBuffer, logMetaDataBuffer, PARTITION_INDEX);
+
+        for (int i = 0; i < MESSAGE_LENGTH; i++)
+        {
+            srcBuffer.putByte(i, (byte)i);
+        }
+    }
+
+    @After
+    public void tearDown()
+    {
+        verifyZeroInteractions(errorHandler);
+    }
+
+    @Test
+    public void shouldDelegateUnfragmentedMessageWithoutCopy()
+    {
+        termAppender.appendUnfragmentedMessage(headerWriter, srcBuffer, 0, 100, null);
+
+        TermReader.read(termBuffer, 0, assembler, Integer.MAX_VALUE, header, errorHandler);
+
+        assertThat(messageCount, is(1));
+        assertThat(delivered.size(), is(1));
+        assertThat(delivered.get(0).buffer, sameInstance(termBuffer));
+        assertThat(delivered.get(0).offset, is(HEADER_LENGTH));
+    }
+
+    @Test
+    public void shouldDelegateContiguousFragmentedMessageAsVectorsOverTerm()
+    {
+        termAppender.appendFragmentedMessage(headerWriter, srcBuffer, 0, MESSAGE_LENGTH, MAX_PAYLOAD_LENGTH, null);
+
+        final long outcome = TermReader.read(termBuffer, 0, assembler, Integer.MAX_VALUE, header, errorHandler);
+
+        assertThat(TermReader.fragmentsRead(outcome), is(3));
+        assertThat(messageCount, is(1));
+        assertThat(delivered.size(), is(3));
+        for (final DirectBufferVector vector : delivered)
+        {
+            assertThat(vector.buffer, sameInstance(termBuffer));
+        }
+
+        assertThat((byte)lastFlags, is(END_FRAG_FLAG));
+        assertMessageMatchesSource();
+    }
+
+    @Test
+    public void shouldCopyFragmentsWhenMessageIsIncompleteInTerm()
+    {
+        termAppender.appendFragmentedMessage(headerWriter, srcBuffer, 0, MESSAGE_LENGTH, MAX_PAYLOAD_LENGTH, null);
+
+        final int lastFrameOffset = (MAX_PAYLOAD_LENGTH + HEADER_LENGTH) * 2;
+        final int lastFrameLength = frameLength(termBuffer, lastFrameOffset);
+        frameLengthOrdered(termBuffer, lastFrameOffset, 0);
+
+        final long outcome = TermReader.read(termBuffer, 0, assembler, Integer.MAX_VALUE, header, errorHandler);
+        assertThat(TermReader.fragmentsRead(outcome), is(2));
+        assertThat(messageCount, is(0));
+
+        frameLengthOrdered(termBuffer, lastFrameOffset, lastFrameLength);
+        TermReader.read(termBuffer, TermReader.offset(outcome), assembler, Integer.MAX_VALUE, header, errorHandler);
+
+        assertThat(messageCount, is(1));
+        assertThat(delivered.size(), is(1));
+        assertThat(delivered.get(0).buffer, not(sameInstance(termBuffer)));
+        assertMessageMatchesSource();
+    }
+
+    private void assertMessageMatchesSource()
+    {
+        for (int i = 0; i < MESSAGE_LENGTH; i++)
+        {
+            assertThat("same at i=" + i, messageCopy.getByte(i), is(srcBuffer.getByte(i)));
+        }
+    }
+}
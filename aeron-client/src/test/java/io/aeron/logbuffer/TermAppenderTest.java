@@ -15,6 +15,7 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import io.aeron.ReservedValueSupplier;
 import org.junit.Before;
 import org.junit.Test;
@@ -214,4 +215,124 @@ public class TermAppenderTest
         final InOrder inOrder = inOrder(headerWriter);
         inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLength, TERM_ID);
     }
+
+    @Test
+    public void shouldAppendFrameGatheredFromVectors()
+    {
+        final UnsafeBuffer header = new UnsafeBuffer(new byte[8]);
+        final UnsafeBuffer payload = new UnsafeBuffer(new byte[128]);
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(header, 0, 8),
+            new DirectBufferVector(payload, 16, 20)
+        };
+        final int msgLength = 28;
+        final int frameLength = msgLength + HEADER_LENGTH;
+        final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendUnfragmentedMessage(
+            headerWriter, vectors, msgLength, RVS), is((long)alignedFrameLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(pack(TERM_ID, tail + alignedFrameLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(HEADER_LENGTH, header, 0, 8);
+        inOrder.verify(termBuffer, times(1)).putBytes(HEADER_LENGTH + 8, payload, 16, 20);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLength);
+    }
+
+    @Test
+    public void shouldFragmentMessageGatheredFromVectorsSpanningFragments()
+    {
+        final int msgLength = MAX_PAYLOAD_LENGTH + 100;
+        final UnsafeBuffer first = new UnsafeBuffer(new byte[msgLength]);
+        final UnsafeBuffer second = new UnsafeBuffer(new byte[msgLength]);
+        first.setMemory(0, msgLength, (byte)1);
+        second.setMemory(0, msgLength, (byte)2);
+
+        final int firstLength = MAX_PAYLOAD_LENGTH - 10;
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(first, 0, firstLength),
+            new DirectBufferVector(second, 0, msgLength - firstLength)
+        };
+        final int lastFrameLength = (msgLength - MAX_PAYLOAD_LENGTH) + HEADER_LENGTH;
+        final int requiredLength = MAX_FRAME_LENGTH + align(lastFrameLength, FRAME_ALIGNMENT);
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, 0));
+
+        assertThat(termAppender.appendFragmentedMessage(
+            headerWriter, vectors, msgLength, MAX_PAYLOAD_LENGTH, null), is((long)requiredLength));
+
+        assertThat(termBuffer.getInt(0), is(MAX_FRAME_LENGTH));
+        assertThat(termBuffer.getByte(FLAGS_OFFSET), is(BEGIN_FRAG_FLAG));
+        assertThat(termBuffer.getByte(HEADER_LENGTH + firstLength - 1), is((byte)1));
+        assertThat(termBuffer.getByte(HEADER_LENGTH + firstLength), is((byte)2));
+        assertThat(termBuffer.getByte(MAX_FRAME_LENGTH - 1), is((byte)2));
+
+        assertThat(termBuffer.getInt(MAX_FRAME_LENGTH), is(lastFrameLength));
+        assertThat(termBuffer.getByte(MAX_FRAME_LENGTH + FLAGS_OFFSET), is(END_FRAG_FLAG));
+        assertThat(termBuffer.getByte(MAX_FRAME_LENGTH + HEADER_LENGTH), is((byte)2));
+        assertThat(termBuffer.getByte(MAX_FRAME_LENGTH + lastFrameLength - 1), is((byte)2));
+    }
+
+    @Test
+    public void shouldAppendBatchWithSingleTailAdvance()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(buffer, 0, 20),
+            new DirectBufferVector(buffer, 20, 40)
+        };
+        final int firstFrameLength = 20 + HEADER_LENGTH;
+        final int secondFrameLength = 40 + HEADER_LENGTH;
+        final int firstAlignedLength = align(firstFrameLength, FRAME_ALIGNMENT);
+        final int requiredLength = firstAlignedLength + align(secondFrameLength, FRAME_ALIGNMENT);
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendUnfragmentedBatch(
+            headerWriter, messages, requiredLength, RVS), is((long)requiredLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(pack(TERM_ID, tail + requiredLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, firstFrameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + HEADER_LENGTH, buffer, 0, 20);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, firstFrameLength);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, firstAlignedLength, secondFrameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(firstAlignedLength + HEADER_LENGTH, buffer, 20, 40);
+        inOrder.verify(termBuffer, times(1)).putLong(firstAlignedLength + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(firstAlignedLength, secondFrameLength);
+    }
+
+    @Test
+    public void shouldPadLogAndTripWhenBatchDoesNotFitInTerm()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(buffer, 0, 64),
+            new DirectBufferVector(buffer, 64, 64)
+        };
+        final int requiredLength = 2 * align(64 + HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int tail = TERM_BUFFER_LENGTH - requiredLength + FRAME_ALIGNMENT;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendUnfragmentedBatch(
+            headerWriter, messages, requiredLength, RVS), is(pack(TERM_ID, TRIPPED)));
+
+        verify(headerWriter, times(1)).write(termBuffer, tail, TERM_BUFFER_LENGTH - tail, TERM_ID);
+        verify(termBuffer, never()).putBytes(anyInt(), eq(buffer), anyInt(), anyInt());
+    }
 }
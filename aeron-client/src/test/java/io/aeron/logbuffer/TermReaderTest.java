@@ -28,6 +28,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.agrona.BitUtil.align;
 
 public class TermReaderTest
@@ -180,4 +181,54 @@ public class TermReaderTest
         inOrder.verify(termBuffer).getIntVolatile(frameOffset);
         verify(handler, never()).onFragment(any(), anyInt(), anyInt(), any());
     }
+
+    @Test
+    public void shouldReadBatchExcludingTrailingPaddingFrame()
+    {
+        final int msgLength = 1;
+        final int frameLength = HEADER_LENGTH + msgLength;
+        final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
+        final int paddingLength = TERM_BUFFER_CAPACITY - alignedFrameLength;
+        final BatchFragmentHandler batchHandler = mock(BatchFragmentHandler.class);
+        final int[] offsets = new int[4];
+        final int[] lengths = new int[4];
+
+        when(termBuffer.getIntVolatile(0)).thenReturn(frameLength);
+        when(termBuffer.getShort(typeOffset(0))).thenReturn((short)HDR_TYPE_DATA);
+        when(termBuffer.getInt(alignedFrameLength, LITTLE_ENDIAN)).thenReturn(paddingLength);
+        when(termBuffer.getShort(typeOffset(alignedFrameLength))).thenReturn((short)PADDING_FRAME_TYPE);
+
+        final long readOutcome = TermReader.readBatch(
+            termBuffer, 0, batchHandler, Integer.MAX_VALUE, offsets, lengths, header, errorHandler);
+
+        assertThat(TermReader.fragmentsRead(readOutcome), is(1));
+        assertThat(TermReader.offset(readOutcome), is(TERM_BUFFER_CAPACITY));
+        assertThat(offsets[0], is(HEADER_LENGTH));
+        assertThat(lengths[0], is(msgLength));
+        verify(batchHandler).onFragments(termBuffer, offsets, lengths, 1, header);
+        verify(termBuffer).getIntVolatile(0);
+        verify(termBuffer, never()).getIntVolatile(alignedFrameLength);
+        verify(termBuffer, never()).getInt(0, LITTLE_ENDIAN);
+    }
+
+    @Test
+    public void shouldLimitBatchToLengthOfArrays()
+    {
+        final int frameLength = HEADER_LENGTH + 1;
+        final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
+        final BatchFragmentHandler batchHandler = mock(BatchFragmentHandler.class);
+        final int[] offsets = new int[2];
+        final int[] lengths = new int[2];
+
+        when(termBuffer.getIntVolatile(0)).thenReturn(frameLength);
+        when(termBuffer.getInt(anyInt(), eq(LITTLE_ENDIAN))).thenReturn(frameLength);
+        when(termBuffer.getShort(anyInt())).thenReturn((short)HDR_TYPE_DATA);
+
+        final long readOutcome = TermReader.readBatch(
+            termBuffer, 0, batchHandler, Integer.MAX_VALUE, offsets, lengths, header, errorHandler);
+
+        assertThat(TermReader.fragmentsRead(readOutcome), is(2));
+        assertThat(TermReader.offset(readOutcome), is(alignedFrameLength * 2));
+        verify(batchHandler).onFragments(termBuffer, offsets, lengths, 2, header);
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feedback delay for NAKs on multicast which retunes the parameters of {@link OptimalMulticastDelayGenerator} from
+ * the loss observed on a {@link PublicationImage}.
+ *
+ * The group size is estimated from how often a gap is repaired before this receiver sends its own NAK. With N
+ * receivers seeing the same loss and randomised delays this receiver is first for roughly 1/N of the gaps, so
+ * the estimate is (gaps resolved) / (gaps this receiver NAKed first). The loss rate is tracked as gaps per second.
+ *
+ * The max backoff is scaled with log of the group size, so a configuration that suits the initial group size is
+ * shortened for unicast-like groups and lengthened for large groups to avoid NAK implosion, then widened up to
+ * double under sustained heavy loss when many gaps are being recovered at once.
+ *
+ * Estimates are updated at most once per {@link #WINDOW_NS} and are smoothed with an exponential moving average.
+ */
+public class AdaptiveMulticastDelayGenerator implements FeedbackDelayGenerator, AutoCloseable
+{
+    /**
+     * Interval over which observations are accumulated before the parameters are retuned.
+     */
+    public static final long WINDOW_NS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Minimum number of resolved gaps in a window for a group size sample to be taken.
+     */
+    public static final int MIN_GROUP_SIZE_SAMPLES = 4;
+
+    /**
+     * Upper bound on the estimated group size.
+     */
+    public static final double MAX_GROUP_SIZE = 10_000;
+
+    /**
+     * Loss rate in gaps per second above which the max backoff is fully widened.
+     */
+    public static final double HIGH_LOSS_RATE = 100;
+
+    /**
+     * Weighting of a new sample in the moving averages.
+     */
+    public static final double ALPHA = 0.25;
+
+    private final double backoffPerLambda;
+    private final double maxBackoffLimit;
+    private final AtomicCounter groupSizeIndicator;
+    private final AtomicCounter maxBackoffIndicator;
+    private final AtomicCounter lossRateIndicator;
+
+    private double groupSize;
+    private double lossRate;
+    private double maxBackoff;
+    private double randMax;
+    private double baseX;
+    private double constantT;
+    private double factorT;
+
+    private long windowStart;
+    private int windowLossCount;
+    private int windowFeedbackCount;
+    private int windowSuppressedCount;
+
+    /**
+     * Create a new feedback delay generator which starts with the same parameters as an
+     * {@link OptimalMulticastDelayGenerator}.
+     *
+     * @param maxBackoffNs        for the initial group size.
+     * @param groupSize           initial estimate.
+     * @param groupSizeIndicator  to report the current group size estimate, null if indicators are not required.
+     * @param maxBackoffIndicator to report the current max backoff in nanoseconds.
+     * @param lossRateIndicator   to report the current loss rate in gaps per second.
+     */
+    public AdaptiveMulticastDelayGenerator(
+        final long maxBackoffNs,
+        final double groupSize,
+        final AtomicCounter groupSizeIndicator,
+        final AtomicCounter maxBackoffIndicator,
+        final AtomicCounter lossRateIndicator)
+    {
+        this.groupSize = clampGroupSize(groupSize);
+        this.backoffPerLambda = maxBackoffNs / lambda(this.groupSize);
+        this.maxBackoffLimit = 2.0 * backoffPerLambda * lambda(MAX_GROUP_SIZE);
+        this.groupSizeIndicator = groupSizeIndicator;
+        this.maxBackoffIndicator = maxBackoffIndicator;
+        this.lossRateIndicator = lossRateIndicator;
+        this.windowStart = Long.MIN_VALUE;
+
+        tune();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long generateDelay()
+    {
+        final double x = OptimalMulticastDelayGenerator.uniformRandom(randMax) + baseX;
+
+        return (long)(constantT * Math.log(x * factorT));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onLossDetected(final long now, final int length)
+    {
+        checkWindow(now);
+        windowLossCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onFeedbackSent(final long now)
+    {
+        checkWindow(now);
+        windowFeedbackCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onFeedbackSuppressed(final long now)
+    {
+        checkWindow(now);
+        windowSuppressedCount++;
+    }
+
+    /**
+     * Current estimate of the number of receivers in the group.
+     *
+     * @return current estimate of the number of receivers in the group.
+     */
+    public double groupSize()
+    {
+        return groupSize;
+    }
+
+    /**
+     * Current estimate of the loss rate in gaps per second.
+     *
+     * @return current estimate of the loss rate in gaps per second.
+     */
+    public double lossRate()
+    {
+        return lossRate;
+    }
+
+    /**
+     * Current max backoff in nanoseconds used for generating delays.
+     *
+     * @return current max backoff in nanoseconds used for generating delays.
+     */
+    public long maxBackoffNs()
+    {
+        return (long)maxBackoff;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(groupSizeIndicator);
+        CloseHelper.close(maxBackoffIndicator);
+        CloseHelper.close(lossRateIndicator);
+    }
+
+    private void checkWindow(final long now)
+    {
+        if (Long.MIN_VALUE == windowStart)
+        {
+            windowStart = now;
+        }
+        else if (now - windowStart >= WINDOW_NS)
+        {
+            retune(now);
+        }
+    }
+
+    private void retune(final long now)
+    {
+        final double windowSeconds = (double)(now - windowStart) / (double)TimeUnit.SECONDS.toNanos(1);
+        lossRate += ALPHA * ((windowLossCount / windowSeconds) - lossRate);
+
+        final int resolvedCount = windowFeedbackCount + windowSuppressedCount;
+        if (resolvedCount >= MIN_GROUP_SIZE_SAMPLES)
+        {
+            final double sample = (double)resolvedCount / Math.max(1, windowFeedbackCount);
+            groupSize = clampGroupSize(groupSize + (ALPHA * (sample - groupSize)));
+        }
+
+        windowStart = now;
+        windowLossCount = 0;
+        windowFeedbackCount = 0;
+        windowSuppressedCount = 0;
+
+        tune();
+    }
+
+    private void tune()
+    {
+        final double lambda = lambda(groupSize);
+        final double lossFactor = 1.0 + Math.min(1.0, lossRate / HIGH_LOSS_RATE);
+        maxBackoff = Math.min(maxBackoffLimit, backoffPerLambda * lambda * lossFactor);
+
+        randMax = lambda / maxBackoff;
+        baseX = lambda / (maxBackoff * (Math.exp(lambda) - 1));
+        constantT = maxBackoff / lambda;
+        factorT = (Math.exp(lambda) - 1) * (maxBackoff / lambda);
+
+        if (null != groupSizeIndicator)
+        {
+            groupSizeIndicator.setOrdered(Math.round(groupSize));
+            maxBackoffIndicator.setOrdered((long)maxBackoff);
+            lossRateIndicator.setOrdered(Math.round(lossRate));
+        }
+    }
+
+    private static double lambda(final double groupSize)
+    {
+        return Math.log(groupSize) + 1;
+    }
+
+    private static double clampGroupSize(final double groupSize)
+    {
+        return Math.max(1.0, Math.min(MAX_GROUP_SIZE, groupSize));
+    }
+}
@@ -113,6 +113,24 @@ public class ClientProxy
         transmit(ON_PUBLICATION_READY, buffer, 0, length);
     }
 
+    public void onExclusivePublicationReady(
+        final long registrationId,
+        final int streamId,
+        final int sessionId,
+        final String logFileName,
+        final int positionCounterId)
+    {
+        publicationReady
+            .sessionId(sessionId)
+            .streamId(streamId)
+            .correlationId(registrationId)
+            .publicationLimitCounterId(positionCounterId)
+            .logFileName(logFileName);
+
+        final int length = publicationReady.length();
+        transmit(ON_EXCLUSIVE_PUBLICATION_READY, buffer, 0, length);
+    }
+
     public void operationSucceeded(final long correlationId)
     {
         correlatedMessage.clientId(0).correlationId(correlationId);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.Queue;
+
+/**
+ * Typed creation of the arrays of command queues used to shard commands across senders and receivers, so the
+ * unchecked conversion from a generic array is confined to one place.
+ */
+final class CommandQueues
+{
+    private CommandQueues()
+    {
+    }
+
+    /**
+     * Allocate an array of {@link OneToOneConcurrentArrayQueue}s with all elements null.
+     *
+     * @param length of the array.
+     * @param <E>    type of the commands in the queues.
+     * @return the new array.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> OneToOneConcurrentArrayQueue<E>[] newOneToOneQueueArray(final int length)
+    {
+        return (OneToOneConcurrentArrayQueue<E>[])new OneToOneConcurrentArrayQueue<?>[length];
+    }
+
+    /**
+     * Allocate an array of {@link Queue}s with all elements null.
+     *
+     * @param length of the array.
+     * @param <E>    type of the commands in the queues.
+     * @return the new array.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Queue<E>[] newQueueArray(final int length)
+    {
+        return (Queue<E>[])new Queue<?>[length];
+    }
+
+    /**
+     * Wrap a single {@link Queue} in an array for when commands are not sharded.
+     *
+     * @param queue to be wrapped.
+     * @param <E>   type of the commands in the queue.
+     * @return the new array containing only the queue.
+     */
+    static <E> Queue<E>[] singletonQueueArray(final Queue<E> queue)
+    {
+        final Queue<E>[] queues = newQueueArray(1);
+        queues[0] = queue;
+
+        return queues;
+    }
+}
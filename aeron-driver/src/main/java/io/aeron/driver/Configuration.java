@@ -32,7 +32,9 @@ import org.agrona.concurrent.broadcast.BroadcastBufferDescriptor;
 import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
 import org.agrona.concurrent.status.StatusIndicator;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static io.aeron.driver.ThreadingMode.DEDICATED;
 import static java.lang.Integer.getInteger;
@@ -110,6 +112,59 @@ public class Configuration
     public static final long LOW_FILE_STORE_WARNING_THRESHOLD =
         getLong(LOW_FILE_STORE_WARNING_THRESHOLD_PROP_NAME, LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT);
 
+    /**
+     * Property name for the number of pre-created log buffers kept ready for each pooled term length.
+     */
+    public static final String LOG_BUFFER_POOL_SIZE_PROP_NAME = "aeron.log.buffer.pool.size";
+
+    /**
+     * Default number of pre-created log buffers kept ready for each pooled term length. 0 disables the pool.
+     */
+    public static final int LOG_BUFFER_POOL_SIZE_DEFAULT = 0;
+
+    /**
+     * Number of pre-created log buffers kept ready for each pooled term length.
+     */
+    public static final int LOG_BUFFER_POOL_SIZE = getInteger(
+        LOG_BUFFER_POOL_SIZE_PROP_NAME, LOG_BUFFER_POOL_SIZE_DEFAULT);
+
+    /**
+     * Property name for the comma separated term lengths for which log buffers are pooled. Defaults to the
+     * publication and IPC publication term lengths.
+     */
+    public static final String LOG_BUFFER_POOL_TERM_LENGTHS_PROP_NAME = "aeron.log.buffer.pool.term.lengths";
+
+    /**
+     * Comma separated term lengths for which log buffers are pooled.
+     */
+    public static final String LOG_BUFFER_POOL_TERM_LENGTHS = getProperty(LOG_BUFFER_POOL_TERM_LENGTHS_PROP_NAME);
+
+    /**
+     * Time the log buffer pool agent sleeps when there is no log to be created.
+     */
+    public static final long LOG_BUFFER_POOL_IDLE_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Property name for enabling the term cleaner agent which zeros consumed regions of publication logs on its own
+     * thread rather than on the driver conductor thread.
+     */
+    public static final String TERM_CLEANER_ENABLED_PROP_NAME = "aeron.term.cleaner.enabled";
+
+    /**
+     * Should publication logs be cleaned by a dedicated term cleaner agent. Defaults to false.
+     */
+    public static final boolean TERM_CLEANER_ENABLED = Boolean.getBoolean(TERM_CLEANER_ENABLED_PROP_NAME);
+
+    /**
+     * Capacity of the queue of clean requests to the term cleaner agent.
+     */
+    public static final int TERM_CLEANER_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Time the term cleaner agent sleeps when there is no cleaning to be done.
+     */
+    public static final long TERM_CLEANER_IDLE_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
     /**
      * Length (in bytes) of the conductor buffer for control commands from the clients to the media driver conductor.
      */
@@ -230,6 +285,38 @@ public class Configuration
      */
     public static final int SEND_TO_STATUS_POLL_RATIO_DEFAULT = 4;
 
+    /**
+     * Property name for the default number of MTU length datagrams a network publication can send per duty cycle.
+     */
+    public static final String SEND_BURST_LENGTH_PROP_NAME = "aeron.send.burst.length";
+
+    /**
+     * Default number of MTU length datagrams a network publication can send per duty cycle.
+     */
+    public static final int SEND_BURST_LENGTH_DEFAULT = 1;
+
+    /**
+     * Number of MTU length datagrams a network publication can send per duty cycle unless overridden on the
+     * channel URI.
+     */
+    public static final int SEND_BURST_LENGTH = getInteger(SEND_BURST_LENGTH_PROP_NAME, SEND_BURST_LENGTH_DEFAULT);
+
+    /**
+     * Property name for the default rate in bytes per second at which a network publication paces sending data.
+     */
+    public static final String SEND_PACING_RATE_PROP_NAME = "aeron.send.pacing.rate";
+
+    /**
+     * Default rate in bytes per second at which a network publication paces sending data with 0 being unpaced.
+     */
+    public static final long SEND_PACING_RATE_DEFAULT = 0;
+
+    /**
+     * Rate in bytes per second at which a network publication paces sending data unless overridden on the
+     * channel URI. A value of 0 means data is sent as fast as flow control allows.
+     */
+    public static final long SEND_PACING_RATE = getLong(SEND_PACING_RATE_PROP_NAME, SEND_PACING_RATE_DEFAULT);
+
     /**
      * Property name for SO_RCVBUF setting on UDP sockets which must be sufficient for Bandwidth Delay Produce (BDP).
      */
@@ -262,6 +349,27 @@ public class Configuration
     public static final int SOCKET_SNDBUF_LENGTH = getInteger(
         SOCKET_SNDBUF_LENGTH_PROP_NAME, SOCKET_SNDBUF_LENGTH_DEFAULT);
 
+    /**
+     * Property name for the default number of datagrams drained from a receive channel in a single poll.
+     */
+    public static final String RECEIVE_BATCH_LENGTH_PROP_NAME = "aeron.rcv.batch.length";
+
+    /**
+     * Default number of datagrams drained from a receive channel in a single poll.
+     */
+    public static final int RECEIVE_BATCH_LENGTH_DEFAULT = 1;
+
+    /**
+     * Maximum number of datagrams which can be drained from a receive channel in a single poll.
+     */
+    public static final int RECEIVE_BATCH_LENGTH_MAX = 64;
+
+    /**
+     * Number of datagrams drained from a receive channel in a single poll unless overridden on the channel URI.
+     */
+    public static final int RECEIVE_BATCH_LENGTH = getInteger(
+        RECEIVE_BATCH_LENGTH_PROP_NAME, RECEIVE_BATCH_LENGTH_DEFAULT);
+
     /**
      * Property name for IP_MULTICAST_TTL setting on UDP sockets.
      */
@@ -348,6 +456,19 @@ public class Configuration
     public static final int IPC_PUBLICATION_TERM_WINDOW_LENGTH = getInteger(
         IPC_PUBLICATION_TERM_WINDOW_LENGTH_PROP_NAME, 0);
 
+    /**
+     * Property name for enabling IPC publishers to compute their limit from the subscriber positions.
+     */
+    public static final String IPC_PUBLISHER_LIMIT_CLIENT_DRIVEN_PROP_NAME = "aeron.ipc.publisher.limit.client.driven";
+
+    /**
+     * Should IPC publishers compute their limit directly from the subscriber position counters, so back pressure is
+     * released as soon as subscribers consume, rather than waiting for the conductor to update the publisher limit.
+     * Defaults to false.
+     */
+    public static final boolean IPC_PUBLISHER_LIMIT_CLIENT_DRIVEN =
+        Boolean.getBoolean(IPC_PUBLISHER_LIMIT_CLIENT_DRIVEN_PROP_NAME);
+
     /**
      * Property name for {@link Publication} unblock timeout.
      */
@@ -507,6 +628,47 @@ public class Configuration
     static final ThreadingMode THREADING_MODE_DEFAULT = ThreadingMode.valueOf(
         getProperty(THREADING_MODE_PROP_NAME, DEDICATED.name()));
 
+    /**
+     * Property name for the number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final String SENDER_COUNT_PROP_NAME = "aeron.sender.count";
+
+    /**
+     * Default number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final int SENDER_COUNT_DEFAULT = 2;
+
+    /**
+     * Number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final int SENDER_COUNT = getInteger(SENDER_COUNT_PROP_NAME, SENDER_COUNT_DEFAULT);
+
+    /**
+     * Property name for the number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final String RECEIVER_COUNT_PROP_NAME = "aeron.receiver.count";
+
+    /**
+     * Default number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final int RECEIVER_COUNT_DEFAULT = 2;
+
+    /**
+     * Number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED}.
+     */
+    public static final int RECEIVER_COUNT = getInteger(RECEIVER_COUNT_PROP_NAME, RECEIVER_COUNT_DEFAULT);
+
+    /**
+     * Property name for {@link EndpointShardingPolicy} to assign endpoints to agents in {@link ThreadingMode#SHARDED}.
+     */
+    public static final String ENDPOINT_SHARDING_POLICY_PROP_NAME = "aeron.EndpointSharding.policy";
+
+    /**
+     * {@link EndpointShardingPolicy} to assign endpoints to agents in {@link ThreadingMode#SHARDED}.
+     */
+    public static final String ENDPOINT_SHARDING_POLICY = getProperty(
+        ENDPOINT_SHARDING_POLICY_PROP_NAME, "io.aeron.driver.DefaultEndpointShardingPolicy");
+
     /**
      * How often to check liveness and cleanup
      */
@@ -598,6 +760,40 @@ public class Configuration
     public static final OptimalMulticastDelayGenerator NAK_MULTICAST_DELAY_GENERATOR =
         new OptimalMulticastDelayGenerator(NAK_MAX_BACKOFF_DEFAULT, NAK_GROUPSIZE_DEFAULT, NAK_GRTT_DEFAULT);
 
+    /**
+     * Property name for enabling NAK delays on multicast which adapt to the observed group size and loss rate.
+     */
+    public static final String NAK_MULTICAST_ADAPTIVE_DELAY_PROP_NAME = "aeron.nak.multicast.adaptive.delay";
+
+    /**
+     * Should NAK delays on multicast adapt to the observed group size and loss rate rather than using
+     * {@link #NAK_MULTICAST_DELAY_GENERATOR}. Defaults to false.
+     *
+     * @see AdaptiveMulticastDelayGenerator
+     */
+    public static final boolean NAK_MULTICAST_ADAPTIVE_DELAY =
+        Boolean.getBoolean(NAK_MULTICAST_ADAPTIVE_DELAY_PROP_NAME);
+
+    /**
+     * Property name for the maximum number of gaps in a term reported by a single NAK.
+     */
+    public static final String NAK_MAX_GAPS_PROP_NAME = "aeron.nak.max.gaps";
+
+    /**
+     * Default maximum number of gaps in a term reported by a single NAK. Defaults to 1 so only NAKs understood by
+     * all senders are sent.
+     */
+    public static final int NAK_MAX_GAPS_DEFAULT = 1;
+
+    /**
+     * Maximum number of gaps in a term reported by a single NAK. When more than one gap is found a multi-range NAK
+     * is sent, a value of 1 only ever sends a NAK for the first gap.
+     *
+     * Senders which predate the multi-range NAK frame drop it, so only set above 1 when all senders the driver
+     * receives from support it.
+     */
+    public static final int NAK_MAX_GAPS = getInteger(NAK_MAX_GAPS_PROP_NAME, NAK_MAX_GAPS_DEFAULT);
+
     /**
      * Default Unicast NAK delay in nanoseconds.
      */
@@ -696,6 +892,72 @@ public class Configuration
         return 0 != IPC_TERM_BUFFER_LENGTH ? IPC_TERM_BUFFER_LENGTH : termBufferLength;
     }
 
+    /**
+     * The term lengths for which log buffers are pooled, either as configured by
+     * {@link #LOG_BUFFER_POOL_TERM_LENGTHS_PROP_NAME} or the publication and IPC publication term lengths.
+     *
+     * @param publicationTermLength    for network publications.
+     * @param ipcPublicationTermLength for IPC publications.
+     * @return the distinct term lengths for which log buffers are pooled.
+     */
+    public static int[] logBufferPoolTermLengths(final int publicationTermLength, final int ipcPublicationTermLength)
+    {
+        if (null != LOG_BUFFER_POOL_TERM_LENGTHS)
+        {
+            return Arrays.stream(LOG_BUFFER_POOL_TERM_LENGTHS.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .distinct()
+                .toArray();
+        }
+
+        return IntStream.of(publicationTermLength, ipcPublicationTermLength).distinct().toArray();
+    }
+
+    /**
+     * Validate the number of datagrams to be drained from a receive channel in a single poll.
+     *
+     * @param receiveBatchLength to be validated.
+     * @throws ConfigurationException if the batch length is not between 1 and {@link #RECEIVE_BATCH_LENGTH_MAX}.
+     */
+    public static void validateReceiveBatchLength(final int receiveBatchLength)
+    {
+        if (receiveBatchLength < 1 || receiveBatchLength > RECEIVE_BATCH_LENGTH_MAX)
+        {
+            throw new ConfigurationException(
+                "receiveBatchLength must be >= 1 and <= " + RECEIVE_BATCH_LENGTH_MAX +
+                ": receiveBatchLength=" + receiveBatchLength);
+        }
+    }
+
+    /**
+     * Validate the number of MTU length datagrams a network publication can send per duty cycle.
+     *
+     * @param sendBurstLength to be validated.
+     * @throws ConfigurationException if the burst length is less than 1.
+     */
+    public static void validateSendBurstLength(final int sendBurstLength)
+    {
+        if (sendBurstLength < 1)
+        {
+            throw new ConfigurationException("sendBurstLength must be >= 1: sendBurstLength=" + sendBurstLength);
+        }
+    }
+
+    /**
+     * Validate the rate in bytes per second at which a network publication paces sending data.
+     *
+     * @param sendPacingRate to be validated.
+     * @throws ConfigurationException if the pacing rate is less than 0.
+     */
+    public static void validateSendPacingRate(final long sendPacingRate)
+    {
+        if (sendPacingRate < 0)
+        {
+            throw new ConfigurationException("sendPacingRate must be >= 0: sendPacingRate=" + sendPacingRate);
+        }
+    }
+
     /**
      * Validate that the initial window length is suitably greater than MTU.
      *
@@ -902,6 +1164,42 @@ public class Configuration
         return supplier;
     }
 
+    /**
+     * Get the {@link EndpointShardingPolicy} for assigning channel endpoints to agents in
+     * {@link ThreadingMode#SHARDED}.
+     *
+     * @return the {@link EndpointShardingPolicy}.
+     */
+    static EndpointShardingPolicy endpointShardingPolicy()
+    {
+        EndpointShardingPolicy policy = null;
+        try
+        {
+            policy = (EndpointShardingPolicy)Class.forName(ENDPOINT_SHARDING_POLICY).newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return policy;
+    }
+
+    /**
+     * Validate the number of agents of a type is at least one.
+     *
+     * @param name       of the agent type.
+     * @param agentCount to be validated.
+     * @throws ConfigurationException if the count is not valid.
+     */
+    public static void validateAgentCount(final String name, final int agentCount)
+    {
+        if (agentCount < 1)
+        {
+            throw new ConfigurationException(name + " count must be at least 1: " + agentCount);
+        }
+    }
+
     /**
      * Validate the the MTU is an appropriate length. MTU lengths must be a multiple of
      * {@link FrameDescriptor#FRAME_ALIGNMENT}.
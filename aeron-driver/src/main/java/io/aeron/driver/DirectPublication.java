@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.buffer.TermCleaner;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferUnblocker;
 import org.agrona.collections.ArrayUtil;
@@ -27,6 +28,10 @@ import static io.aeron.logbuffer.LogBufferDescriptor.*;
 
 /**
  * Encapsulation of a LogBuffer used directly between publishers and subscribers for IPC.
+ *
+ * When the publisher limit is client driven the subscriber position counter ids, term window length, and limit to
+ * which the log has been cleaned are published in the log meta data so publishers can compute their limit from the
+ * subscriber positions directly rather than waiting for the conductor duty cycle to update the publisher limit.
  */
 public class DirectPublication implements DriverManagedResource
 {
@@ -40,9 +45,11 @@ public class DirectPublication implements DriverManagedResource
     private final int termWindowLength;
     private final int positionBitsToShift;
     private final int initialTermId;
+    private final boolean isClientDrivenLimit;
     private final UnsafeBuffer[] termBuffers;
     private ReadablePosition[] subscriberPositions = EMPTY_POSITIONS;
     private final RawLog rawLog;
+    private final TermCleaner.Log cleaningLog;
     private final Position publisherLimit;
     private long consumerPosition = 0;
     private long cleanPosition = 0;
@@ -54,7 +61,9 @@ public class DirectPublication implements DriverManagedResource
         final int sessionId,
         final int streamId,
         final Position publisherLimit,
-        final RawLog rawLog)
+        final RawLog rawLog,
+        final boolean isClientDrivenLimit,
+        final TermCleaner termCleaner)
     {
         this.correlationId = correlationId;
         this.sessionId = sessionId;
@@ -68,6 +77,16 @@ public class DirectPublication implements DriverManagedResource
         this.tripGain = termWindowLength / 8;
         this.publisherLimit = publisherLimit;
         this.rawLog = rawLog;
+        this.isClientDrivenLimit = isClientDrivenLimit;
+        this.cleaningLog = null != termCleaner ? termCleaner.newLog(rawLog) : null;
+
+        if (isClientDrivenLimit)
+        {
+            final UnsafeBuffer metaData = rawLog.metaData();
+            ipcTermWindowLength(metaData, termWindowLength);
+            ipcCleanLimit(metaData, cleanLimit(cleanPosition));
+            updateSubscriberPositionIds();
+        }
     }
 
     public int sessionId()
@@ -103,20 +122,48 @@ public class DirectPublication implements DriverManagedResource
             position.close();
         }
 
-        rawLog.close();
+        if (null != cleaningLog)
+        {
+            cleaningLog.close(rawLog);
+        }
+        else
+        {
+            rawLog.close();
+        }
     }
 
     public void addSubscription(final ReadablePosition subscriberPosition)
     {
         subscriberPositions = ArrayUtil.add(subscriberPositions, subscriberPosition);
+
+        if (isClientDrivenLimit)
+        {
+            updateSubscriberPositionIds();
+        }
     }
 
     public void removeSubscription(final ReadablePosition subscriberPosition)
     {
         subscriberPositions = ArrayUtil.remove(subscriberPositions, subscriberPosition);
+
+        if (isClientDrivenLimit)
+        {
+            updateSubscriberPositionIds();
+        }
+
         subscriberPosition.close();
     }
 
+    /**
+     * Is the publisher limit computed by clients from the subscriber positions published in the log meta data.
+     *
+     * @return true if the publisher limit is computed by clients otherwise false.
+     */
+    public boolean isClientDrivenLimit()
+    {
+        return isClientDrivenLimit;
+    }
+
     int updatePublishersLimit(final long nowInMillis)
     {
         int workCount = 0;
@@ -134,13 +181,23 @@ public class DirectPublication implements DriverManagedResource
         {
             LogBufferDescriptor.timeOfLastStatusMessage(rawLog.metaData(), nowInMillis);
 
-            final long proposedLimit = minSubscriberPosition + termWindowLength;
+            long proposedLimit = minSubscriberPosition + termWindowLength;
+            if (null != cleaningLog)
+            {
+                cleaningLog.requestCleanTo(minSubscriberPosition);
+                updateCleanPosition(cleaningLog.cleanedPosition());
+                proposedLimit = Math.min(proposedLimit, cleanLimit(cleanPosition));
+            }
+
             if (proposedLimit > tripLimit)
             {
                 publisherLimit.setOrdered(proposedLimit);
                 tripLimit = proposedLimit + tripGain;
 
-                cleanBuffer(minSubscriberPosition);
+                if (null == cleaningLog)
+                {
+                    cleanBuffer(minSubscriberPosition);
+                }
 
                 workCount = 1;
             }
@@ -163,10 +220,41 @@ public class DirectPublication implements DriverManagedResource
         if (length > 0)
         {
             dirtyTerm.setMemory(termOffset, length, (byte)0);
-            this.cleanPosition = cleanPosition + length;
+            updateCleanPosition(cleanPosition + length);
+        }
+    }
+
+    private void updateCleanPosition(final long cleanPosition)
+    {
+        if (cleanPosition > this.cleanPosition)
+        {
+            this.cleanPosition = cleanPosition;
+
+            if (isClientDrivenLimit)
+            {
+                ipcCleanLimit(rawLog.metaData(), cleanLimit(cleanPosition));
+            }
         }
     }
 
+    private long cleanLimit(final long cleanPosition)
+    {
+        return cleanPosition + ((PARTITION_COUNT - 1) * (long)rawLog.termLength());
+    }
+
+    private void updateSubscriberPositionIds()
+    {
+        final ReadablePosition[] subscriberPositions = this.subscriberPositions;
+        final int count = subscriberPositions.length;
+        final int[] positionIds = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            positionIds[i] = subscriberPositions[i].id();
+        }
+
+        ipcSubscriberPositionIds(rawLog.metaData(), positionIds, count);
+    }
+
     public long joiningPosition()
     {
         long maxSubscriberPosition = producerPosition();
@@ -81,8 +81,8 @@ public class DriverConductor implements Agent
     private final ClientProxy clientProxy;
     private final DriverConductorProxy fromReceiverConductorProxy;
     private final RingBuffer toDriverCommands;
-    private final OneToOneConcurrentArrayQueue<DriverConductorCmd> fromReceiverDriverConductorCmdQueue;
-    private final OneToOneConcurrentArrayQueue<DriverConductorCmd> fromSenderDriverConductorCmdQueue;
+    private final ManyToOneConcurrentArrayQueue<DriverConductorCmd> fromReceiverDriverConductorCmdQueue;
+    private final ManyToOneConcurrentArrayQueue<DriverConductorCmd> fromSenderDriverConductorCmdQueue;
     private final HashMap<String, SendChannelEndpoint> sendChannelEndpointByChannelMap = new HashMap<>();
     private final HashMap<String, ReceiveChannelEndpoint> receiveChannelEndpointByChannelMap = new HashMap<>();
     private final ArrayList<PublicationLink> publicationLinks = new ArrayList<>();
@@ -251,7 +251,7 @@ public class DriverConductor implements Agent
                 activeTermId,
                 initialTermOffset,
                 rawLog,
-                udpChannel.isMulticast() ? NAK_MULTICAST_DELAY_GENERATOR : NAK_UNICAST_DELAY_GENERATOR,
+                newLossFeedbackDelayGenerator(udpChannel, registrationId, sessionId, streamId),
                 subscriberPositions.stream().map(SubscriberPosition::position).collect(toList()),
                 ReceiverHwm.allocate(countersManager, registrationId, sessionId, streamId, channel),
                 ReceiverPos.allocate(countersManager, registrationId, sessionId, streamId, channel),
@@ -261,7 +261,8 @@ public class DriverConductor implements Agent
                 sourceAddress,
                 congestionControl,
                 context.lossReport(),
-                subscriberPositions.get(0).subscription().isReliable());
+                subscriberPositions.get(0).subscription().isReliable(),
+                NAK_MAX_GAPS);
 
             subscriberPositions.forEach((subscriberPosition) -> subscriberPosition.addImage(image));
 
@@ -349,6 +350,32 @@ public class DriverConductor implements Agent
         }
     }
 
+    private FeedbackDelayGenerator newLossFeedbackDelayGenerator(
+        final UdpChannel udpChannel, final long registrationId, final int sessionId, final int streamId)
+    {
+        if (!udpChannel.isMulticast())
+        {
+            return NAK_UNICAST_DELAY_GENERATOR;
+        }
+
+        if (!NAK_MULTICAST_ADAPTIVE_DELAY)
+        {
+            return NAK_MULTICAST_DELAY_GENERATOR;
+        }
+
+        final String channel = udpChannel.originalUriString();
+
+        return new AdaptiveMulticastDelayGenerator(
+            NAK_MAX_BACKOFF_DEFAULT,
+            NAK_GROUPSIZE_DEFAULT,
+            PerImageIndicator.allocate(
+                "rcv-nak-delay-grp-size", countersManager, registrationId, sessionId, streamId, channel, ""),
+            PerImageIndicator.allocate(
+                "rcv-nak-delay-max-backoff", countersManager, registrationId, sessionId, streamId, channel, ""),
+            PerImageIndicator.allocate(
+                "rcv-nak-loss-rate", countersManager, registrationId, sessionId, streamId, channel, ""));
+    }
+
     private List<SubscriberPosition> createSubscriberPositions(
         final int sessionId,
         final int streamId,
@@ -452,11 +479,31 @@ public class DriverConductor implements Agent
                     }
                     else
                     {
-                        onAddNetworkPublication(channel, streamId, correlationId, clientId);
+                        onAddNetworkPublication(channel, streamId, correlationId, clientId, false);
                     }
                     break;
                 }
 
+                case ADD_EXCLUSIVE_PUBLICATION:
+                {
+                    final PublicationMessageFlyweight publicationMessageFlyweight = publicationMsgFlyweight;
+                    publicationMessageFlyweight.wrap(buffer, index);
+
+                    correlationId = publicationMessageFlyweight.correlationId();
+                    final int streamId = publicationMessageFlyweight.streamId();
+                    final long clientId = publicationMessageFlyweight.clientId();
+                    final String channel = publicationMessageFlyweight.channel();
+
+                    if (channel.startsWith(IPC_CHANNEL))
+                    {
+                        throw new ControlProtocolException(
+                            INVALID_CHANNEL, "exclusive publications are not supported for IPC: " + channel);
+                    }
+
+                    onAddNetworkPublication(channel, streamId, correlationId, clientId, true);
+                    break;
+                }
+
                 case REMOVE_PUBLICATION:
                 {
                     final RemoveMessageFlyweight removeMessageFlyweight = removeMsgFlyweight;
@@ -548,15 +595,21 @@ public class DriverConductor implements Agent
     }
 
     private void onAddNetworkPublication(
-        final String channel, final int streamId, final long registrationId, final long clientId)
+        final String channel,
+        final int streamId,
+        final long registrationId,
+        final long clientId,
+        final boolean isExclusive)
     {
         final UdpChannel udpChannel = UdpChannel.parse(channel);
         final AeronUri aeronUri = udpChannel.aeronUri();
         final int mtuLength = getMtuLength(aeronUri, context.mtuLength());
         final int termLength = getTermBufferLength(aeronUri, context.publicationTermBufferLength());
+        final int sendBurstLength = getSendBurstLength(aeronUri, Configuration.SEND_BURST_LENGTH);
+        final long sendPacingRate = getSendPacingRate(aeronUri, Configuration.SEND_PACING_RATE);
         final SendChannelEndpoint channelEndpoint = getOrCreateSendChannelEndpoint(udpChannel);
 
-        NetworkPublication publication = channelEndpoint.getPublication(streamId);
+        NetworkPublication publication = isExclusive ? null : channelEndpoint.getPublication(streamId);
         if (null == publication)
         {
             final int sessionId = nextSessionId++;
@@ -585,15 +638,23 @@ public class DriverConductor implements Agent
                 streamId,
                 initialTermId,
                 mtuLength,
+                sendBurstLength,
+                sendPacingRate,
+                isExclusive,
                 context.systemCounters(),
                 flowControl,
                 retransmitHandler,
-                networkPublicationThreadLocals);
+                networkPublicationThreadLocals(udpChannel),
+                context.termCleaner());
 
             channelEndpoint.addPublication(publication);
             networkPublications.add(publication);
             senderProxy.newNetworkPublication(publication);
-            linkSpies(publication);
+
+            if (!isExclusive)
+            {
+                linkSpies(publication);
+            }
         }
         else if (publication.mtuLength() != mtuLength)
         {
@@ -603,12 +664,24 @@ public class DriverConductor implements Agent
 
         linkPublication(registrationId, publication, getOrAddClient(clientId));
 
-        clientProxy.onPublicationReady(
-            registrationId,
-            streamId,
-            publication.sessionId(),
-            publication.rawLog().fileName(),
-            publication.publisherLimitId());
+        if (isExclusive)
+        {
+            clientProxy.onExclusivePublicationReady(
+                registrationId,
+                streamId,
+                publication.sessionId(),
+                publication.rawLog().fileName(),
+                publication.publisherLimitId());
+        }
+        else
+        {
+            clientProxy.onPublicationReady(
+                registrationId,
+                streamId,
+                publication.sessionId(),
+                publication.rawLog().fileName(),
+                publication.publisherLimitId());
+        }
     }
 
     private static int getMtuLength(final AeronUri aeronUri, final int defaultMtuLength)
@@ -624,6 +697,32 @@ public class DriverConductor implements Agent
         return mtuLength;
     }
 
+    private static int getSendBurstLength(final AeronUri aeronUri, final int defaultSendBurstLength)
+    {
+        int sendBurstLength = defaultSendBurstLength;
+        final String sendBurst = aeronUri.get(CommonContext.SEND_BURST_LENGTH_PARAM_NAME);
+        if (null != sendBurst)
+        {
+            sendBurstLength = Integer.parseInt(sendBurst);
+            Configuration.validateSendBurstLength(sendBurstLength);
+        }
+
+        return sendBurstLength;
+    }
+
+    private static long getSendPacingRate(final AeronUri aeronUri, final long defaultSendPacingRate)
+    {
+        long sendPacingRate = defaultSendPacingRate;
+        final String pacingRate = aeronUri.get(CommonContext.SEND_PACING_RATE_PARAM_NAME);
+        if (null != pacingRate)
+        {
+            sendPacingRate = Long.parseLong(pacingRate);
+            Configuration.validateSendPacingRate(sendPacingRate);
+        }
+
+        return sendPacingRate;
+    }
+
     private void linkSpies(final NetworkPublication publication)
     {
         final ArrayList<SubscriptionLink> links = this.subscriptionLinks;
@@ -747,6 +846,13 @@ public class DriverConductor implements Agent
         return rawLog;
     }
 
+    private NetworkPublicationThreadLocals networkPublicationThreadLocals(final UdpChannel udpChannel)
+    {
+        final NetworkPublicationThreadLocals threadLocals = context.networkPublicationThreadLocals(udpChannel);
+
+        return null != threadLocals ? threadLocals : networkPublicationThreadLocals;
+    }
+
     private SendChannelEndpoint getOrCreateSendChannelEndpoint(final UdpChannel udpChannel)
     {
         SendChannelEndpoint channelEndpoint = sendChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
@@ -945,7 +1051,7 @@ public class DriverConductor implements Agent
         {
             channelEndpoint = context.receiveChannelEndpointSupplier().newInstance(
                 udpChannel,
-                new DataPacketDispatcher(fromReceiverConductorProxy, receiverProxy.receiver()),
+                new DataPacketDispatcher(fromReceiverConductorProxy, receiverProxy.receiver(udpChannel)),
                 ReceiveChannelStatus.allocate(countersManager, udpChannel.originalUriString()),
                 context);
 
@@ -1035,7 +1141,14 @@ public class DriverConductor implements Agent
             final Position publisherLimit = PublisherLimit.allocate(
                 countersManager, registrationId, sessionId, streamId, channel);
 
-            publication = new DirectPublication(registrationId, sessionId, streamId, publisherLimit, rawLog);
+            publication = new DirectPublication(
+                registrationId,
+                sessionId,
+                streamId,
+                publisherLimit,
+                rawLog,
+                Configuration.IPC_PUBLISHER_LIMIT_CLIENT_DRIVEN,
+                context.termCleaner());
 
             directPublications.add(publication);
         }
@@ -113,7 +113,7 @@ public class DriverConductorProxy
     {
         while (!commandQueue.offer(cmd))
         {
-            failCount.orderedIncrement();
+            failCount.increment();
             Thread.yield();
         }
     }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+
+/**
+ * Policy for assigning channel endpoints to {@link Sender} and {@link Receiver} agents when running in
+ * {@link ThreadingMode#SHARDED}. The same agent index must be returned for a given channel for the lifetime of its
+ * endpoint as commands for the endpoint are routed by calling the policy each time.
+ */
+public interface EndpointShardingPolicy
+{
+    /**
+     * Index of the {@link Sender} agent which owns the {@link io.aeron.driver.media.SendChannelEndpoint} for a channel.
+     *
+     * @param udpChannel  for the endpoint.
+     * @param senderCount number of {@link Sender} agents in the driver.
+     * @return the index of the {@link Sender} agent in the range 0 to senderCount - 1.
+     */
+    int senderIndex(UdpChannel udpChannel, int senderCount);
+
+    /**
+     * Index of the {@link Receiver} agent which owns the {@link io.aeron.driver.media.ReceiveChannelEndpoint} for a
+     * channel.
+     *
+     * @param udpChannel    for the endpoint.
+     * @param receiverCount number of {@link Receiver} agents in the driver.
+     * @return the index of the {@link Receiver} agent in the range 0 to receiverCount - 1.
+     */
+    int receiverIndex(UdpChannel udpChannel, int receiverCount);
+}
@@ -36,4 +36,32 @@ public interface FeedbackDelayGenerator
     {
         return false;
     }
+
+    /**
+     * Notification that a new gap has been detected for which feedback will be scheduled.
+     *
+     * @param now    in nanoseconds
+     * @param length of the gap in bytes
+     */
+    default void onLossDetected(final long now, final int length)
+    {
+    }
+
+    /**
+     * Notification that feedback has been sent for a gap for the first time.
+     *
+     * @param now in nanoseconds
+     */
+    default void onFeedbackSent(final long now)
+    {
+    }
+
+    /**
+     * Notification that a gap was repaired before feedback was sent for it, such as by another receiver's NAK.
+     *
+     * @param now in nanoseconds
+     */
+    default void onFeedbackSuppressed(final long now)
+    {
+    }
 }
@@ -18,12 +18,13 @@ package io.aeron.driver;
 import io.aeron.logbuffer.TermGapScanner;
 import org.agrona.concurrent.UnsafeBuffer;
 
-import static io.aeron.logbuffer.TermGapScanner.scanForGap;
+import static io.aeron.logbuffer.TermGapScanner.scanForGaps;
 
 /**
  * Detecting and handling of gaps in a message stream.
  *
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector tracks the first gap in a message stream for timing of feedback and can report up to a maximum
+ * number of gaps found beyond it in the same term so scattered loss is recovered in a single round trip.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
@@ -33,19 +34,45 @@ public class LossDetector implements TermGapScanner.GapHandler
     private final LossHandler lossHandler;
     private final Gap scannedGap = new Gap();
     private final Gap activeGap = new Gap();
+    private final int maxGaps;
+    private final int[] scannedTermOffsets;
+    private final int[] scannedLengths;
+    private final int[] activeTermOffsets;
+    private final int[] activeLengths;
+    private int scannedGapCount;
+    private int activeGapCount;
+    private boolean isFeedbackPending;
 
     private long expiry = TIMER_INACTIVE;
 
     /**
-     * Create a loss detector for a channel.
+     * Create a loss detector for a channel which notifies a single gap at a time.
      *
      * @param delayGenerator to use for delay determination
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling gaps
+     * @param maxGaps        to be notified in a single signal
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.maxGaps = Math.max(1, maxGaps);
+
+        scannedTermOffsets = new int[this.maxGaps];
+        scannedLengths = new int[this.maxGaps];
+        activeTermOffsets = new int[this.maxGaps];
+        activeLengths = new int[this.maxGaps];
     }
 
     /**
@@ -83,7 +110,8 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termBuffer.capacity();
 
-            rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
+            scannedGapCount = 0;
+            rebuildOffset = scanForGaps(termBuffer, rebuildTermId, rebuildOffset, limitOffset, maxGaps, this);
             if (rebuildOffset < limitOffset)
             {
                 if (!scannedGap.matches(activeGap))
@@ -91,9 +119,17 @@ public class LossDetector implements TermGapScanner.GapHandler
                     activateGap(now, scannedGap);
                     lossFound = true;
                 }
+                else
+                {
+                    copyTrailingGaps();
+                }
 
                 checkTimerExpiry(now);
             }
+            else
+            {
+                checkFeedbackSuppressed(now);
+            }
         }
 
         return pack(rebuildOffset, lossFound);
@@ -101,7 +137,14 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedGap.set(termId, offset, length);
+        if (0 == scannedGapCount)
+        {
+            scannedGap.set(termId, offset, length);
+        }
+
+        scannedTermOffsets[scannedGapCount] = offset;
+        scannedLengths[scannedGapCount] = length;
+        scannedGapCount++;
     }
 
     /**
@@ -140,7 +183,14 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     private void activateGap(final long now, final Gap gap)
     {
+        checkFeedbackSuppressed(now);
+        delayGenerator.onLossDetected(now, gap.length);
+        isFeedbackPending = true;
+
         activeGap.set(gap.termId, gap.termOffset, gap.length);
+        activeTermOffsets[0] = gap.termOffset;
+        activeLengths[0] = gap.length;
+        copyTrailingGaps();
 
         if (delayGenerator.shouldFeedbackImmediately())
         {
@@ -156,11 +206,46 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         if (now >= expiry)
         {
-            lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
+            if (1 == activeGapCount)
+            {
+                lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
+            }
+            else
+            {
+                lossHandler.onGapsDetected(activeGap.termId, activeGapCount, activeTermOffsets, activeLengths);
+            }
+
+            if (isFeedbackPending)
+            {
+                isFeedbackPending = false;
+                delayGenerator.onFeedbackSent(now);
+            }
+
             expiry = now + delayGenerator.generateDelay();
         }
     }
 
+    private void checkFeedbackSuppressed(final long now)
+    {
+        if (isFeedbackPending)
+        {
+            isFeedbackPending = false;
+            delayGenerator.onFeedbackSuppressed(now);
+        }
+    }
+
+    private void copyTrailingGaps()
+    {
+        final int gapCount = scannedGapCount;
+        for (int i = 1; i < gapCount; i++)
+        {
+            activeTermOffsets[i] = scannedTermOffsets[i];
+            activeLengths[i] = scannedLengths[i];
+        }
+
+        activeGapCount = gapCount;
+    }
+
     static final class Gap
     {
         int termId;
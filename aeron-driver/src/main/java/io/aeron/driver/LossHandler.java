@@ -29,4 +29,22 @@ public interface LossHandler
      * @param length     of the gap
      */
     void onGapDetected(int termId, int termOffset, int length);
+
+    /**
+     * Called when multiple gaps in the same term of a message stream have been detected in a single scan.
+     *
+     * The arrays are reused between calls so must be consumed or copied before returning.
+     *
+     * @param termId      for the gaps
+     * @param gapCount    number of gaps valid in the arrays
+     * @param termOffsets for the beginning of each gap in ascending order
+     * @param lengths     of each gap
+     */
+    default void onGapsDetected(final int termId, final int gapCount, final int[] termOffsets, final int[] lengths)
+    {
+        for (int i = 0; i < gapCount; i++)
+        {
+            onGapDetected(termId, termOffsets[i], lengths[i]);
+        }
+    }
 }
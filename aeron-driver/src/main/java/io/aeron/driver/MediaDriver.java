@@ -18,6 +18,8 @@ package io.aeron.driver;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLogFactory;
+import io.aeron.driver.buffer.RawLogPool;
+import io.aeron.driver.buffer.TermCleaner;
 import io.aeron.driver.cmd.DriverConductorCmd;
 import io.aeron.driver.cmd.ReceiverCmd;
 import io.aeron.driver.cmd.SenderCmd;
@@ -26,6 +28,7 @@ import io.aeron.driver.exceptions.ConfigurationException;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
+import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
 import org.agrona.*;
@@ -77,6 +80,10 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner conductorRunner;
     private final AgentRunner receiverRunner;
     private final AgentRunner senderRunner;
+    private final AgentRunner[] shardedReceiverRunners;
+    private final AgentRunner[] shardedSenderRunners;
+    private final AgentRunner rawLogPoolRunner;
+    private final AgentRunner termCleanerRunner;
     private final Context ctx;
 
     /**
@@ -163,17 +170,19 @@ public final class MediaDriver implements AutoCloseable
         validateSufficientSocketBufferLengths(ctx);
 
         ctx
-            .toConductorFromReceiverCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
-            .toConductorFromSenderCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
+            .toConductorFromReceiverCommandQueue(new ManyToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
+            .toConductorFromSenderCommandQueue(new ManyToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .receiverCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .senderCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .conclude();
 
-        final Receiver receiver = new Receiver(ctx);
-        final Sender sender = new Sender(ctx);
+        final Receiver[] receivers = newReceivers(ctx);
+        final Sender[] senders = newSenders(ctx);
+        final Receiver receiver = receivers[0];
+        final Sender sender = senders[0];
         final DriverConductor conductor = new DriverConductor(ctx);
 
-        ctx.receiverProxy().receiver(receiver);
+        ctx.receiverProxy().receivers(receivers);
         ctx.senderProxy().sender(sender);
         ctx.fromReceiverDriverConductorProxy().driverConductor(conductor);
         ctx.fromSenderDriverConductorProxy().driverConductor(conductor);
@@ -194,6 +203,8 @@ public final class MediaDriver implements AutoCloseable
                 this.conductorRunner = null;
                 this.receiverRunner = null;
                 this.senderRunner = null;
+                this.shardedReceiverRunners = null;
+                this.shardedSenderRunners = null;
                 break;
 
             case SHARED_NETWORK:
@@ -207,6 +218,37 @@ public final class MediaDriver implements AutoCloseable
                 this.sharedRunner = null;
                 this.receiverRunner = null;
                 this.senderRunner = null;
+                this.shardedReceiverRunners = null;
+                this.shardedSenderRunners = null;
+                break;
+
+            case SHARDED:
+                final StatusIndicator controllableIdleStrategyStatus = new UnsafeBufferStatusIndicator(
+                    ctx.countersManager().valuesBuffer(), CONTROLLABLE_IDLE_STRATEGY.id());
+
+                this.shardedSenderRunners = new AgentRunner[senders.length];
+                for (int i = 0; i < senders.length; i++)
+                {
+                    final IdleStrategy idleStrategy = 0 == i ?
+                        ctx.senderIdleStrategy : Configuration.senderIdleStrategy(controllableIdleStrategyStatus);
+                    shardedSenderRunners[i] = new AgentRunner(idleStrategy, errorHandler, errorCounter, senders[i]);
+                }
+
+                this.shardedReceiverRunners = new AgentRunner[receivers.length];
+                for (int i = 0; i < receivers.length; i++)
+                {
+                    final IdleStrategy idleStrategy = 0 == i ?
+                        ctx.receiverIdleStrategy : Configuration.receiverIdleStrategy(controllableIdleStrategyStatus);
+                    shardedReceiverRunners[i] = new AgentRunner(
+                        idleStrategy, errorHandler, errorCounter, receivers[i]);
+                }
+
+                this.conductorRunner = new AgentRunner(
+                    ctx.conductorIdleStrategy, errorHandler, errorCounter, conductor);
+                this.sharedNetworkRunner = null;
+                this.sharedRunner = null;
+                this.receiverRunner = null;
+                this.senderRunner = null;
                 break;
 
             default:
@@ -217,6 +259,34 @@ public final class MediaDriver implements AutoCloseable
                     ctx.conductorIdleStrategy, errorHandler, errorCounter, conductor);
                 this.sharedNetworkRunner = null;
                 this.sharedRunner = null;
+                this.shardedReceiverRunners = null;
+                this.shardedSenderRunners = null;
+        }
+
+        if (null != ctx.rawLogPool())
+        {
+            this.rawLogPoolRunner = new AgentRunner(
+                new SleepingIdleStrategy(Configuration.LOG_BUFFER_POOL_IDLE_NS),
+                errorHandler,
+                errorCounter,
+                ctx.rawLogPool());
+        }
+        else
+        {
+            this.rawLogPoolRunner = null;
+        }
+
+        if (null != ctx.termCleaner())
+        {
+            this.termCleanerRunner = new AgentRunner(
+                new SleepingIdleStrategy(Configuration.TERM_CLEANER_IDLE_NS),
+                errorHandler,
+                errorCounter,
+                ctx.termCleaner());
+        }
+        else
+        {
+            this.termCleanerRunner = null;
         }
     }
 
@@ -281,7 +351,11 @@ public final class MediaDriver implements AutoCloseable
         CloseHelper.quietClose(sharedNetworkRunner);
         CloseHelper.quietClose(receiverRunner);
         CloseHelper.quietClose(senderRunner);
+        quietClose(shardedReceiverRunners);
+        quietClose(shardedSenderRunners);
         CloseHelper.quietClose(conductorRunner);
+        CloseHelper.quietClose(rawLogPoolRunner);
+        CloseHelper.quietClose(termCleanerRunner);
 
         ctx.close();
     }
@@ -304,6 +378,16 @@ public final class MediaDriver implements AutoCloseable
             HighResolutionTimer.enable();
         }
 
+        if (null != rawLogPoolRunner)
+        {
+            AgentRunner.startOnThread(rawLogPoolRunner, ctx.conductorThreadFactory);
+        }
+
+        if (null != termCleanerRunner)
+        {
+            AgentRunner.startOnThread(termCleanerRunner, ctx.conductorThreadFactory);
+        }
+
         if (null != conductorRunner)
         {
             AgentRunner.startOnThread(conductorRunner, ctx.conductorThreadFactory);
@@ -319,6 +403,22 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory);
         }
 
+        if (null != shardedSenderRunners)
+        {
+            for (final AgentRunner runner : shardedSenderRunners)
+            {
+                AgentRunner.startOnThread(runner, ctx.senderThreadFactory);
+            }
+        }
+
+        if (null != shardedReceiverRunners)
+        {
+            for (final AgentRunner runner : shardedReceiverRunners)
+            {
+                AgentRunner.startOnThread(runner, ctx.receiverThreadFactory);
+            }
+        }
+
         if (null != sharedNetworkRunner)
         {
             AgentRunner.startOnThread(sharedNetworkRunner, ctx.sharedNetworkThreadFactory);
@@ -332,6 +432,61 @@ public final class MediaDriver implements AutoCloseable
         return this;
     }
 
+    private static Sender[] newSenders(final Context ctx)
+    {
+        if (ThreadingMode.SHARDED != ctx.threadingMode)
+        {
+            return new Sender[]{ new Sender(ctx) };
+        }
+
+        final OneToOneConcurrentArrayQueue<SenderCmd>[] commandQueues = ctx.senderCommandQueues();
+        final Sender[] senders = new Sender[commandQueues.length];
+        final NetworkPublicationThreadLocals[] threadLocals = new NetworkPublicationThreadLocals[commandQueues.length];
+        for (int i = 0; i < senders.length; i++)
+        {
+            final ControlTransportPoller poller = 0 == i ? ctx.controlTransportPoller() : new ControlTransportPoller();
+            senders[i] = new Sender(ctx, poller, commandQueues[i], "sender-" + i);
+            threadLocals[i] = new NetworkPublicationThreadLocals();
+        }
+        ctx.networkPublicationThreadLocalsBySender(threadLocals);
+
+        return senders;
+    }
+
+    private static Receiver[] newReceivers(final Context ctx)
+    {
+        if (ThreadingMode.SHARDED != ctx.threadingMode)
+        {
+            return new Receiver[]{ new Receiver(ctx) };
+        }
+
+        final OneToOneConcurrentArrayQueue<ReceiverCmd>[] commandQueues = ctx.receiverCommandQueues();
+        final Receiver[] receivers = new Receiver[commandQueues.length];
+        final ReceiveChannelEndpointThreadLocals[] threadLocals =
+            new ReceiveChannelEndpointThreadLocals[commandQueues.length];
+        for (int i = 0; i < receivers.length; i++)
+        {
+            final DataTransportPoller poller = 0 == i ? ctx.dataTransportPoller() : new DataTransportPoller();
+            receivers[i] = new Receiver(ctx, poller, commandQueues[i], "receiver-" + i);
+            threadLocals[i] = 0 == i ?
+                ctx.receiveChannelEndpointThreadLocals() : new ReceiveChannelEndpointThreadLocals(ctx);
+        }
+        ctx.receiveChannelEndpointThreadLocalsByReceiver(threadLocals);
+
+        return receivers;
+    }
+
+    private static void quietClose(final AgentRunner[] runners)
+    {
+        if (null != runners)
+        {
+            for (final AgentRunner runner : runners)
+            {
+                CloseHelper.quietClose(runner);
+            }
+        }
+    }
+
     private static void validateSufficientSocketBufferLengths(final Context ctx)
     {
         try (DatagramChannel probe = DatagramChannel.open())
@@ -459,16 +614,20 @@ public final class MediaDriver implements AutoCloseable
     public static class Context extends CommonContext
     {
         private RawLogFactory rawLogFactory;
+        private RawLogPool rawLogPool;
+        private TermCleaner termCleaner;
         private DataTransportPoller dataTransportPoller;
         private ControlTransportPoller controlTransportPoller;
         private FlowControlSupplier unicastFlowControlSupplier;
         private FlowControlSupplier multicastFlowControlSupplier;
         private EpochClock epochClock;
         private NanoClock nanoClock;
-        private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromReceiverCommandQueue;
-        private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromSenderCommandQueue;
+        private ManyToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromReceiverCommandQueue;
+        private ManyToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromSenderCommandQueue;
         private OneToOneConcurrentArrayQueue<ReceiverCmd> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue;
+        private OneToOneConcurrentArrayQueue<ReceiverCmd>[] receiverCommandQueues;
+        private OneToOneConcurrentArrayQueue<SenderCmd>[] senderCommandQueues;
         private ReceiverProxy receiverProxy;
         private SenderProxy senderProxy;
         private DriverConductorProxy fromReceiverDriverConductorProxy;
@@ -500,6 +659,10 @@ public final class MediaDriver implements AutoCloseable
         private int publicationTermBufferLength;
         private int ipcPublicationTermBufferLength;
         private int maxTermBufferLength;
+        private int logBufferPoolSize = Configuration.LOG_BUFFER_POOL_SIZE;
+        private boolean termCleanerEnabled = Configuration.TERM_CLEANER_ENABLED;
+        private int senderCount = Configuration.SENDER_COUNT;
+        private int receiverCount = Configuration.RECEIVER_COUNT;
         private int initialWindowLength;
         private long statusMessageTimeout;
         private int mtuLength;
@@ -516,10 +679,13 @@ public final class MediaDriver implements AutoCloseable
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
         private ReceiveChannelEndpointSupplier receiveChannelEndpointSupplier;
         private ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals;
+        private ReceiveChannelEndpointThreadLocals[] receiveChannelEndpointThreadLocalsByReceiver;
+        private NetworkPublicationThreadLocals[] networkPublicationThreadLocalsBySender;
 
         private byte[] applicationSpecificFeedback = Configuration.SM_APPLICATION_SPECIFIC_FEEDBACK;
 
         private CongestionControlSupplier congestionControlSupplier;
+        private EndpointShardingPolicy endpointShardingPolicy;
 
         public Context()
         {
@@ -561,6 +727,7 @@ public final class MediaDriver implements AutoCloseable
                 }
 
                 Configuration.validateInitialWindowLength(initialWindowLength(), mtuLength());
+                Configuration.validateSendBurstLength(Configuration.SEND_BURST_LENGTH);
 
                 cncByteBuffer = mapNewFile(
                     cncFile(),
@@ -605,20 +772,48 @@ public final class MediaDriver implements AutoCloseable
 
                 concludeCounters();
 
+                concludeShardedCommandQueues();
+
                 receiverProxy(new ReceiverProxy(
-                    threadingMode, receiverCommandQueue(), systemCounters.get(RECEIVER_PROXY_FAILS)));
+                    threadingMode,
+                    receiverCommandQueues,
+                    endpointShardingPolicy,
+                    systemCounters.get(RECEIVER_PROXY_FAILS)));
                 senderProxy(new SenderProxy(
-                    threadingMode, senderCommandQueue(), systemCounters.get(SENDER_PROXY_FAILS)));
+                    threadingMode,
+                    senderCommandQueues,
+                    endpointShardingPolicy,
+                    systemCounters.get(SENDER_PROXY_FAILS)));
                 fromReceiverDriverConductorProxy(new DriverConductorProxy(
                     threadingMode, toConductorFromReceiverCommandQueue, systemCounters.get(CONDUCTOR_PROXY_FAILS)));
                 fromSenderDriverConductorProxy(new DriverConductorProxy(
                     threadingMode, toConductorFromSenderCommandQueue, systemCounters.get(CONDUCTOR_PROXY_FAILS)));
 
+                if (logBufferPoolSize > 0)
+                {
+                    rawLogPool = new RawLogPool(
+                        aeronDirectoryName(),
+                        Configuration.logBufferPoolTermLengths(
+                            publicationTermBufferLength, ipcPublicationTermBufferLength),
+                        logBufferPoolSize,
+                        termBufferSparseFile,
+                        errorLog);
+                }
+
+                if (termCleanerEnabled)
+                {
+                    termCleaner = new TermCleaner(
+                        Configuration.TERM_CLEANER_QUEUE_CAPACITY,
+                        systemCounters.get(TERM_BYTES_CLEANED),
+                        systemCounters.get(TERM_CLEANING_LAG));
+                }
+
                 rawLogBuffersFactory(new RawLogFactory(
                     aeronDirectoryName(),
                     maxTermBufferLength,
                     termBufferSparseFile,
-                    errorLog));
+                    errorLog,
+                    rawLogPool));
 
                 if (null == lossReport)
                 {
@@ -636,6 +831,30 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        private void concludeShardedCommandQueues()
+        {
+            final boolean isSharded = ThreadingMode.SHARDED == threadingMode;
+            if (isSharded)
+            {
+                Configuration.validateAgentCount("sender", senderCount);
+                Configuration.validateAgentCount("receiver", receiverCount);
+            }
+
+            senderCommandQueues = CommandQueues.newOneToOneQueueArray(isSharded ? senderCount : 1);
+            senderCommandQueues[0] = senderCommandQueue;
+            for (int i = 1; i < senderCommandQueues.length; i++)
+            {
+                senderCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+            }
+
+            receiverCommandQueues = CommandQueues.newOneToOneQueueArray(isSharded ? receiverCount : 1);
+            receiverCommandQueues[0] = receiverCommandQueue;
+            for (int i = 1; i < receiverCommandQueues.length; i++)
+            {
+                receiverCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+            }
+        }
+
         private void concludeNullProperties()
         {
             if (null == epochClock)
@@ -678,6 +897,11 @@ public final class MediaDriver implements AutoCloseable
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
             }
 
+            if (null == endpointShardingPolicy)
+            {
+                endpointShardingPolicy = Configuration.endpointShardingPolicy();
+            }
+
             if (null == dataTransportPoller)
             {
                 dataTransportPoller = new DataTransportPoller();
@@ -748,13 +972,14 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
-        public Context toConductorFromReceiverCommandQueue(final OneToOneConcurrentArrayQueue<DriverConductorCmd> queue)
+        public Context toConductorFromReceiverCommandQueue(
+            final ManyToOneConcurrentArrayQueue<DriverConductorCmd> queue)
         {
             this.toConductorFromReceiverCommandQueue = queue;
             return this;
         }
 
-        public Context toConductorFromSenderCommandQueue(final OneToOneConcurrentArrayQueue<DriverConductorCmd> queue)
+        public Context toConductorFromSenderCommandQueue(final ManyToOneConcurrentArrayQueue<DriverConductorCmd> queue)
         {
             this.toConductorFromSenderCommandQueue = queue;
             return this;
@@ -898,6 +1123,72 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of pre-created log buffers to keep ready for each pooled term length. 0 disables the pool.
+         *
+         * @param logBufferPoolSize number of pre-created log buffers per term length.
+         * @return this Context for method chaining.
+         * @see Configuration#LOG_BUFFER_POOL_SIZE_PROP_NAME
+         */
+        public Context logBufferPoolSize(final int logBufferPoolSize)
+        {
+            this.logBufferPoolSize = logBufferPoolSize;
+            return this;
+        }
+
+        /**
+         * Should publication logs be cleaned by a dedicated {@link TermCleaner} agent rather than the conductor.
+         *
+         * @param termCleanerEnabled true to clean publication logs on a dedicated agent.
+         * @return this Context for method chaining.
+         * @see Configuration#TERM_CLEANER_ENABLED_PROP_NAME
+         */
+        public Context termCleanerEnabled(final boolean termCleanerEnabled)
+        {
+            this.termCleanerEnabled = termCleanerEnabled;
+            return this;
+        }
+
+        /**
+         * Number of {@link Sender} agents when running in {@link ThreadingMode#SHARDED}. Idle strategies are stateful
+         * so agents after the first use a strategy created from {@link Configuration}.
+         *
+         * @param senderCount number of {@link Sender} agents.
+         * @return this Context for method chaining.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public Context senderCount(final int senderCount)
+        {
+            this.senderCount = senderCount;
+            return this;
+        }
+
+        /**
+         * Number of {@link Receiver} agents when running in {@link ThreadingMode#SHARDED}.
+         *
+         * @param receiverCount number of {@link Receiver} agents.
+         * @return this Context for method chaining.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public Context receiverCount(final int receiverCount)
+        {
+            this.receiverCount = receiverCount;
+            return this;
+        }
+
+        /**
+         * {@link EndpointShardingPolicy} for assigning channel endpoints to agents in {@link ThreadingMode#SHARDED}.
+         *
+         * @param endpointShardingPolicy for assigning channel endpoints to agents.
+         * @return this Context for method chaining.
+         * @see Configuration#ENDPOINT_SHARDING_POLICY_PROP_NAME
+         */
+        public Context endpointShardingPolicy(final EndpointShardingPolicy endpointShardingPolicy)
+        {
+            this.endpointShardingPolicy = endpointShardingPolicy;
+            return this;
+        }
+
         public Context initialWindowLength(final int initialWindowLength)
         {
             this.initialWindowLength = initialWindowLength;
@@ -1027,6 +1318,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * {@link ReceiveChannelEndpointThreadLocals} for each {@link Receiver} in {@link ThreadingMode#SHARDED}, so
+         * endpoints polled by different receivers do not share buffers for control frames.
+         *
+         * @param threadLocals indexed by receiver.
+         * @return this Context for method chaining.
+         */
+        Context receiveChannelEndpointThreadLocalsByReceiver(final ReceiveChannelEndpointThreadLocals[] threadLocals)
+        {
+            this.receiveChannelEndpointThreadLocalsByReceiver = threadLocals;
+            return this;
+        }
+
+        /**
+         * {@link NetworkPublicationThreadLocals} for each {@link Sender} in {@link ThreadingMode#SHARDED}, so
+         * publications sent by different senders do not share buffers for heartbeat, setup and RTT frames.
+         *
+         * @param threadLocals indexed by sender.
+         * @return this Context for method chaining.
+         */
+        Context networkPublicationThreadLocalsBySender(final NetworkPublicationThreadLocals[] threadLocals)
+        {
+            this.networkPublicationThreadLocalsBySender = threadLocals;
+            return this;
+        }
+
         public Context applicationSpecificFeedback(final byte[] bytes)
         {
             this.applicationSpecificFeedback = bytes;
@@ -1049,12 +1366,12 @@ public final class MediaDriver implements AutoCloseable
             return nanoClock;
         }
 
-        public OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromReceiverCommandQueue()
+        public ManyToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromReceiverCommandQueue()
         {
             return toConductorFromReceiverCommandQueue;
         }
 
-        public OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromSenderCommandQueue()
+        public ManyToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromSenderCommandQueue()
         {
             return toConductorFromSenderCommandQueue;
         }
@@ -1094,6 +1411,26 @@ public final class MediaDriver implements AutoCloseable
             return senderCommandQueue;
         }
 
+        /**
+         * Command queues for each of the {@link Sender} agents with the first being {@link #senderCommandQueue()}.
+         *
+         * @return command queues for each of the {@link Sender} agents.
+         */
+        public OneToOneConcurrentArrayQueue<SenderCmd>[] senderCommandQueues()
+        {
+            return senderCommandQueues;
+        }
+
+        /**
+         * Command queues for each of the {@link Receiver} agents with the first being {@link #receiverCommandQueue()}.
+         *
+         * @return command queues for each of the {@link Receiver} agents.
+         */
+        public OneToOneConcurrentArrayQueue<ReceiverCmd>[] receiverCommandQueues()
+        {
+            return receiverCommandQueues;
+        }
+
         public ReceiverProxy receiverProxy()
         {
             return receiverProxy;
@@ -1209,6 +1546,51 @@ public final class MediaDriver implements AutoCloseable
             return ipcPublicationTermBufferLength;
         }
 
+        public int logBufferPoolSize()
+        {
+            return logBufferPoolSize;
+        }
+
+        /**
+         * The pool of pre-created log buffers if enabled.
+         *
+         * @return the pool of pre-created log buffers or null if not enabled.
+         */
+        public RawLogPool rawLogPool()
+        {
+            return rawLogPool;
+        }
+
+        public boolean termCleanerEnabled()
+        {
+            return termCleanerEnabled;
+        }
+
+        /**
+         * The agent which cleans publication logs if enabled.
+         *
+         * @return the agent which cleans publication logs or null if not enabled.
+         */
+        public TermCleaner termCleaner()
+        {
+            return termCleaner;
+        }
+
+        public int senderCount()
+        {
+            return senderCount;
+        }
+
+        public int receiverCount()
+        {
+            return receiverCount;
+        }
+
+        public EndpointShardingPolicy endpointShardingPolicy()
+        {
+            return endpointShardingPolicy;
+        }
+
         public int initialWindowLength()
         {
             return initialWindowLength;
@@ -1287,6 +1669,41 @@ public final class MediaDriver implements AutoCloseable
             return receiveChannelEndpointThreadLocals;
         }
 
+        /**
+         * {@link ReceiveChannelEndpointThreadLocals} for the {@link Receiver} which polls the endpoint for a channel.
+         *
+         * @param udpChannel of the endpoint.
+         * @return the thread locals of the receiver the endpoint is assigned to by the {@link EndpointShardingPolicy}.
+         */
+        public ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals(final UdpChannel udpChannel)
+        {
+            final ReceiveChannelEndpointThreadLocals[] threadLocals = receiveChannelEndpointThreadLocalsByReceiver;
+            if (null == threadLocals)
+            {
+                return receiveChannelEndpointThreadLocals;
+            }
+
+            return threadLocals[endpointShardingPolicy.receiverIndex(udpChannel, threadLocals.length)];
+        }
+
+        /**
+         * {@link NetworkPublicationThreadLocals} for the {@link Sender} which sends publications for a channel.
+         *
+         * @param udpChannel of the endpoint.
+         * @return the thread locals of the sender the endpoint is assigned to by the {@link EndpointShardingPolicy},
+         * or null if there is a single sender.
+         */
+        NetworkPublicationThreadLocals networkPublicationThreadLocals(final UdpChannel udpChannel)
+        {
+            final NetworkPublicationThreadLocals[] threadLocals = networkPublicationThreadLocalsBySender;
+            if (null == threadLocals)
+            {
+                return null;
+            }
+
+            return threadLocals[endpointShardingPolicy.senderIndex(udpChannel, threadLocals.length)];
+        }
+
         public byte[] applicationSpecificFeedback()
         {
             return applicationSpecificFeedback;
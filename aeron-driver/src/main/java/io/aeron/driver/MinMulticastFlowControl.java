@@ -15,11 +15,11 @@
  */
 package io.aeron.driver;
 
-import io.aeron.ArrayListUtil;
 import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.collections.Long2ObjectHashMap;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -29,6 +29,9 @@ import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
  *
  * Min of right edges.
  * Tracking of receivers for X seconds
+ *
+ * Receivers are indexed by receiver id and kept in a min-heap on right edge and a min-heap on time of last status
+ * message so the cost of a status message is O(log n) and idle checks are O(1) unless receivers time out.
  */
 public class MinMulticastFlowControl implements FlowControl
 {
@@ -36,7 +39,9 @@ public class MinMulticastFlowControl implements FlowControl
     private static final long RECEIVER_TIMEOUT_DEFAULT = TimeUnit.SECONDS.toNanos(2);
     private static final long RECEIVER_TIMEOUT = Long.getLong(RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
 
-    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    private final Long2ObjectHashMap<Receiver> receiverById = new Long2ObjectHashMap<>();
+    private final ReceiverHeap positionHeap = new PositionHeap();
+    private final ReceiverHeap timeHeap = new TimeHeap();
 
     /**
      * {@inheritDoc}
@@ -55,33 +60,26 @@ public class MinMulticastFlowControl implements FlowControl
             positionBitsToShift,
             initialTermId);
 
-        final long windowLength = flyweight.receiverWindowLength();
+        final long lastPositionPlusWindow = position + flyweight.receiverWindowLength();
         final long receiverId = flyweight.receiverId();
-        boolean isExisting = false;
-        long minPosition = Long.MAX_VALUE;
 
-        final ArrayList<Receiver> receiverList = this.receiverList;
-        for (int i = 0, size = receiverList.size(); i < size; i++)
+        Receiver receiver = receiverById.get(receiverId);
+        if (null == receiver)
         {
-            final Receiver receiver = receiverList.get(i);
-
-            if (receiverId == receiver.receiverId)
-            {
-                receiver.lastPositionPlusWindow = position + windowLength;
-                receiver.timeOfLastStatusMessage = now;
-                isExisting = true;
-            }
-
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+            receiver = new Receiver(lastPositionPlusWindow, now, receiverId, receiverAddress);
+            receiverById.put(receiverId, receiver);
+            positionHeap.add(receiver);
+            timeHeap.add(receiver);
         }
-
-        if (!isExisting)
+        else
         {
-            receiverList.add(new Receiver(position + windowLength, now, receiverId, receiverAddress));
-            minPosition = Math.min(minPosition, position + windowLength);
+            receiver.lastPositionPlusWindow = lastPositionPlusWindow;
+            receiver.timeOfLastStatusMessage = now;
+            positionHeap.update(receiver);
+            timeHeap.update(receiver);
         }
 
-        return Math.max(senderLimit, minPosition);
+        return Math.max(senderLimit, positionHeap.peek().lastPositionPlusWindow);
     }
 
     /**
@@ -96,24 +94,29 @@ public class MinMulticastFlowControl implements FlowControl
      */
     public long onIdle(final long now, final long senderLimit)
     {
-        long minPosition = Long.MAX_VALUE;
-        final ArrayList<Receiver> receiverList = this.receiverList;
+        final ReceiverHeap timeHeap = this.timeHeap;
 
-        for (int lastIndex = receiverList.size() - 1, i = lastIndex; i >= 0; i--)
+        Receiver oldest;
+        while (null != (oldest = timeHeap.peek()) && now > (oldest.timeOfLastStatusMessage + RECEIVER_TIMEOUT))
         {
-            final Receiver receiver = receiverList.get(i);
-            if (now > (receiver.timeOfLastStatusMessage + RECEIVER_TIMEOUT))
-            {
-                ArrayListUtil.fastUnorderedRemove(receiverList, i, lastIndex);
-                lastIndex--;
-            }
-            else
-            {
-                minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
-            }
+            timeHeap.remove(oldest);
+            positionHeap.remove(oldest);
+            receiverById.remove(oldest.receiverId);
         }
 
-        return receiverList.size() > 0 ? minPosition : senderLimit;
+        final Receiver minReceiver = positionHeap.peek();
+
+        return null != minReceiver ? minReceiver.lastPositionPlusWindow : senderLimit;
+    }
+
+    /**
+     * Number of receivers currently being tracked.
+     *
+     * @return number of receivers currently being tracked.
+     */
+    public int receiverCount()
+    {
+        return receiverById.size();
     }
 
     static class Receiver
@@ -122,6 +125,8 @@ public class MinMulticastFlowControl implements FlowControl
         long timeOfLastStatusMessage;
         long receiverId;
         InetSocketAddress address;
+        int positionHeapIndex;
+        int timeHeapIndex;
 
         Receiver(
             final long lastPositionPlusWindow,
@@ -135,4 +140,159 @@ public class MinMulticastFlowControl implements FlowControl
             this.address = receiverAddress;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Binary min-heap of {@link Receiver}s which records the index of each receiver in the heap so a receiver can be
+     * repositioned or removed without a search.
+     */
+    abstract static class ReceiverHeap
+    {
+        private Receiver[] receivers = new Receiver[16];
+        private int size;
+
+        abstract long key(Receiver receiver);
+
+        abstract int index(Receiver receiver);
+
+        abstract void index(Receiver receiver, int index);
+
+        Receiver peek()
+        {
+            return size > 0 ? receivers[0] : null;
+        }
+
+        void add(final Receiver receiver)
+        {
+            if (size == receivers.length)
+            {
+                receivers = Arrays.copyOf(receivers, size << 1);
+            }
+
+            siftUp(receiver, size++);
+        }
+
+        void update(final Receiver receiver)
+        {
+            final int index = index(receiver);
+            if (index > 0 && key(receiver) < key(receivers[(index - 1) >>> 1]))
+            {
+                siftUp(receiver, index);
+            }
+            else
+            {
+                siftDown(receiver, index);
+            }
+        }
+
+        void remove(final Receiver receiver)
+        {
+            final int index = index(receiver);
+            final int lastIndex = --size;
+            final Receiver last = receivers[lastIndex];
+            receivers[lastIndex] = null;
+
+            if (index != lastIndex)
+            {
+                receivers[index] = last;
+                index(last, index);
+                update(last);
+            }
+        }
+
+        private void siftUp(final Receiver receiver, final int fromIndex)
+        {
+            final Receiver[] receivers = this.receivers;
+            final long key = key(receiver);
+            int index = fromIndex;
+
+            while (index > 0)
+            {
+                final int parentIndex = (index - 1) >>> 1;
+                final Receiver parent = receivers[parentIndex];
+                if (key >= key(parent))
+                {
+                    break;
+                }
+
+                receivers[index] = parent;
+                index(parent, index);
+                index = parentIndex;
+            }
+
+            receivers[index] = receiver;
+            index(receiver, index);
+        }
+
+        private void siftDown(final Receiver receiver, final int fromIndex)
+        {
+            final Receiver[] receivers = this.receivers;
+            final int size = this.size;
+            final long key = key(receiver);
+            int index = fromIndex;
+
+            while (true)
+            {
+                int childIndex = (index << 1) + 1;
+                if (childIndex >= size)
+                {
+                    break;
+                }
+
+                final int rightIndex = childIndex + 1;
+                if (rightIndex < size && key(receivers[rightIndex]) < key(receivers[childIndex]))
+                {
+                    childIndex = rightIndex;
+                }
+
+                final Receiver child = receivers[childIndex];
+                if (key <= key(child))
+                {
+                    break;
+                }
+
+                receivers[index] = child;
+                index(child, index);
+                index = childIndex;
+            }
+
+            receivers[index] = receiver;
+            index(receiver, index);
+        }
+    }
+
+    static final class PositionHeap extends ReceiverHeap
+    {
+        long key(final Receiver receiver)
+        {
+            return receiver.lastPositionPlusWindow;
+        }
+
+        int index(final Receiver receiver)
+        {
+            return receiver.positionHeapIndex;
+        }
+
+        void index(final Receiver receiver, final int index)
+        {
+            receiver.positionHeapIndex = index;
+        }
+    }
+
+    static final class TimeHeap extends ReceiverHeap
+    {
+        long key(final Receiver receiver)
+        {
+            return receiver.timeOfLastStatusMessage;
+        }
+
+        int index(final Receiver receiver)
+        {
+            return receiver.timeHeapIndex;
+        }
+
+        void index(final Receiver receiver, final int index)
+        {
+            receiver.timeHeapIndex = index;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.buffer.TermCleaner;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -37,6 +38,7 @@ import java.nio.ByteBuffer;
 
 import static io.aeron.driver.Configuration.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermScanner.*;
 
@@ -64,7 +66,9 @@ class NetworkPublicationReceiverFields extends NetworkPublicationPadding2
 {
     protected long timeOfLastSendOrHeartbeat;
     protected long timeOfLastSetup;
+    protected long timeOfPacingStart;
     protected boolean trackSenderLimits = true;
+    protected boolean isPaced = false;
     protected boolean shouldSendSetupFrame = true;
 }
 
@@ -87,6 +91,8 @@ public class NetworkPublication
     private final int initialTermId;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int sendBurstLength;
+    private final boolean isExclusive;
     private final int termWindowLength;
     private final int sessionId;
     private final int streamId;
@@ -115,6 +121,12 @@ public class NetworkPublication
     private final AtomicCounter retransmitsSent;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter shortSends;
+    private final AtomicCounter sendBursts;
+    private final AtomicCounter sendBurstDatagrams;
+    private final AtomicCounter senderPacingLimits;
+    private final AtomicCounter senderPacedTime;
+    private final SendPacer pacer;
+    private final TermCleaner.Log cleaningLog;
     private ReadablePosition[] spyPositions = EMPTY_POSITIONS;
 
     public NetworkPublication(
@@ -129,10 +141,14 @@ public class NetworkPublication
         final int streamId,
         final int initialTermId,
         final int mtuLength,
+        final int sendBurstLength,
+        final long pacingRate,
+        final boolean isExclusive,
         final SystemCounters systemCounters,
         final FlowControl flowControl,
         final RetransmitHandler retransmitHandler,
-        final NetworkPublicationThreadLocals threadLocals)
+        final NetworkPublicationThreadLocals threadLocals,
+        final TermCleaner termCleaner)
     {
         this.channelEndpoint = channelEndpoint;
         this.rawLog = rawLog;
@@ -144,6 +160,8 @@ public class NetworkPublication
         this.retransmitHandler = retransmitHandler;
         this.publisherLimit = publisherLimit;
         this.mtuLength = mtuLength;
+        this.sendBurstLength = sendBurstLength;
+        this.isExclusive = isExclusive;
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
@@ -159,15 +177,21 @@ public class NetworkPublication
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
+        sendBursts = systemCounters.get(SEND_BURSTS);
+        sendBurstDatagrams = systemCounters.get(SEND_BURST_DATAGRAMS);
+        senderPacingLimits = systemCounters.get(SENDER_PACING_LIMITS);
+        senderPacedTime = systemCounters.get(SENDER_PACED_TIME_NS);
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
+        cleaningLog = null != termCleaner ? termCleaner.newLog(rawLog) : null;
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
         flowControl.initialize(initialTermId, termLength);
 
         final long time = nanoClock.nanoTime();
+        pacer = pacingRate > 0 ? new SendPacer(pacingRate, sendBurstLength * mtuLength, time) : null;
         timeOfLastSendOrHeartbeat = time - PUBLICATION_HEARTBEAT_TIMEOUT_NS - 1;
         timeOfLastSetup = time - PUBLICATION_SETUP_TIMEOUT_NS - 1;
 
@@ -185,7 +209,14 @@ public class NetworkPublication
             position.close();
         }
 
-        rawLog.close();
+        if (null != cleaningLog)
+        {
+            cleaningLog.close(rawLog);
+        }
+        else
+        {
+            rawLog.close();
+        }
     }
 
     public int mtuLength()
@@ -193,6 +224,31 @@ public class NetworkPublication
         return mtuLength;
     }
 
+    /**
+     * Is this publication exclusive to a single client publication with its own session.
+     *
+     * @return true if this publication is exclusive otherwise false if it may be shared.
+     */
+    public boolean isExclusive()
+    {
+        return isExclusive;
+    }
+
+    public int sendBurstLength()
+    {
+        return sendBurstLength;
+    }
+
+    /**
+     * The rate in bytes per second at which data is paced onto the network.
+     *
+     * @return the rate in bytes per second at which data is paced onto the network or 0 if not paced.
+     */
+    public long pacingRate()
+    {
+        return null == pacer ? 0 : pacer.bytesPerSecond();
+    }
+
     public int send(final long now)
     {
         final long senderPosition = this.senderPosition.get();
@@ -280,7 +336,12 @@ public class NetworkPublication
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.orderedIncrement();
+            if (null != pacer)
+            {
+                pacer.consume(length - remainingBytes);
+            }
+
+            retransmitsSent.increment();
         }
     }
 
@@ -322,9 +383,19 @@ public class NetworkPublication
             candidatePublisherLimit = Math.min(candidatePublisherLimit, minSpyPosition + termWindowLength);
         }
 
+        if (null != cleaningLog)
+        {
+            final long reservedRange = (termLengthMask + 1) * 2L;
+            cleaningLog.requestCleanTo(candidatePublisherLimit - reservedRange);
+            candidatePublisherLimit = Math.min(candidatePublisherLimit, cleaningLog.cleanedPosition() + reservedRange);
+        }
+
         if (publisherLimit.proposeMaxOrdered(candidatePublisherLimit))
         {
-            cleanBuffer(candidatePublisherLimit);
+            if (null == cleaningLog)
+            {
+                cleanBuffer(candidatePublisherLimit);
+            }
 
             workCount = 1;
         }
@@ -409,42 +480,103 @@ public class NetworkPublication
     private int sendData(final long now, final long senderPosition, final int termOffset)
     {
         int bytesSent = 0;
-        final int availableWindow = (int)(senderLimit.get() - senderPosition);
+        int availableWindow = (int)(senderLimit.get() - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
-            final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            long position = senderPosition;
+            int offset = termOffset;
+            int datagramsSent = 0;
+            int pacingAllowance = null == pacer ? Integer.MAX_VALUE : pacer.available(now);
+            boolean isPacingLimited = false;
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            do
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+                final int windowLimit = Math.min(availableWindow, mtuLength);
+                final int scanLimit = Math.min(windowLimit, pacingAllowance);
+                final int activeIndex = indexByPosition(position, positionBitsToShift);
+                final UnsafeBuffer termBuffer = termBuffers[activeIndex];
 
-                if (available == channelEndpoint.send(sendBuffer))
+                final long scanOutcome = scanForAvailability(termBuffer, offset, scanLimit);
+                final int available = available(scanOutcome);
+                if (available <= 0)
                 {
-                    timeOfLastSendOrHeartbeat = now;
-                    trackSenderLimits = true;
-
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                    isPacingLimited = scanLimit < windowLimit && frameLengthVolatile(termBuffer, offset) > 0;
+                    break;
                 }
-                else
+
+                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
+                sendBuffer.limit(offset + available).position(offset);
+
+                if (available != channelEndpoint.send(sendBuffer))
                 {
                     shortSends.increment();
+                    break;
                 }
+
+                final int advance = available + padding(scanOutcome);
+                bytesSent += available;
+                pacingAllowance -= available;
+                position += advance;
+                availableWindow -= advance;
+                offset = (int)position & termLengthMask;
+            }
+            while (++datagramsSent < sendBurstLength && availableWindow > 0);
+
+            if (bytesSent > 0)
+            {
+                timeOfLastSendOrHeartbeat = now;
+                trackSenderLimits = true;
+
+                this.senderPosition.setOrdered(position);
+
+                if (sendBurstLength > 1)
+                {
+                    sendBursts.increment();
+                    sendBurstDatagrams.add(datagramsSent);
+                }
+            }
+
+            if (null != pacer)
+            {
+                pacer.consume(bytesSent);
+                pacingLimitCheck(now, isPacingLimited);
             }
         }
-        else if (trackSenderLimits)
+        else
         {
-            trackSenderLimits = false;
-            senderFlowControlLimits.orderedIncrement();
+            if (trackSenderLimits)
+            {
+                trackSenderLimits = false;
+                senderFlowControlLimits.increment();
+            }
+
+            if (null != pacer)
+            {
+                pacingLimitCheck(now, false);
+            }
         }
 
         return bytesSent;
     }
 
+    private void pacingLimitCheck(final long now, final boolean isPacingLimited)
+    {
+        if (isPacingLimited)
+        {
+            if (!isPaced)
+            {
+                isPaced = true;
+                timeOfPacingStart = now;
+                senderPacingLimits.increment();
+            }
+        }
+        else if (isPaced)
+        {
+            isPaced = false;
+            senderPacedTime.add(now - timeOfPacingStart);
+        }
+    }
+
     private void setupMessageCheck(final long now, final int activeTermId, final int termOffset)
     {
         if (now > (timeOfLastSetup + PUBLICATION_SETUP_TIMEOUT_NS))
@@ -495,7 +627,7 @@ public class NetworkPublication
                 shortSends.increment();
             }
 
-            heartbeatsSent.orderedIncrement();
+            heartbeatsSent.increment();
             timeOfLastSendOrHeartbeat = now;
         }
 
@@ -22,6 +22,7 @@ import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import org.agrona.CloseHelper;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -88,8 +89,11 @@ public class PublicationImage
     private volatile long beginLossChange = -1;
     private volatile long endLossChange = -1;
     private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private int lossGapCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
+    private final int[] nakTermOffsets;
+    private final int[] nakLengths;
 
     private volatile long beginSmChange = -1;
     private volatile long endSmChange = -1;
@@ -116,6 +120,7 @@ public class PublicationImage
     private final UnsafeBuffer[] termBuffers;
     private final Position hwmPosition;
     private final LossDetector lossDetector;
+    private final FeedbackDelayGenerator lossFeedbackDelayGenerator;
     private final CongestionControl congestionControl;
     private final Position rebuildPosition;
     private ReadablePosition[] subscriberPositions;
@@ -152,7 +157,8 @@ public class PublicationImage
         final InetSocketAddress sourceAddress,
         final CongestionControl congestionControl,
         final LossReport lossReport,
-        final boolean isReliable)
+        final boolean isReliable,
+        final int nakMaxGaps)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = imageLivenessTimeoutNs;
@@ -184,7 +190,14 @@ public class PublicationImage
         lastPacketTimestamp = time;
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        this.lossFeedbackDelayGenerator = lossFeedbackDelayGenerator;
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, nakMaxGaps);
+
+        final int maxGaps = Math.max(1, nakMaxGaps);
+        lossTermOffsets = new int[maxGaps];
+        lossLengths = new int[maxGaps];
+        nakTermOffsets = new int[maxGaps];
+        nakLengths = new int[maxGaps];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -213,6 +226,11 @@ public class PublicationImage
         }
 
         congestionControl.close();
+        if (lossFeedbackDelayGenerator instanceof AutoCloseable)
+        {
+            CloseHelper.close((AutoCloseable)lossFeedbackDelayGenerator);
+        }
+
         rawLog.close();
     }
 
@@ -360,11 +378,41 @@ public class PublicationImage
         beginLossChange = changeNumber;
 
         lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
+        lossGapCount = 1;
+        lossTermOffsets[0] = termOffset;
+        lossLengths[0] = length;
 
         endLossChange = changeNumber;
 
+        recordLoss(length);
+    }
+
+    /**
+     * Called from the {@link LossDetector} when multiple gaps are detected by the {@link DriverConductor} thread.
+     *
+     * @see LossHandler
+     */
+    public void onGapsDetected(final int termId, final int gapCount, final int[] termOffsets, final int[] lengths)
+    {
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+
+        lossTermId = termId;
+        lossGapCount = gapCount;
+        System.arraycopy(termOffsets, 0, lossTermOffsets, 0, gapCount);
+        System.arraycopy(lengths, 0, lossLengths, 0, gapCount);
+
+        endLossChange = changeNumber;
+
+        for (int i = 0; i < gapCount; i++)
+        {
+            recordLoss(lengths[i]);
+        }
+    }
+
+    private void recordLoss(final int length)
+    {
         if (null != reportEntry)
         {
             reportEntry.recordObservation(length, epochClock.time());
@@ -470,7 +518,7 @@ public class PublicationImage
         {
             if (isHeartbeat)
             {
-                heartbeatsReceived.orderedIncrement();
+                heartbeatsReceived.increment();
             }
             else
             {
@@ -530,7 +578,7 @@ public class PublicationImage
                     channelEndpoint.sendStatusMessage(
                         controlAddress, sessionId, streamId, termId, termOffset, receiverWindowLength, (byte)0);
 
-                    statusMessagesSent.orderedIncrement();
+                    statusMessagesSent.increment();
 
                     lastSmChangeNumber = changeNumber;
                     workCount = 1;
@@ -554,8 +602,9 @@ public class PublicationImage
         if (changeNumber != lastLossChangeNumber)
         {
             final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
+            final int gapCount = Math.min(lossGapCount, nakTermOffsets.length);
+            System.arraycopy(lossTermOffsets, 0, nakTermOffsets, 0, gapCount);
+            System.arraycopy(lossLengths, 0, nakLengths, 0, gapCount);
 
             UNSAFE.loadFence(); // LoadLoad required so previous loads don't move past version check below.
 
@@ -563,15 +612,28 @@ public class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.orderedIncrement();
+                    if (1 == gapCount)
+                    {
+                        channelEndpoint.sendNakMessage(
+                            controlAddress, sessionId, streamId, termId, nakTermOffsets[0], nakLengths[0]);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendMultiNakMessage(
+                            controlAddress, sessionId, streamId, termId, gapCount, nakTermOffsets, nakLengths);
+                    }
+
+                    nakMessagesSent.increment();
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+                    for (int i = 0; i < gapCount; i++)
                     {
-                        lossGapFills.orderedIncrement();
+                        if (tryFillGap(rawLog.metaData(), termBuffer, termId, nakTermOffsets[i], nakLengths[i]))
+                        {
+                            lossGapFills.increment();
+                        }
                     }
                 }
 
@@ -727,7 +789,7 @@ public class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.orderedIncrement();
+            flowControlUnderRuns.increment();
         }
 
         return isFlowControlUnderRun;
@@ -739,7 +801,7 @@ public class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.orderedIncrement();
+            flowControlOverRuns.increment();
         }
 
         return isFlowControlOverRun;
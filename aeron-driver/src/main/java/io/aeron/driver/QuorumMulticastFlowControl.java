@@ -0,0 +1,248 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.BitUtil;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
+import static java.lang.System.getProperty;
+
+/**
+ * Multicast sender flow control strategy which advances when a quorum of a group of receivers have acknowledged.
+ *
+ * Receivers are members of the group when the application specific feedback of their status messages matches the
+ * group tag. The sender limit is the right edge which at least quorum members have reached, so receivers outside the
+ * group and the slowest members beyond the quorum do not hold back the sender. The sender limit does not advance
+ * while fewer than quorum members are being tracked.
+ * Tracking of group members for X seconds
+ */
+public class QuorumMulticastFlowControl implements FlowControl
+{
+    private static final String RECEIVER_TIMEOUT_PROP_NAME = "aeron.QuorumMulticastFlowControl.receiverTimeout";
+    private static final long RECEIVER_TIMEOUT_DEFAULT = TimeUnit.SECONDS.toNanos(2);
+    private static final long RECEIVER_TIMEOUT = Long.getLong(RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
+
+    private static final String GROUP_ASF_PROP_NAME = "aeron.QuorumMulticastFlowControl.asf";
+    private static final String GROUP_ASF_DEFAULT = "FFFFFFFF";
+    public static final String GROUP_ASF = getProperty(GROUP_ASF_PROP_NAME, GROUP_ASF_DEFAULT);
+
+    private static final String QUORUM_PROP_NAME = "aeron.QuorumMulticastFlowControl.quorum";
+    private static final int QUORUM_DEFAULT = 1;
+    public static final int QUORUM = Integer.getInteger(QUORUM_PROP_NAME, QUORUM_DEFAULT);
+
+    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    private final byte[] groupTag;
+    private final int quorum;
+    private final byte[] smAsf;
+
+    public QuorumMulticastFlowControl()
+    {
+        this(BitUtil.fromHex(GROUP_ASF), QUORUM);
+    }
+
+    /**
+     * Construct flow control for a group of receivers.
+     *
+     * @param groupTag which the application specific feedback of group members match.
+     * @param quorum   number of group members which must have reached a position for the sender to advance to it.
+     */
+    public QuorumMulticastFlowControl(final byte[] groupTag, final int quorum)
+    {
+        if (quorum < 1)
+        {
+            throw new IllegalArgumentException("quorum must be at least 1: " + quorum);
+        }
+
+        this.groupTag = groupTag;
+        this.quorum = quorum;
+        this.smAsf = new byte[groupTag.length + 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onStatusMessage(
+        final StatusMessageFlyweight flyweight,
+        final InetSocketAddress receiverAddress,
+        final long senderLimit,
+        final int initialTermId,
+        final int positionBitsToShift,
+        final long now)
+    {
+        if (!isFromGroup(flyweight))
+        {
+            return senderLimit;
+        }
+
+        final long position = computePosition(
+            flyweight.consumptionTermId(),
+            flyweight.consumptionTermOffset(),
+            positionBitsToShift,
+            initialTermId);
+
+        final long lastPositionPlusWindow = position + flyweight.receiverWindowLength();
+        final long receiverId = flyweight.receiverId();
+        boolean isExisting = false;
+
+        final ArrayList<Receiver> receiverList = this.receiverList;
+        for (int i = 0, size = receiverList.size(); i < size; i++)
+        {
+            final Receiver receiver = receiverList.get(i);
+            if (receiverId == receiver.receiverId)
+            {
+                receiver.lastPositionPlusWindow = lastPositionPlusWindow;
+                receiver.timeOfLastStatusMessage = now;
+                reorder(receiverList, i);
+                isExisting = true;
+                break;
+            }
+        }
+
+        if (!isExisting)
+        {
+            receiverList.add(new Receiver(lastPositionPlusWindow, now, receiverId, receiverAddress));
+            reorder(receiverList, receiverList.size() - 1);
+        }
+
+        return Math.max(senderLimit, quorumPosition(senderLimit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void initialize(final int initialTermId, final int termBufferCapacity)
+    {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onIdle(final long now, final long senderLimit)
+    {
+        final ArrayList<Receiver> receiverList = this.receiverList;
+
+        for (int i = receiverList.size() - 1; i >= 0; i--)
+        {
+            final Receiver receiver = receiverList.get(i);
+            if (now > (receiver.timeOfLastStatusMessage + RECEIVER_TIMEOUT))
+            {
+                receiverList.remove(i);
+            }
+        }
+
+        return quorumPosition(senderLimit);
+    }
+
+    /**
+     * Is the status message from a member of the group by matching its application specific feedback to the group tag.
+     * Feedback of a different length to the group tag does not match.
+     *
+     * @param sm status message to check.
+     * @return true if the status message is from a member of the group.
+     */
+    public boolean isFromGroup(final StatusMessageFlyweight sm)
+    {
+        final byte[] groupTag = this.groupTag;
+        final int asfLength = sm.applicationSpecificFeedback(smAsf);
+
+        if (asfLength != groupTag.length)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < asfLength; i++)
+        {
+            if (smAsf[i] != groupTag[i])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Number of group members currently being tracked.
+     *
+     * @return number of group members currently being tracked.
+     */
+    public int memberCount()
+    {
+        return receiverList.size();
+    }
+
+    private long quorumPosition(final long senderLimit)
+    {
+        final ArrayList<Receiver> receiverList = this.receiverList;
+        final int size = receiverList.size();
+        if (size < quorum)
+        {
+            return senderLimit;
+        }
+
+        return receiverList.get(size - quorum).lastPositionPlusWindow;
+    }
+
+    /**
+     * Move the receiver at an index to keep the list in ascending order of right edge after its right edge changes.
+     */
+    private static void reorder(final ArrayList<Receiver> receiverList, final int index)
+    {
+        final Receiver receiver = receiverList.get(index);
+        final long lastPositionPlusWindow = receiver.lastPositionPlusWindow;
+        final int lastIndex = receiverList.size() - 1;
+        int i = index;
+
+        while (i < lastIndex && receiverList.get(i + 1).lastPositionPlusWindow < lastPositionPlusWindow)
+        {
+            receiverList.set(i, receiverList.get(i + 1));
+            i++;
+        }
+
+        while (i > 0 && receiverList.get(i - 1).lastPositionPlusWindow > lastPositionPlusWindow)
+        {
+            receiverList.set(i, receiverList.get(i - 1));
+            i--;
+        }
+
+        receiverList.set(i, receiver);
+    }
+
+    static class Receiver
+    {
+        long lastPositionPlusWindow;
+        long timeOfLastStatusMessage;
+        long receiverId;
+        InetSocketAddress address;
+
+        Receiver(
+            final long lastPositionPlusWindow,
+            final long now,
+            final long receiverId,
+            final InetSocketAddress receiverAddress)
+        {
+            this.lastPositionPlusWindow = lastPositionPlusWindow;
+            this.timeOfLastStatusMessage = now;
+            this.receiverId = receiverId;
+            this.address = receiverAddress;
+        }
+    }
+}
@@ -39,20 +39,31 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
     private final OneToOneConcurrentArrayQueue<ReceiverCmd> commandQueue;
     private final AtomicCounter totalBytesReceived;
     private final NanoClock clock;
+    private final String roleName;
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
 
     public Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(ctx, ctx.dataTransportPoller(), ctx.receiverCommandQueue(), "receiver");
+    }
+
+    public Receiver(
+        final MediaDriver.Context ctx,
+        final DataTransportPoller dataTransportPoller,
+        final OneToOneConcurrentArrayQueue<ReceiverCmd> commandQueue,
+        final String roleName)
+    {
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
+        this.roleName = roleName;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
         clock = ctx.nanoClock();
     }
 
     public String roleName()
     {
-        return "receiver";
+        return roleName;
     }
 
     public int doWork() throws Exception
@@ -82,7 +93,10 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
         timeoutPendingSetupMessages(now);
 
-        totalBytesReceived.addOrdered(bytesReceived);
+        if (bytesReceived > 0)
+        {
+            totalBytesReceived.add(bytesReceived);
+        }
 
         return workCount + bytesReceived;
     }
@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.driver.cmd.*;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
 import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.Queue;
@@ -29,22 +30,41 @@ import static io.aeron.driver.ThreadingMode.SHARED;
 public class ReceiverProxy
 {
     private final ThreadingMode threadingMode;
-    private final Queue<ReceiverCmd> commandQueue;
+    private final Queue<ReceiverCmd>[] commandQueues;
+    private final EndpointShardingPolicy shardingPolicy;
     private final AtomicCounter failCount;
 
     private Receiver receiver;
+    private Receiver[] receivers;
 
     public ReceiverProxy(
         final ThreadingMode threadingMode, final Queue<ReceiverCmd> commandQueue, final AtomicCounter failCount)
+    {
+        this(threadingMode, CommandQueues.singletonQueueArray(commandQueue), null, failCount);
+    }
+
+    public ReceiverProxy(
+        final ThreadingMode threadingMode,
+        final Queue<ReceiverCmd>[] commandQueues,
+        final EndpointShardingPolicy shardingPolicy,
+        final AtomicCounter failCount)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = commandQueues;
+        this.shardingPolicy = shardingPolicy;
         this.failCount = failCount;
     }
 
     public void receiver(final Receiver receiver)
     {
         this.receiver = receiver;
+        this.receivers = new Receiver[]{ receiver };
+    }
+
+    public void receivers(final Receiver[] receivers)
+    {
+        this.receiver = receivers[0];
+        this.receivers = receivers;
     }
 
     public Receiver receiver()
@@ -52,6 +72,19 @@ public class ReceiverProxy
         return receiver;
     }
 
+    /**
+     * The {@link Receiver} which owns the endpoint for a channel.
+     *
+     * @param udpChannel for the endpoint.
+     * @return the {@link Receiver} which owns the endpoint for a channel.
+     */
+    public Receiver receiver(final UdpChannel udpChannel)
+    {
+        final Receiver[] receivers = this.receivers;
+
+        return 1 == receivers.length ? receivers[0] : receivers[receiverIndex(udpChannel)];
+    }
+
     public void addSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId)
     {
         if (isSharedThread())
@@ -60,7 +93,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new AddSubscriptionCmd(mediaEndpoint, streamId));
+            offer(mediaEndpoint, new AddSubscriptionCmd(mediaEndpoint, streamId));
         }
     }
 
@@ -72,7 +105,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new RemoveSubscriptionCmd(mediaEndpoint, streamId));
+            offer(mediaEndpoint, new RemoveSubscriptionCmd(mediaEndpoint, streamId));
         }
     }
 
@@ -84,7 +117,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new NewPublicationImageCmd(channelEndpoint, image));
+            offer(channelEndpoint, new NewPublicationImageCmd(channelEndpoint, image));
         }
     }
 
@@ -96,7 +129,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new RegisterReceiveChannelEndpointCmd(channelEndpoint));
+            offer(channelEndpoint, new RegisterReceiveChannelEndpointCmd(channelEndpoint));
         }
     }
 
@@ -108,7 +141,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new CloseReceiveChannelEndpointCmd(channelEndpoint));
+            offer(channelEndpoint, new CloseReceiveChannelEndpointCmd(channelEndpoint));
         }
     }
 
@@ -120,7 +153,7 @@ public class ReceiverProxy
         }
         else
         {
-            offer(new RemoveCoolDownCmd(channelEndpoint, sessionId, streamId));
+            offer(channelEndpoint, new RemoveCoolDownCmd(channelEndpoint, sessionId, streamId));
         }
     }
 
@@ -129,8 +162,17 @@ public class ReceiverProxy
         return threadingMode == SHARED;
     }
 
-    private void offer(final ReceiverCmd cmd)
+    private int receiverIndex(final UdpChannel udpChannel)
     {
+        return shardingPolicy.receiverIndex(udpChannel, commandQueues.length);
+    }
+
+    private void offer(final ReceiveChannelEndpoint channelEndpoint, final ReceiverCmd cmd)
+    {
+        final Queue<ReceiverCmd>[] commandQueues = this.commandQueues;
+        final Queue<ReceiverCmd> commandQueue = 1 == commandQueues.length ?
+            commandQueues[0] : commandQueues[receiverIndex(channelEndpoint.udpChannel())];
+
         while (!commandQueue.offer(cmd))
         {
             failCount.orderedIncrement();
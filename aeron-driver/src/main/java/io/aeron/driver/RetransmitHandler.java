@@ -17,27 +17,39 @@ package io.aeron.driver;
 
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.protocol.DataHeaderFlyweight;
-import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 
+import java.util.Arrays;
+
 import static io.aeron.driver.Configuration.MAX_RETRANSMITS_DEFAULT;
 import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
+import static io.aeron.driver.status.SystemCounterDescriptor.NAKS_COALESCED;
+import static io.aeron.driver.status.SystemCounterDescriptor.RETRANSMIT_BYTES_COALESCED;
 
 /**
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  *
- * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
- * will be ignored if this maximum is reached.
+ * NAKs for ranges which overlap or are adjacent to a delayed retransmit are merged into it, and the parts of a range
+ * covered by a lingering retransmit are ignored, so NAKs from many receivers for the same loss result in a single
+ * retransmit. The pool of actions starts at {@link Configuration#MAX_RETRANSMITS_DEFAULT} and grows as required up to
+ * {@link #MAX_RETRANSMIT_ACTIONS}, beyond which NAKs are ignored until actions expire and the receivers NAK again.
  */
 public class RetransmitHandler
 {
-    private final BiInt2ObjectMap<RetransmitAction> activeRetransmitsMap = new BiInt2ObjectMap<>();
-    private final RetransmitAction[] retransmitActionPool = new RetransmitAction[MAX_RETRANSMITS_DEFAULT];
+    /**
+     * Maximum number of retransmit actions which can be active at the same time.
+     */
+    public static final int MAX_RETRANSMIT_ACTIONS = MAX_RETRANSMITS_DEFAULT * 16;
+
+    private RetransmitAction[] retransmitActionPool = new RetransmitAction[MAX_RETRANSMITS_DEFAULT];
+    private int activeRetransmitCount;
     private final NanoClock nanoClock;
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final AtomicCounter naksCoalesced;
+    private final AtomicCounter retransmitBytesCoalesced;
 
     /**
      * Create a retransmit handler.
@@ -55,6 +67,8 @@ public class RetransmitHandler
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = systemCounters.get(INVALID_PACKETS);
+        this.naksCoalesced = systemCounters.get(NAKS_COALESCED);
+        this.retransmitBytesCoalesced = systemCounters.get(RETRANSMIT_BYTES_COALESCED);
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
 
@@ -80,30 +94,103 @@ public class RetransmitHandler
         final int termLength,
         final RetransmitSender retransmitSender)
     {
-        if (!isInvalid(termOffset, termLength))
+        if (isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
-            {
-                final RetransmitAction action = assignRetransmitAction();
-                action.termId = termId;
-                action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+            return;
+        }
+
+        final int nakLength = Math.min(length, termLength - termOffset);
+        int start = termOffset;
+        int end = termOffset + nakLength;
 
-                final long delay = determineRetransmitDelay();
-                if (0 == delay)
+        if (activeRetransmitCount > 0)
+        {
+            final RetransmitAction[] pool = this.retransmitActionPool;
+            for (final RetransmitAction action : pool)
+            {
+                if (State.LINGERING == action.state && termId == action.termId)
                 {
-                    retransmitSender.resend(termId, termOffset, action.length);
-                    action.linger(determineLingerTimeout(), nanoClock.nanoTime());
+                    final int actionEnd = action.termOffset + action.length;
+                    if (action.termOffset <= start && start < actionEnd)
+                    {
+                        start = Math.min(actionEnd, end);
+                    }
+                    else if (action.termOffset < end && end <= actionEnd)
+                    {
+                        end = Math.max(action.termOffset, start);
+                    }
                 }
-                else
+            }
+
+            if (start >= end)
+            {
+                onCoalesced(nakLength);
+                return;
+            }
+
+            RetransmitAction mergedAction = null;
+            int addedLength = 0;
+            for (final RetransmitAction action : pool)
+            {
+                if (State.DELAYED == action.state && termId == action.termId)
                 {
-                    action.delay(delay, nanoClock.nanoTime());
+                    final int actionEnd = action.termOffset + action.length;
+                    if (action.termOffset <= end && start <= actionEnd)
+                    {
+                        start = Math.min(start, action.termOffset);
+                        end = Math.max(end, actionEnd);
+
+                        if (null == mergedAction)
+                        {
+                            mergedAction = action;
+                            addedLength -= action.length;
+                        }
+                        else
+                        {
+                            addedLength -= action.length;
+                            action.cancel();
+                            activeRetransmitCount--;
+                        }
+                    }
                 }
+            }
+
+            if (null != mergedAction)
+            {
+                mergedAction.termOffset = start;
+                mergedAction.length = end - start;
+                addedLength += mergedAction.length;
+                onCoalesced(nakLength - Math.max(addedLength, 0));
+                return;
+            }
 
-                activeRetransmitsMap.put(termId, termOffset, action);
+            if (end - start < nakLength)
+            {
+                retransmitBytesCoalesced.add(nakLength - (end - start));
             }
         }
+
+        final RetransmitAction action = assignRetransmitAction();
+        if (null == action)
+        {
+            return;
+        }
+
+        action.termId = termId;
+        action.termOffset = start;
+        action.length = end - start;
+        activeRetransmitCount++;
+
+        final long delay = determineRetransmitDelay();
+        if (0 == delay)
+        {
+            retransmitSender.resend(termId, start, action.length);
+            action.linger(determineLingerTimeout(), nanoClock.nanoTime());
+        }
+        else
+        {
+            action.delay(delay, nanoClock.nanoTime());
+        }
     }
 
     /**
@@ -112,17 +199,25 @@ public class RetransmitHandler
      * NOTE: Currently only called from unit tests. Would be used for retransmitting from receivers for NAK suppression
      *
      * @param termId     of the data
-     * @param termOffset of the data
+     * @param termOffset of the data which may be anywhere within the range of a delayed retransmit
      */
     public void onRetransmitReceived(final int termId, final int termOffset)
     {
-        final RetransmitAction action = activeRetransmitsMap.get(termId, termOffset);
-
-        if (null != action && State.DELAYED == action.state)
+        if (activeRetransmitCount > 0)
         {
-            activeRetransmitsMap.remove(termId, termOffset);
-            action.cancel();
-            // do not go into linger
+            for (final RetransmitAction action : retransmitActionPool)
+            {
+                if (State.DELAYED == action.state &&
+                    termId == action.termId &&
+                    action.termOffset <= termOffset &&
+                    termOffset < action.termOffset + action.length)
+                {
+                    action.cancel();
+                    activeRetransmitCount--;
+                    // do not go into linger
+                    break;
+                }
+            }
         }
     }
 
@@ -137,7 +232,7 @@ public class RetransmitHandler
     {
         int result = 0;
 
-        if (activeRetransmitsMap.size() > 0)
+        if (activeRetransmitCount > 0)
         {
             for (final RetransmitAction action : retransmitActionPool)
             {
@@ -156,7 +251,7 @@ public class RetransmitHandler
                         if (now > action.expire)
                         {
                             action.cancel();
-                            activeRetransmitsMap.remove(action.termId, action.termOffset);
+                            activeRetransmitCount--;
                             result++;
                         }
                         break;
@@ -179,6 +274,15 @@ public class RetransmitHandler
         return isInvalid;
     }
 
+    private void onCoalesced(final int bytesCoalesced)
+    {
+        naksCoalesced.increment();
+        if (bytesCoalesced > 0)
+        {
+            retransmitBytesCoalesced.add(bytesCoalesced);
+        }
+    }
+
     private long determineRetransmitDelay()
     {
         return delayGenerator.generateDelay();
@@ -199,7 +303,19 @@ public class RetransmitHandler
             }
         }
 
-        throw new IllegalStateException("Maximum number of active RetransmitActions reached");
+        final int oldLength = retransmitActionPool.length;
+        if (oldLength >= MAX_RETRANSMIT_ACTIONS)
+        {
+            return null;
+        }
+
+        retransmitActionPool = Arrays.copyOf(retransmitActionPool, Math.min(oldLength << 1, MAX_RETRANSMIT_ACTIONS));
+        for (int i = oldLength; i < retransmitActionPool.length; i++)
+        {
+            retransmitActionPool[i] = new RetransmitAction();
+        }
+
+        return retransmitActionPool[oldLength];
     }
 
     private enum State
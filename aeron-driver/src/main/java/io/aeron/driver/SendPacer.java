@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Token bucket which limits the rate at which a {@link NetworkPublication} sends data to a configured number of
+ * bytes per second.
+ *
+ * Credit accrues as time elapses, as measured by the sender's {@link org.agrona.concurrent.NanoClock}, up to the
+ * capacity of the bucket which bounds the burst that can be sent after a period of inactivity. Credit is held in
+ * byte-nanoseconds so that fractions of a byte earned each duty cycle are not lost at low rates. Sends which are not
+ * allowed to wait, such as retransmits, may consume more credit than is available and so put the bucket into debt
+ * which is bounded by its capacity.
+ *
+ * <b>Note:</b> This class is NOT threadsafe and is intended to be used only on the sender thread.
+ */
+class SendPacer
+{
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long bytesPerSecond;
+    private final long capacity;
+    private final long maxRefillNs;
+    private long credit;
+    private long timeOfLastRefill;
+
+    /**
+     * Construct a pacer which starts with a full bucket.
+     *
+     * @param bytesPerSecond rate at which credit accrues.
+     * @param capacityLength in bytes of the bucket which bounds the burst length.
+     * @param now            time in nanoseconds at which the bucket is full.
+     */
+    SendPacer(final long bytesPerSecond, final int capacityLength, final long now)
+    {
+        this.bytesPerSecond = bytesPerSecond;
+        this.capacity = capacityLength * NANOS_PER_SECOND;
+        this.maxRefillNs = (capacity / bytesPerSecond) + 1;
+        this.credit = capacity;
+        this.timeOfLastRefill = now;
+    }
+
+    /**
+     * The number of bytes which can be sent now without exceeding the rate.
+     *
+     * @param now time in nanoseconds.
+     * @return the number of bytes which can be sent now which will be 0 if the bucket is empty or in debt.
+     */
+    int available(final long now)
+    {
+        final long elapsedNs = now - timeOfLastRefill;
+        if (elapsedNs > 0)
+        {
+            credit = Math.min(capacity, credit + (Math.min(elapsedNs, maxRefillNs) * bytesPerSecond));
+            timeOfLastRefill = now;
+        }
+
+        return credit > 0 ? (int)(credit / NANOS_PER_SECOND) : 0;
+    }
+
+    /**
+     * Consume credit for bytes which have been sent.
+     *
+     * @param length in bytes which have been sent.
+     */
+    void consume(final int length)
+    {
+        credit = Math.max(-capacity, credit - (length * NANOS_PER_SECOND));
+    }
+
+    /**
+     * The rate in bytes per second at which the pacer allows data to be sent.
+     *
+     * @return the rate in bytes per second at which the pacer allows data to be sent.
+     */
+    long bytesPerSecond()
+    {
+        return bytesPerSecond;
+    }
+}
@@ -61,13 +61,24 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
     private final DriverConductorProxy conductorProxy;
     private final AtomicCounter totalBytesSent;
     private final NanoClock nanoClock;
+    private final String roleName;
 
     private NetworkPublication[] networkPublications = EMPTY_PUBLICATIONS;
 
     public Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(ctx, ctx.controlTransportPoller(), ctx.senderCommandQueue(), "sender");
+    }
+
+    public Sender(
+        final MediaDriver.Context ctx,
+        final ControlTransportPoller controlTransportPoller,
+        final OneToOneConcurrentArrayQueue<SenderCmd> commandQueue,
+        final String roleName)
+    {
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
+        this.roleName = roleName;
         this.conductorProxy = ctx.fromSenderDriverConductorProxy();
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         this.nanoClock = ctx.nanoClock();
@@ -97,7 +108,7 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
 
     public String roleName()
     {
-        return "sender";
+        return roleName;
     }
 
     public void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -152,7 +163,10 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
             bytesSent += publications[i].send(now);
         }
 
-        totalBytesSent.addOrdered(bytesSent);
+        if (bytesSent > 0)
+        {
+            totalBytesSent.add(bytesSent);
+        }
 
         return bytesSent;
     }
@@ -29,15 +29,26 @@ import static io.aeron.driver.ThreadingMode.SHARED;
 public class SenderProxy
 {
     private final ThreadingMode threadingMode;
-    private final Queue<SenderCmd> commandQueue;
+    private final Queue<SenderCmd>[] commandQueues;
+    private final EndpointShardingPolicy shardingPolicy;
     private final AtomicCounter failCount;
     private Sender sender;
 
     public SenderProxy(
         final ThreadingMode threadingMode, final Queue<SenderCmd> commandQueue, final AtomicCounter failCount)
+    {
+        this(threadingMode, CommandQueues.singletonQueueArray(commandQueue), null, failCount);
+    }
+
+    public SenderProxy(
+        final ThreadingMode threadingMode,
+        final Queue<SenderCmd>[] commandQueues,
+        final EndpointShardingPolicy shardingPolicy,
+        final AtomicCounter failCount)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = commandQueues;
+        this.shardingPolicy = shardingPolicy;
         this.failCount = failCount;
     }
 
@@ -54,7 +65,7 @@ public class SenderProxy
         }
         else
         {
-            offer(new RegisterSendChannelEndpointCmd(channelEndpoint));
+            offer(channelEndpoint, new RegisterSendChannelEndpointCmd(channelEndpoint));
         }
     }
 
@@ -66,7 +77,7 @@ public class SenderProxy
         }
         else
         {
-            offer(new CloseSendChannelEndpointCmd(channelEndpoint));
+            offer(channelEndpoint, new CloseSendChannelEndpointCmd(channelEndpoint));
         }
     }
 
@@ -78,7 +89,7 @@ public class SenderProxy
         }
         else
         {
-            offer(new RemovePublicationCmd(publication));
+            offer(publication.sendChannelEndpoint(), new RemovePublicationCmd(publication));
         }
     }
 
@@ -90,7 +101,7 @@ public class SenderProxy
         }
         else
         {
-            offer(new NewPublicationCmd(publication));
+            offer(publication.sendChannelEndpoint(), new NewPublicationCmd(publication));
         }
     }
 
@@ -99,8 +110,17 @@ public class SenderProxy
         return threadingMode == SHARED;
     }
 
-    private void offer(final SenderCmd cmd)
+    private int senderIndex(final SendChannelEndpoint channelEndpoint)
     {
+        return shardingPolicy.senderIndex(channelEndpoint.udpChannel(), commandQueues.length);
+    }
+
+    private void offer(final SendChannelEndpoint channelEndpoint, final SenderCmd cmd)
+    {
+        final Queue<SenderCmd>[] commandQueues = this.commandQueues;
+        final Queue<SenderCmd> commandQueue = 1 == commandQueues.length ?
+            commandQueues[0] : commandQueues[senderIndex(channelEndpoint)];
+
         while (!commandQueue.offer(cmd))
         {
             failCount.orderedIncrement();
@@ -34,5 +34,11 @@ public enum ThreadingMode
     /**
      * One thread shared by all 3 agents.
      */
-    SHARED
+    SHARED,
+
+    /**
+     * Multiple {@link Sender} and {@link Receiver} agents each on a dedicated thread, plus one for the
+     * {@link DriverConductor}. Channel endpoints are assigned to agents by an {@link EndpointShardingPolicy}.
+     */
+    SHARDED
 }
@@ -25,6 +25,7 @@ import java.io.File;
  * Root directory is the "aeron.dir"
  * Source publications are under "${aeron.dir}/publications"
  * Rebuilt publications are under "${aeron.dir}/images"
+ * Pre-created logs waiting to be claimed are under "${aeron.dir}/pool"
  *
  * Both publications and images share the same structure of "sessionId/streamId/consumptionTermId".
  */
@@ -32,9 +33,11 @@ class FileMappingConvention
 {
     public static final String PUBLICATIONS = "publications";
     public static final String IMAGES = "images";
+    public static final String POOL = "pool";
 
     private final File publicationsDir;
     private final File imagesDir;
+    private final File poolDir;
 
     FileMappingConvention(final String dataDirName)
     {
@@ -43,6 +46,7 @@ class FileMappingConvention
 
         publicationsDir = new File(dataDir, PUBLICATIONS);
         imagesDir = new File(dataDir, IMAGES);
+        poolDir = new File(dataDir, POOL);
     }
 
     /**
@@ -65,6 +69,16 @@ class FileMappingConvention
         return imagesDir;
     }
 
+    /**
+     * Get the directory used for pre-created log files waiting to be claimed.
+     *
+     * @return the directory used for pre-created log files.
+     */
+    public File poolDir()
+    {
+        return poolDir;
+    }
+
     public static File streamLocation(
         final File rootDir,
         final String channel,
@@ -39,7 +39,7 @@ class MappedRawLog implements RawLog
 
     private final int termLength;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
-    private final File logFile;
+    private File logFile;
     private final MappedByteBuffer[] mappedBuffers;
     private final UnsafeBuffer logMetaDataBuffer;
     private final DistinctErrorLog errorLog;
@@ -163,6 +163,23 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
+    /**
+     * Move the log file to a new location. The mapping is unaffected by the move.
+     *
+     * @param location to move the log file to.
+     * @return true if the file was moved otherwise false.
+     */
+    boolean moveTo(final File location)
+    {
+        if (logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
     private static void allocatePages(final MappedByteBuffer buffer, final int length)
     {
         for (int i = 0; i < length; i += PAGE_LENGTH)
@@ -29,6 +29,9 @@ import static io.aeron.driver.buffer.FileMappingConvention.streamLocation;
 
 /**
  * Factory for creating {@link RawLog}s in the source publications or publication images directories as appropriate.
+ *
+ * When a {@link RawLogPool} is provided a pre-created log of the required term length is claimed from the pool,
+ * falling back to creating the log when the pool is empty.
  */
 public class RawLogFactory
 {
@@ -38,14 +41,26 @@ public class RawLogFactory
     private final File publicationsDir;
     private final File imagesDir;
     private final FileStore fileStore;
+    private final RawLogPool rawLogPool;
 
     public RawLogFactory(
         final String dataDirectoryName,
         final int imagesTermBufferMaxLength,
         final boolean useSparseFiles,
         final DistinctErrorLog errorLog)
+    {
+        this(dataDirectoryName, imagesTermBufferMaxLength, useSparseFiles, errorLog, null);
+    }
+
+    public RawLogFactory(
+        final String dataDirectoryName,
+        final int imagesTermBufferMaxLength,
+        final boolean useSparseFiles,
+        final DistinctErrorLog errorLog,
+        final RawLogPool rawLogPool)
     {
         this.errorLog = errorLog;
+        this.rawLogPool = rawLogPool;
         this.useSparseFiles = useSparseFiles;
 
         final FileMappingConvention fileMappingConvention = new FileMappingConvention(dataDirectoryName);
@@ -134,6 +149,16 @@ public class RawLogFactory
     {
         validateTermBufferLength(termBufferLength);
 
+        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
+        if (null != rawLogPool)
+        {
+            final RawLog rawLog = rawLogPool.claim(location, termBufferLength);
+            if (null != rawLog)
+            {
+                return rawLog;
+            }
+        }
+
         final long usableSpace = getUsableSpace();
         final long logLength = LogBufferDescriptor.computeLogLength(termBufferLength);
 
@@ -149,8 +174,6 @@ public class RawLogFactory
                 "Insufficient usable storage for new log of length=" + logLength + " in " + fileStore);
         }
 
-        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
-
         return new MappedRawLog(location, useSparseFiles, termBufferLength, errorLog);
     }
 
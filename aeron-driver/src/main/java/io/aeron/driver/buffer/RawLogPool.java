@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.errors.DistinctErrorLog;
+
+import java.io.File;
+
+/**
+ * Pool of pre-created and pre-faulted log buffers for a set of term lengths which is replenished by running as an
+ * {@link Agent} on its own thread. The {@link RawLogFactory} claims a log from the pool and renames its file to the
+ * stream location so the driver conductor does not block creating and mapping files.
+ */
+public class RawLogPool implements Agent
+{
+    private final int poolSize;
+    private final int[] termLengths;
+    private final boolean useSparseFiles;
+    private final File poolDir;
+    private final DistinctErrorLog errorLog;
+    private final Int2ObjectHashMap<OneToOneConcurrentArrayQueue<MappedRawLog>> logsByTermLength =
+        new Int2ObjectHashMap<>();
+    private long nextLogId;
+
+    public RawLogPool(
+        final String dataDirectoryName,
+        final int[] termLengths,
+        final int poolSize,
+        final boolean useSparseFiles,
+        final DistinctErrorLog errorLog)
+    {
+        this.poolSize = poolSize;
+        this.termLengths = termLengths;
+        this.useSparseFiles = useSparseFiles;
+        this.errorLog = errorLog;
+
+        poolDir = new FileMappingConvention(dataDirectoryName).poolDir();
+        IoUtil.ensureDirectoryExists(poolDir, FileMappingConvention.POOL);
+
+        for (final int termLength : termLengths)
+        {
+            logsByTermLength.put(termLength, new OneToOneConcurrentArrayQueue<>(poolSize));
+        }
+    }
+
+    public String roleName()
+    {
+        return "raw-log-pool";
+    }
+
+    public int doWork() throws Exception
+    {
+        int workCount = 0;
+
+        for (final int termLength : termLengths)
+        {
+            final OneToOneConcurrentArrayQueue<MappedRawLog> logs = logsByTermLength.get(termLength);
+            if (logs.size() < poolSize)
+            {
+                final File location = new File(poolDir, String.format("%X-%X.logbuffer", termLength, nextLogId++));
+                final MappedRawLog rawLog = new MappedRawLog(location, useSparseFiles, termLength, errorLog);
+                if (!logs.offer(rawLog))
+                {
+                    rawLog.close();
+                }
+
+                workCount++;
+            }
+        }
+
+        return workCount;
+    }
+
+    public void onClose()
+    {
+        for (final int termLength : termLengths)
+        {
+            logsByTermLength.get(termLength).drain(MappedRawLog::close);
+        }
+    }
+
+    /**
+     * Claim a pre-created log from the pool and move it to the given location.
+     *
+     * @param location   to which the log file is moved.
+     * @param termLength of the log required.
+     * @return the claimed log or null if none is available for the term length.
+     */
+    RawLog claim(final File location, final int termLength)
+    {
+        final OneToOneConcurrentArrayQueue<MappedRawLog> logs = logsByTermLength.get(termLength);
+        if (null != logs)
+        {
+            final MappedRawLog rawLog = logs.poll();
+            if (null != rawLog)
+            {
+                if (rawLog.moveTo(location))
+                {
+                    return rawLog;
+                }
+
+                rawLog.close();
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
+
+/**
+ * Zeros consumed regions of publication logs off the driver conductor thread by running as an {@link Agent} on its
+ * own thread which is shared by all publications.
+ * <p>
+ * A publication requests cleaning up to a position via its {@link Log} which is queued to the cleaner if not already
+ * pending. The cleaner zeros the range and then publishes the position to which the log has been cleaned. The
+ * publication must bound its publisher limit by the cleaned position so a publisher never writes into a region
+ * awaiting cleaning. A log is closed via the cleaner so its mapping is never released while being cleaned.
+ */
+public class TermCleaner implements Agent
+{
+    /**
+     * Cleaning state for a log which is requested by the driver conductor and completed by the cleaner.
+     */
+    public static final class Log
+    {
+        private final TermCleaner cleaner;
+        private final UnsafeBuffer[] termBuffers;
+        private final int positionBitsToShift;
+        private final int termLengthMask;
+        private boolean isClosed = false;
+        private volatile boolean isQueued = false;
+        private volatile long requestedPosition = 0;
+        private volatile long cleanedPosition = 0;
+
+        private Log(final TermCleaner cleaner, final RawLog rawLog)
+        {
+            this.cleaner = cleaner;
+            this.termBuffers = rawLog.termBuffers();
+            this.termLengthMask = rawLog.termLength() - 1;
+            this.positionBitsToShift = Integer.numberOfTrailingZeros(rawLog.termLength());
+        }
+
+        /**
+         * Request the log be cleaned up to a position. Requests to a lower position than previously requested are
+         * ignored. Should be called every duty cycle by the owner so a request which failed to be queued is retried.
+         *
+         * @param position up to which the log should be cleaned.
+         */
+        public void requestCleanTo(final long position)
+        {
+            if (position > requestedPosition)
+            {
+                requestedPosition = position;
+            }
+
+            if (!isQueued && cleanedPosition < requestedPosition)
+            {
+                isQueued = true;
+                if (!cleaner.requestQueue.offer(this))
+                {
+                    isQueued = false;
+                }
+            }
+        }
+
+        /**
+         * Position up to which the log has been cleaned.
+         *
+         * @return position up to which the log has been cleaned.
+         */
+        public long cleanedPosition()
+        {
+            return cleanedPosition;
+        }
+
+        /**
+         * Close the log and its {@link RawLog} on the cleaner thread once any cleaning in progress has completed.
+         *
+         * @param rawLog to be closed.
+         */
+        public void close(final RawLog rawLog)
+        {
+            cleaner.closeQueue.offer(() ->
+            {
+                isClosed = true;
+                rawLog.close();
+            });
+        }
+
+        private long clean()
+        {
+            isQueued = false;
+
+            final long requestedPosition = this.requestedPosition;
+            long position = this.cleanedPosition;
+            if (isClosed || position >= requestedPosition)
+            {
+                return 0;
+            }
+
+            final long length = requestedPosition - position;
+            while (position < requestedPosition)
+            {
+                final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(position, positionBitsToShift)];
+                final int termOffset = (int)position & termLengthMask;
+                final int bytesToClean = (int)Math.min(requestedPosition - position, (termLengthMask + 1) - termOffset);
+
+                dirtyTerm.setMemory(termOffset, bytesToClean, (byte)0);
+                position += bytesToClean;
+            }
+
+            cleanedPosition = position;
+
+            return length;
+        }
+    }
+
+    private final OneToOneConcurrentArrayQueue<Log> requestQueue;
+    private final ManyToOneConcurrentLinkedQueue<Runnable> closeQueue = new ManyToOneConcurrentLinkedQueue<>();
+    private final AtomicCounter bytesCleaned;
+    private final AtomicCounter cleaningLag;
+
+    public TermCleaner(final int queueCapacity, final AtomicCounter bytesCleaned, final AtomicCounter cleaningLag)
+    {
+        this.requestQueue = new OneToOneConcurrentArrayQueue<>(queueCapacity);
+        this.bytesCleaned = bytesCleaned;
+        this.cleaningLag = cleaningLag;
+    }
+
+    public String roleName()
+    {
+        return "term-cleaner";
+    }
+
+    public int doWork() throws Exception
+    {
+        int workCount = 0;
+        long maxLength = 0;
+
+        Log log;
+        while (null != (log = requestQueue.poll()))
+        {
+            final long length = log.clean();
+            if (length > 0)
+            {
+                bytesCleaned.addOrdered(length);
+                maxLength = Math.max(maxLength, length);
+                workCount++;
+            }
+        }
+
+        if (workCount > 0)
+        {
+            cleaningLag.setOrdered(maxLength);
+        }
+
+        return workCount + processCloses();
+    }
+
+    public void onClose()
+    {
+        requestQueue.clear();
+        processCloses();
+    }
+
+    /**
+     * Create the cleaning state for a log to be cleaned by this agent.
+     *
+     * @param rawLog to be cleaned.
+     * @return the cleaning state for the log.
+     */
+    public Log newLog(final RawLog rawLog)
+    {
+        return new Log(this, rawLog);
+    }
+
+    private int processCloses()
+    {
+        int workCount = 0;
+
+        Runnable close;
+        while (null != (close = closeQueue.poll()))
+        {
+            close.run();
+            workCount++;
+        }
+
+        return workCount;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControlUtil.packOutcome;
+
+/**
+ * BBR style congestion control manipulation of the receiver window length based on a model of the path rather than
+ * on loss.
+ *
+ * https://queue.acm.org/detail.cfm?id=3022184
+ *
+ * The bottleneck bandwidth is estimated as the max delivery rate of the rebuilt stream over the last
+ * {@link #BW_FILTER_ROUNDS} rounds, and the min RTT as the minimum over {@link #MIN_RTT_WINDOW_NS} of the RTT
+ * measurements exchanged with the sender. A round is one min RTT.
+ *
+ * window = gain * bandwidth * min RTT
+ *
+ * STARTUP: gain = 2/ln(2) until the bandwidth estimate grows by less than 25% for 3 rounds.
+ * DRAIN:   gain = ln(2)/2 for a round to drain the queue built in STARTUP.
+ * PROBE_BW: gain cycles through [1.25, 0.75, 1, 1, 1, 1, 1, 1] a round at a time to probe for more bandwidth.
+ *
+ * Rounds in which the sender did not use the available window are app limited and only contribute a bandwidth
+ * sample when it is higher than the current estimate. The receiver cannot pace the sender, so the pacing rate
+ * (gain * bandwidth) is only reported via a counter.
+ * The initial window is used until the first RTT measurement is received.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    public static final long RTT_MEASUREMENT_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    public static final long RTT_MEASUREMENT_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
+    public static final long MIN_RTT_WINDOW_NS = TimeUnit.SECONDS.toNanos(10);
+    public static final int BW_FILTER_ROUNDS = 10;
+
+    static final double HIGH_GAIN = 2.0 / Math.log(2.0);
+    static final double DRAIN_GAIN = 1.0 / HIGH_GAIN;
+    static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    static final double FULL_BW_GROWTH = 1.25;
+    static final int FULL_BW_ROUNDS = 3;
+
+    private static final long NULL_POSITION = -1;
+
+    enum State
+    {
+        STARTUP, DRAIN, PROBE_BW
+    }
+
+    private final int minWindow;
+    private final int maxWindow;
+    private final long[] bwSamples = new long[BW_FILTER_ROUNDS];
+
+    private State state = State.STARTUP;
+    private double gain = HIGH_GAIN;
+    private int probeBwGainIndex;
+    private int window;
+
+    private long roundStartTimestamp;
+    private long roundStartPosition = NULL_POSITION;
+    private int roundCount;
+    private long fullBw;
+    private int fullBwRoundCount;
+    private long btlBw;
+
+    private volatile long minRttInNanos;
+    private long minRttTimestamp;
+    private long lastRttTimestamp;
+    private boolean isRttMeasurementOutstanding;
+
+    private final AtomicCounter bandwidthIndicator;
+    private final AtomicCounter minRttIndicator;
+    private final AtomicCounter pacingRateIndicator;
+
+    BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        minWindow = senderMtuLength * 4;
+        maxWindow = Math.max(minWindow, Math.min(termLength / 2, context.initialWindowLength()));
+        window = maxWindow;
+
+        final String channel = udpChannel.originalUriString();
+        bandwidthIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-bw", countersManager, registrationId, sessionId, streamId, channel, "");
+        minRttIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-min-rtt", countersManager, registrationId, sessionId, streamId, channel, "");
+        pacingRateIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-pacing-rate", countersManager, registrationId, sessionId, streamId, channel, "");
+
+        final long now = clock.nanoTime();
+        roundStartTimestamp = now;
+        lastRttTimestamp = now - RTT_MEASUREMENT_INTERVAL_NS;
+    }
+
+    public boolean shouldMeasureRtt(final long now)
+    {
+        boolean result = false;
+
+        if (isRttMeasurementOutstanding)
+        {
+            if (now > (lastRttTimestamp + RTT_MEASUREMENT_TIMEOUT_NS))
+            {
+                lastRttTimestamp = now;
+                result = true;
+            }
+        }
+        else if (now >= (lastRttTimestamp + RTT_MEASUREMENT_INTERVAL_NS))
+        {
+            lastRttTimestamp = now;
+            isRttMeasurementOutstanding = true;
+            result = true;
+        }
+
+        return result;
+    }
+
+    public void onRttMeasurement(final long now, final long rttInNanos, final InetSocketAddress srcAddress)
+    {
+        isRttMeasurementOutstanding = false;
+        lastRttTimestamp = now;
+
+        if (rttInNanos > 0)
+        {
+            final long minRttInNanos = this.minRttInNanos;
+            if (0 == minRttInNanos || rttInNanos <= minRttInNanos || now > (minRttTimestamp + MIN_RTT_WINDOW_NS))
+            {
+                minRttTimestamp = now;
+                this.minRttInNanos = rttInNanos;
+                minRttIndicator.setOrdered(rttInNanos);
+            }
+        }
+    }
+
+    public long onTrackRebuild(
+        final long now,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        boolean forceStatusMessage = false;
+        final long minRttInNanos = this.minRttInNanos;
+
+        if (NULL_POSITION == roundStartPosition)
+        {
+            roundStartTimestamp = now;
+            roundStartPosition = endingRebuildPosition;
+        }
+        else if (0 != minRttInNanos && (now - roundStartTimestamp) >= minRttInNanos)
+        {
+            final boolean isAppLimited = (hwmPosition + minWindow) < (lastSmPosition + window);
+            onRoundEnd(now, endingRebuildPosition, isAppLimited);
+            forceStatusMessage = advanceState(isAppLimited);
+
+            final long bdp = (btlBw * minRttInNanos) / TimeUnit.SECONDS.toNanos(1);
+            window = (int)Math.max(minWindow, Math.min(maxWindow, (long)(gain * bdp)));
+            pacingRateIndicator.setOrdered((long)(gain * btlBw));
+        }
+
+        return packOutcome(window, forceStatusMessage);
+    }
+
+    public int initialWindowLength()
+    {
+        return window;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(bandwidthIndicator);
+        CloseHelper.close(minRttIndicator);
+        CloseHelper.close(pacingRateIndicator);
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long bottleneckBandwidth()
+    {
+        return btlBw;
+    }
+
+    private void onRoundEnd(final long now, final long rebuildPosition, final boolean isAppLimited)
+    {
+        final long duration = now - roundStartTimestamp;
+        final long deliveryRate = ((rebuildPosition - roundStartPosition) * TimeUnit.SECONDS.toNanos(1)) / duration;
+
+        if (!isAppLimited || deliveryRate > btlBw)
+        {
+            bwSamples[roundCount % BW_FILTER_ROUNDS] = deliveryRate;
+            roundCount++;
+
+            long maxBw = 0;
+            for (final long sample : bwSamples)
+            {
+                maxBw = Math.max(maxBw, sample);
+            }
+
+            btlBw = maxBw;
+            bandwidthIndicator.setOrdered(maxBw);
+        }
+
+        roundStartTimestamp = now;
+        roundStartPosition = rebuildPosition;
+    }
+
+    private boolean advanceState(final boolean isAppLimited)
+    {
+        boolean hasGainChanged = false;
+
+        switch (state)
+        {
+            case STARTUP:
+                if (isAppLimited)
+                {
+                    break;
+                }
+
+                if (btlBw >= (long)(fullBw * FULL_BW_GROWTH))
+                {
+                    fullBw = btlBw;
+                    fullBwRoundCount = 0;
+                }
+                else if (++fullBwRoundCount >= FULL_BW_ROUNDS)
+                {
+                    state = State.DRAIN;
+                    gain = DRAIN_GAIN;
+                    hasGainChanged = true;
+                }
+                break;
+
+            case DRAIN:
+                state = State.PROBE_BW;
+                probeBwGainIndex = 0;
+                gain = PROBE_BW_GAINS[probeBwGainIndex];
+                hasGainChanged = true;
+                break;
+
+            case PROBE_BW:
+                probeBwGainIndex = (probeBwGainIndex + 1) % PROBE_BW_GAINS.length;
+                final double newGain = PROBE_BW_GAINS[probeBwGainIndex];
+                hasGainChanged = newGain != gain;
+                gain = newGain;
+                break;
+        }
+
+        return hasGainChanged;
+    }
+}
@@ -18,6 +18,7 @@ package io.aeron.driver.ext;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.protocol.MultiNakFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
@@ -89,6 +90,14 @@ public class DebugSendChannelEndpoint extends SendChannelEndpoint
         }
     }
 
+    public void onMultiNakMessage(final MultiNakFlyweight msg, final InetSocketAddress srcAddress)
+    {
+        if (!controlLossGenerator.shouldDropFrame(srcAddress, msg, msg.frameLength()))
+        {
+            super.onMultiNakMessage(msg, srcAddress);
+        }
+    }
+
     public void onRttMeasurement(final RttMeasurementFlyweight msg, final InetSocketAddress srcAddress)
     {
         if (!controlLossGenerator.shouldDropFrame(srcAddress, msg, msg.frameLength()))
@@ -16,6 +16,7 @@
 package io.aeron.driver.media;
 
 import io.aeron.driver.Configuration;
+import io.aeron.protocol.MultiNakFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
@@ -30,6 +31,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_MULTI_NAK;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_NAK;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_RTTM;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_SM;
@@ -43,6 +45,7 @@ public class ControlTransportPoller extends UdpTransportPoller
     private final ByteBuffer byteBuffer;
     private final UnsafeBuffer unsafeBuffer;
     private final NakFlyweight nakMessage;
+    private final MultiNakFlyweight multiNakMessage;
     private final StatusMessageFlyweight statusMessage;
     private final RttMeasurementFlyweight rttMeasurement;
     private SendChannelEndpoint[] transports = new SendChannelEndpoint[0];
@@ -54,6 +57,7 @@ public class ControlTransportPoller extends UdpTransportPoller
 
         unsafeBuffer = new UnsafeBuffer(byteBuffer);
         nakMessage = new NakFlyweight(unsafeBuffer);
+        multiNakMessage = new MultiNakFlyweight(unsafeBuffer);
         statusMessage = new StatusMessageFlyweight(unsafeBuffer);
         rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
     }
@@ -145,6 +149,13 @@ public class ControlTransportPoller extends UdpTransportPoller
                     case HDR_TYPE_RTTM:
                         channelEndpoint.onRttMeasurement(rttMeasurement, srcAddress);
                         break;
+
+                    case HDR_TYPE_MULTI_NAK:
+                        if (multiNakMessage.frameLength() <= byteReceived)
+                        {
+                            channelEndpoint.onMultiNakMessage(multiNakMessage, srcAddress);
+                        }
+                        break;
                 }
             }
         }
@@ -28,6 +28,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
+import java.util.Arrays;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
 import static io.aeron.protocol.HeaderFlyweight.*;
@@ -35,6 +36,9 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of a number of {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ *
+ * Channels configured with a {@link UdpChannel#receiveBatchLength()} greater than 1 are drained of up to that many
+ * datagrams into a pre-allocated ring of receive buffers before the batch is dispatched in a single pass.
  */
 public class DataTransportPoller extends UdpTransportPoller
 {
@@ -47,6 +51,10 @@ public class DataTransportPoller extends UdpTransportPoller
     private final RttMeasurementFlyweight rttMeasurement;
     private ReceiveChannelEndpoint[] transports = new ReceiveChannelEndpoint[0];
 
+    private ByteBuffer[] batchByteBuffers = new ByteBuffer[0];
+    private UnsafeBuffer[] batchUnsafeBuffers = new UnsafeBuffer[0];
+    private InetSocketAddress[] batchSrcAddresses = new InetSocketAddress[0];
+
     public DataTransportPoller()
     {
         byteBuffer = BufferUtil.allocateDirectAligned(MAX_UDP_PACKET, CACHE_LINE_LENGTH * 2);
@@ -99,6 +107,7 @@ public class DataTransportPoller extends UdpTransportPoller
         SelectionKey key = null;
         try
         {
+            ensureBatchCapacity(transport.receiveBatchLength());
             transports = ArrayUtil.add(transports, transport);
             key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, transport);
         }
@@ -122,33 +131,109 @@ public class DataTransportPoller extends UdpTransportPoller
 
     private int poll(final ReceiveChannelEndpoint channelEndpoint)
     {
+        if (channelEndpoint.receiveBatchLength() > 1)
+        {
+            return pollBatch(channelEndpoint);
+        }
+
         int bytesReceived = 0;
         final InetSocketAddress srcAddress = channelEndpoint.receive(byteBuffer);
 
         if (null != srcAddress)
         {
-            final int length = byteBuffer.position();
+            bytesReceived = dispatch(channelEndpoint, unsafeBuffer, byteBuffer.position(), srcAddress);
+        }
+
+        return bytesReceived;
+    }
+
+    private int pollBatch(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        final ByteBuffer[] byteBuffers = this.batchByteBuffers;
+        final InetSocketAddress[] srcAddresses = this.batchSrcAddresses;
+        final int batchLength = channelEndpoint.receiveBatchLength();
 
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        int datagramCount = 0;
+        while (datagramCount < batchLength)
+        {
+            final InetSocketAddress srcAddress = channelEndpoint.receive(byteBuffers[datagramCount]);
+            if (null == srcAddress)
             {
-                switch (frameType(unsafeBuffer, 0))
-                {
-                    case HDR_TYPE_PAD:
-                    case HDR_TYPE_DATA:
-                        bytesReceived = channelEndpoint.onDataPacket(dataMessage, unsafeBuffer, length, srcAddress);
-                        break;
-
-                    case HDR_TYPE_SETUP:
-                        channelEndpoint.onSetupMessage(setupMessage, unsafeBuffer, srcAddress);
-                        break;
-
-                    case HDR_TYPE_RTTM:
-                        channelEndpoint.onRttMeasurement(rttMeasurement, unsafeBuffer, srcAddress);
-                        break;
-                }
+                break;
             }
+
+            srcAddresses[datagramCount++] = srcAddress;
+        }
+
+        int bytesReceived = 0;
+        if (datagramCount > 0)
+        {
+            final UnsafeBuffer[] unsafeBuffers = this.batchUnsafeBuffers;
+            for (int i = 0; i < datagramCount; i++)
+            {
+                final UnsafeBuffer buffer = unsafeBuffers[i];
+                dataMessage.wrap(buffer);
+                setupMessage.wrap(buffer);
+                rttMeasurement.wrap(buffer);
+
+                bytesReceived += dispatch(channelEndpoint, buffer, byteBuffers[i].position(), srcAddresses[i]);
+                srcAddresses[i] = null;
+            }
+
+            dataMessage.wrap(unsafeBuffer);
+            setupMessage.wrap(unsafeBuffer);
+            rttMeasurement.wrap(unsafeBuffer);
+
+            channelEndpoint.onReceiveBatch(datagramCount);
         }
 
         return bytesReceived;
     }
+
+    private int dispatch(
+        final ReceiveChannelEndpoint channelEndpoint,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+
+        if (channelEndpoint.isValidFrame(buffer, length))
+        {
+            switch (frameType(buffer, 0))
+            {
+                case HDR_TYPE_PAD:
+                case HDR_TYPE_DATA:
+                    bytesReceived = channelEndpoint.onDataPacket(dataMessage, buffer, length, srcAddress);
+                    break;
+
+                case HDR_TYPE_SETUP:
+                    channelEndpoint.onSetupMessage(setupMessage, buffer, srcAddress);
+                    break;
+
+                case HDR_TYPE_RTTM:
+                    channelEndpoint.onRttMeasurement(rttMeasurement, buffer, srcAddress);
+                    break;
+            }
+        }
+
+        return bytesReceived;
+    }
+
+    private void ensureBatchCapacity(final int batchLength)
+    {
+        final int oldLength = batchByteBuffers.length;
+        if (batchLength > 1 && batchLength > oldLength)
+        {
+            batchByteBuffers = Arrays.copyOf(batchByteBuffers, batchLength);
+            batchUnsafeBuffers = Arrays.copyOf(batchUnsafeBuffers, batchLength);
+            batchSrcAddresses = Arrays.copyOf(batchSrcAddresses, batchLength);
+
+            for (int i = oldLength; i < batchLength; i++)
+            {
+                batchByteBuffers[i] = BufferUtil.allocateDirectAligned(MAX_UDP_PACKET, CACHE_LINE_LENGTH * 2);
+                batchUnsafeBuffers[i] = new UnsafeBuffer(batchByteBuffers[i]);
+            }
+        }
+    }
 }
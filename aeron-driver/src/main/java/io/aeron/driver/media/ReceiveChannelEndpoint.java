@@ -47,8 +47,12 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private final NakFlyweight nakFlyweight;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementFlyweight;
+    private final ByteBuffer multiNakBuffer;
+    private final MultiNakFlyweight multiNakFlyweight;
     private final AtomicCounter shortSends;
     private final AtomicCounter possibleTtlAsymmetry;
+    private final AtomicCounter receiveBatches;
+    private final AtomicCounter receiveBatchDatagrams;
     private final AtomicCounter statusIndicator;
 
     private final Int2IntCounterMap refCountByStreamIdMap = new Int2IntCounterMap(0);
@@ -75,14 +79,18 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
+        receiveBatches = context.systemCounters().get(RECEIVE_BATCHES);
+        receiveBatchDatagrams = context.systemCounters().get(RECEIVE_BATCH_DATAGRAMS);
 
-        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
+        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals(udpChannel);
         smBuffer = threadLocals.smBuffer();
         statusMessageFlyweight = threadLocals.statusMessageFlyweight();
         nakBuffer = threadLocals.nakBuffer();
         nakFlyweight = threadLocals.nakFlyweight();
         rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
         rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
+        multiNakBuffer = threadLocals.multiNakBuffer();
+        multiNakFlyweight = threadLocals.multiNakFlyweight();
         receiverId = threadLocals.receiverId();
     }
 
@@ -157,7 +165,28 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.orderedIncrement();
+        possibleTtlAsymmetry.increment();
+    }
+
+    /**
+     * Maximum number of datagrams to be drained from this endpoint in a single poll of the transport.
+     *
+     * @return maximum number of datagrams to be drained from this endpoint in a single poll of the transport.
+     */
+    public int receiveBatchLength()
+    {
+        return udpChannel.receiveBatchLength();
+    }
+
+    /**
+     * Record that a batch of datagrams has been drained from this endpoint and dispatched.
+     *
+     * @param datagramCount in the batch.
+     */
+    public void onReceiveBatch(final int datagramCount)
+    {
+        receiveBatches.increment();
+        receiveBatchDatagrams.add(datagramCount);
     }
 
     public int incRefToStream(final int streamId)
@@ -299,6 +328,42 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         }
     }
 
+    public void sendMultiNakMessage(
+        final InetSocketAddress controlAddress,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int gapCount,
+        final int[] termOffsets,
+        final int[] lengths)
+    {
+        if (!isClosed)
+        {
+            final int rangeCount = Math.min(gapCount, (multiNakBuffer.capacity() - MultiNakFlyweight.HEADER_LENGTH) /
+                MultiNakFlyweight.RANGE_LENGTH);
+
+            multiNakFlyweight
+                .streamId(streamId)
+                .sessionId(sessionId)
+                .termId(termId)
+                .rangeCount(rangeCount);
+
+            for (int i = 0; i < rangeCount; i++)
+            {
+                multiNakFlyweight.range(i, termOffsets[i], lengths[i]);
+            }
+
+            final int frameLength = MultiNakFlyweight.computeFrameLength(rangeCount);
+            multiNakBuffer.clear().limit(frameLength);
+
+            final int bytesSent = sendTo(multiNakBuffer, controlAddress);
+            if (frameLength != bytesSent)
+            {
+                shortSends.increment();
+            }
+        }
+    }
+
     public void sendRttMeasurement(
         final InetSocketAddress controlAddress,
         final int sessionId,
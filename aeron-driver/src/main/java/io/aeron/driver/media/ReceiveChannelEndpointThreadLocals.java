@@ -15,8 +15,10 @@
  */
 package io.aeron.driver.media;
 
+import io.aeron.driver.Configuration;
 import io.aeron.driver.MediaDriver;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.MultiNakFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
@@ -35,16 +37,20 @@ public class ReceiveChannelEndpointThreadLocals
     private final NakFlyweight nakFlyweight;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementFlyweight;
+    private final ByteBuffer multiNakBuffer;
+    private final MultiNakFlyweight multiNakFlyweight;
     private final long receiverId;
 
     public ReceiveChannelEndpointThreadLocals(final MediaDriver.Context context)
     {
         final byte[] applicationSpecificFeedback = context.applicationSpecificFeedback();
         final int smLength = StatusMessageFlyweight.HEADER_LENGTH + applicationSpecificFeedback.length;
+        final int multiNakLength = MultiNakFlyweight.computeFrameLength(Math.max(1, Configuration.NAK_MAX_GAPS));
         final int bufferLength =
             BitUtil.align(smLength, CACHE_LINE_LENGTH) +
             BitUtil.align(NakFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
-            BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH);
+            BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
+            BitUtil.align(multiNakLength, CACHE_LINE_LENGTH);
 
         final UUID uuid = UUID.randomUUID();
         receiverId = (uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits());
@@ -65,6 +71,11 @@ public class ReceiveChannelEndpointThreadLocals
         rttMeasurementBuffer = byteBuffer.slice();
         rttMeasurementFlyweight = new RttMeasurementFlyweight(rttMeasurementBuffer);
 
+        final int multiNakOffset = rttMeasurementOffset + BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, 32);
+        byteBuffer.limit(multiNakOffset + multiNakLength).position(multiNakOffset);
+        multiNakBuffer = byteBuffer.slice();
+        multiNakFlyweight = new MultiNakFlyweight(multiNakBuffer);
+
         statusMessageFlyweight
             .applicationSpecificFeedback(applicationSpecificFeedback, 0, applicationSpecificFeedback.length)
             .receiverId(receiverId)
@@ -82,6 +93,11 @@ public class ReceiveChannelEndpointThreadLocals
             .version(HeaderFlyweight.CURRENT_VERSION)
             .headerType(HeaderFlyweight.HDR_TYPE_RTTM)
             .frameLength(RttMeasurementFlyweight.HEADER_LENGTH);
+
+        multiNakFlyweight
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .headerType(HeaderFlyweight.HDR_TYPE_MULTI_NAK)
+            .frameLength(MultiNakFlyweight.HEADER_LENGTH);
     }
 
     public ByteBuffer smBuffer()
@@ -114,6 +130,16 @@ public class ReceiveChannelEndpointThreadLocals
         return rttMeasurementFlyweight;
     }
 
+    public ByteBuffer multiNakBuffer()
+    {
+        return multiNakBuffer;
+    }
+
+    public MultiNakFlyweight multiNakFlyweight()
+    {
+        return multiNakFlyweight;
+    }
+
     public long receiverId()
     {
         return receiverId;
@@ -17,6 +17,7 @@ package io.aeron.driver.media;
 
 import io.aeron.driver.*;
 import io.aeron.driver.status.ChannelEndpointStatus;
+import io.aeron.protocol.MultiNakFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
@@ -44,6 +45,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
 {
     private final Int2ObjectHashMap<NetworkPublication> driversPublicationByStreamId = new Int2ObjectHashMap<>();
     private final BiInt2ObjectMap<NetworkPublication> sendersPublicationByStreamAndSessionId = new BiInt2ObjectMap<>();
+    private int exclusivePublicationCount;
 
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
@@ -114,12 +116,20 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
     /**
      * Called form the {@link DriverConductor} to associate a publication with a sessionId and streamId.
+     * Exclusive publications are counted but not associated as they cannot be shared.
      *
      * @param publication to associate
      */
     public void addPublication(final NetworkPublication publication)
     {
-        driversPublicationByStreamId.put(publication.streamId(), publication);
+        if (publication.isExclusive())
+        {
+            exclusivePublicationCount++;
+        }
+        else
+        {
+            driversPublicationByStreamId.put(publication.streamId(), publication);
+        }
     }
 
     /**
@@ -130,6 +140,12 @@ public class SendChannelEndpoint extends UdpChannelTransport
      */
     public NetworkPublication removePublication(final NetworkPublication publication)
     {
+        if (publication.isExclusive())
+        {
+            exclusivePublicationCount--;
+            return publication;
+        }
+
         return driversPublicationByStreamId.remove(publication.streamId());
     }
 
@@ -140,7 +156,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
      */
     public int sessionCount()
     {
-        return driversPublicationByStreamId.size();
+        return driversPublicationByStreamId.size() + exclusivePublicationCount;
     }
 
     /**
@@ -213,7 +229,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 publication.onStatusMessage(msg, srcAddress);
             }
 
-            statusMessagesReceived.orderedIncrement();
+            statusMessagesReceived.increment();
         }
     }
 
@@ -224,7 +240,23 @@ public class SendChannelEndpoint extends UdpChannelTransport
         if (null != publication)
         {
             publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.orderedIncrement();
+            nakMessagesReceived.increment();
+        }
+    }
+
+    public void onMultiNakMessage(final MultiNakFlyweight msg, final InetSocketAddress srcAddress)
+    {
+        final NetworkPublication publication = sendersPublicationByStreamAndSessionId.get(
+            msg.sessionId(), msg.streamId());
+        if (null != publication)
+        {
+            final int termId = msg.termId();
+            for (int i = 0, rangeCount = msg.validRangeCount(); i < rangeCount; i++)
+            {
+                publication.onNak(termId, msg.termOffset(i), msg.length(i));
+            }
+
+            nakMessagesReceived.increment();
         }
     }
 
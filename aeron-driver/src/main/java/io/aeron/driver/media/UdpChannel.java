@@ -15,6 +15,7 @@
  */
 package io.aeron.driver.media;
 
+import io.aeron.CommonContext;
 import io.aeron.ErrorCode;
 import io.aeron.driver.Configuration;
 import io.aeron.driver.exceptions.InvalidChannelException;
@@ -46,6 +47,7 @@ public final class UdpChannel
     public static final String MULTICAST_TTL_KEY = "ttl";
 
     private final int multicastTtl;
+    private final int receiveBatchLength;
     private final InetSocketAddress remoteData;
     private final InetSocketAddress localData;
     private final InetSocketAddress remoteControl;
@@ -67,6 +69,7 @@ public final class UdpChannel
         this.localInterface = context.localInterface;
         this.protocolFamily = context.protocolFamily;
         this.multicastTtl = context.multicastTtl;
+        this.receiveBatchLength = context.receiveBatchLength;
         this.aeronUri = context.aeronUri;
     }
 
@@ -84,7 +87,10 @@ public final class UdpChannel
 
             validateConfiguration(aeronUri);
 
-            final Context context = new Context().uriStr(uriStr).aeronUri(aeronUri);
+            final Context context = new Context()
+                .uriStr(uriStr)
+                .aeronUri(aeronUri)
+                .receiveBatchLength(getReceiveBatchLength(aeronUri));
 
             final InetSocketAddress endpointAddress = getEndpointAddress(aeronUri);
 
@@ -245,6 +251,16 @@ public final class UdpChannel
         return multicastTtl;
     }
 
+    /**
+     * Maximum number of datagrams to be drained from the channel for a single poll of the transport.
+     *
+     * @return maximum number of datagrams to be drained from the channel for a single poll of the transport.
+     */
+    public int receiveBatchLength()
+    {
+        return receiveBatchLength;
+    }
+
     /**
      * The canonical form for the channel
      *
@@ -373,6 +389,20 @@ public final class UdpChannel
         return ttl;
     }
 
+    private static int getReceiveBatchLength(final AeronUri uri)
+    {
+        int receiveBatchLength = Configuration.RECEIVE_BATCH_LENGTH;
+
+        if (uri.containsKey(CommonContext.RECEIVE_BATCH_LENGTH_PARAM_NAME))
+        {
+            receiveBatchLength = Integer.parseInt(uri.get(CommonContext.RECEIVE_BATCH_LENGTH_PARAM_NAME));
+        }
+
+        Configuration.validateReceiveBatchLength(receiveBatchLength);
+
+        return receiveBatchLength;
+    }
+
     private static void validateDataAddress(final byte[] addressAsBytes)
     {
         if (BitUtil.isEven(addressAsBytes[addressAsBytes.length - 1]))
@@ -429,6 +459,7 @@ public final class UdpChannel
     static class Context
     {
         private int multicastTtl;
+        private int receiveBatchLength;
         private InetSocketAddress remoteData;
         private InetSocketAddress localData;
         private InetSocketAddress remoteControl;
@@ -498,6 +529,12 @@ public final class UdpChannel
             this.aeronUri = aeronUri;
             return this;
         }
+
+        public Context receiveBatchLength(final int receiveBatchLength)
+        {
+            this.receiveBatchLength = receiveBatchLength;
+            return this;
+        }
     }
 
     private static String errorNoMatchingInterfaces(
@@ -545,7 +582,8 @@ public final class UdpChannel
         builder
             .append("localData: ").append(localData)
             .append(", remoteData: ").append(remoteData)
-            .append(", ttl: ").append(multicastTtl);
+            .append(", ttl: ").append(multicastTtl)
+            .append(", rcvBatch: ").append(receiveBatchLength);
 
         return builder.toString();
     }
@@ -47,7 +47,17 @@ public enum SystemCounterDescriptor
     UNBLOCKED_COMMANDS(20, "Unblocked Control Commands"),
     POSSIBLE_TTL_ASYMMETRY(21, "Possible TTL Asymmetry"),
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
-    LOSS_GAP_FILLS(23, "Loss gap fills");
+    LOSS_GAP_FILLS(23, "Loss gap fills"),
+    RECEIVE_BATCHES(24, "Receive batches"),
+    RECEIVE_BATCH_DATAGRAMS(25, "Datagrams received in batches"),
+    SEND_BURSTS(26, "Send bursts"),
+    SEND_BURST_DATAGRAMS(27, "Datagrams sent in bursts"),
+    NAKS_COALESCED(28, "NAKs coalesced"),
+    RETRANSMIT_BYTES_COALESCED(29, "Retransmit bytes coalesced"),
+    SENDER_PACING_LIMITS(30, "Sender pacing limits applied"),
+    SENDER_PACED_TIME_NS(31, "Sender time paced in ns"),
+    TERM_BYTES_CLEANED(32, "Term bytes cleaned"),
+    TERM_CLEANING_LAG(33, "Term cleaning lag in bytes");
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Others types can exist.
      */
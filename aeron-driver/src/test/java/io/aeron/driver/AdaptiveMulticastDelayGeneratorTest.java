@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.AdaptiveMulticastDelayGenerator.WINDOW_NS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class AdaptiveMulticastDelayGeneratorTest
+{
+    private static final long MAX_BACKOFF_NS = TimeUnit.MILLISECONDS.toNanos(60);
+    private static final double GROUP_SIZE = 10;
+
+    private final AtomicCounter groupSizeIndicator = mock(AtomicCounter.class);
+    private final AtomicCounter maxBackoffIndicator = mock(AtomicCounter.class);
+    private final AtomicCounter lossRateIndicator = mock(AtomicCounter.class);
+    private final AdaptiveMulticastDelayGenerator generator = new AdaptiveMulticastDelayGenerator(
+        MAX_BACKOFF_NS, GROUP_SIZE, groupSizeIndicator, maxBackoffIndicator, lossRateIndicator);
+
+    private long now = 0;
+
+    @Test
+    public void shouldStartWithConfiguredParameters()
+    {
+        assertThat(generator.groupSize(), is(GROUP_SIZE));
+        assertThat(generator.maxBackoffNs(), is(MAX_BACKOFF_NS));
+        verify(groupSizeIndicator).setOrdered(10L);
+        verify(maxBackoffIndicator).setOrdered(MAX_BACKOFF_NS);
+    }
+
+    @Test
+    public void shouldNotExceedMaxBackoff()
+    {
+        for (int i = 0; i < 100_000; i++)
+        {
+            assertThat(generator.generateDelay(), lessThanOrEqualTo(generator.maxBackoffNs()));
+        }
+    }
+
+    @Test
+    public void shouldShrinkGroupSizeAndBackoffWhenAlwaysFirstToFeedback()
+    {
+        for (int i = 0; i < 20; i++)
+        {
+            observeWindow(10, 0);
+        }
+
+        assertThat(generator.groupSize(), lessThan(1.5));
+        assertThat(generator.maxBackoffNs(), lessThan(MAX_BACKOFF_NS / 2));
+    }
+
+    @Test
+    public void shouldGrowGroupSizeAndBackoffWhenFeedbackIsSuppressed()
+    {
+        for (int i = 0; i < 20; i++)
+        {
+            observeWindow(1, 99);
+        }
+
+        assertThat(generator.groupSize(), greaterThan(90.0));
+        assertThat(generator.maxBackoffNs(), greaterThan(MAX_BACKOFF_NS));
+    }
+
+    @Test
+    public void shouldWidenBackoffUnderSustainedHeavyLoss()
+    {
+        for (int i = 0; i < 20; i++)
+        {
+            observeWindow(50, 450);
+        }
+
+        final double groupSize = generator.groupSize();
+        final double lambdaRatio = (Math.log(groupSize) + 1) / (Math.log(GROUP_SIZE) + 1);
+
+        assertThat(groupSize, closeTo(GROUP_SIZE, 0.5));
+        assertThat(generator.lossRate(), greaterThan(AdaptiveMulticastDelayGenerator.HIGH_LOSS_RATE));
+        assertThat((double)generator.maxBackoffNs(), closeTo(2 * MAX_BACKOFF_NS * lambdaRatio, 1000.0));
+    }
+
+    private void observeWindow(final int feedbackCount, final int suppressedCount)
+    {
+        for (int i = 0; i < feedbackCount; i++)
+        {
+            generator.onLossDetected(now, 32);
+            generator.onFeedbackSent(now);
+        }
+
+        for (int i = 0; i < suppressedCount; i++)
+        {
+            generator.onLossDetected(now, 32);
+            generator.onFeedbackSuppressed(now);
+        }
+
+        now += WINDOW_NS;
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.aeron.driver;
 
+import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.RawLogFactory;
+import io.aeron.driver.buffer.TermCleaner;
 import io.aeron.driver.status.SystemCounters;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,9 +32,11 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.nio.ByteBuffer;
 
+import static io.aeron.logbuffer.LogBufferDescriptor.ipcPublisherLimit;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -46,6 +50,8 @@ public class DirectPublicationTest
 
     private Position publisherLimit;
     private DirectPublication directPublication;
+    private UnsafeBuffer counterBuffer;
+    private CountersManager countersManager;
 
     private DriverProxy driverProxy;
     private DriverConductor driverConductor;
@@ -62,8 +68,8 @@ public class DirectPublicationTest
                 ByteBuffer.allocateDirect(Configuration.CONDUCTOR_BUFFER_LENGTH)));
 
         final RawLogFactory mockRawLogFactory = mock(RawLogFactory.class);
-        final UnsafeBuffer counterBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH));
-        final CountersManager countersManager = new CountersManager(
+        counterBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH));
+        countersManager = new CountersManager(
             new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH * 2)), counterBuffer);
 
         when(mockRawLogFactory.newDirectPublication(anyInt(), anyInt(), anyLong(), anyInt()))
@@ -73,8 +79,8 @@ public class DirectPublicationTest
             .toDriverCommands(fromClientCommands)
             .rawLogBuffersFactory(mockRawLogFactory)
             .clientProxy(mock(ClientProxy.class))
-            .toConductorFromReceiverCommandQueue(mock(OneToOneConcurrentArrayQueue.class))
-            .toConductorFromSenderCommandQueue(mock(OneToOneConcurrentArrayQueue.class))
+            .toConductorFromReceiverCommandQueue(mock(ManyToOneConcurrentArrayQueue.class))
+            .toConductorFromSenderCommandQueue(mock(ManyToOneConcurrentArrayQueue.class))
             .epochClock(new SystemEpochClock())
             .countersManager(countersManager)
             .systemCounters(mock(SystemCounters.class))
@@ -120,4 +126,72 @@ public class DirectPublicationTest
 
         assertThat(publisherLimit.get(), is(greaterThan(0L)));
     }
+
+    @Test
+    public void shouldPublishSubscriberPositionsForClientDrivenLimit()
+    {
+        final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
+        final UnsafeBuffer metaData = rawLog.metaData();
+        final int termWindowLength = Configuration.ipcPublicationTermWindowLength(TERM_BUFFER_LENGTH);
+        final DirectPublication publication = new DirectPublication(
+            1, 2, STREAM_ID, mock(Position.class), rawLog, true, null);
+
+        assertTrue(publication.isClientDrivenLimit());
+        assertThat(ipcPublisherLimit(metaData, counterBuffer), is(0L));
+
+        final Position fastSubscriber = newPosition("fast", 1024);
+        final Position slowSubscriber = newPosition("slow", 512);
+        publication.addSubscription(fastSubscriber);
+        publication.addSubscription(slowSubscriber);
+
+        assertThat(ipcPublisherLimit(metaData, counterBuffer), is(512L + termWindowLength));
+
+        slowSubscriber.setOrdered(768);
+        assertThat(ipcPublisherLimit(metaData, counterBuffer), is(768L + termWindowLength));
+
+        publication.removeSubscription(slowSubscriber);
+        assertThat(ipcPublisherLimit(metaData, counterBuffer), is(1024L + termWindowLength));
+    }
+
+    @Test
+    public void shouldNotPublishSubscriberPositionsWhenLimitIsDriverDriven()
+    {
+        final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
+        final DirectPublication publication = new DirectPublication(
+            1, 2, STREAM_ID, mock(Position.class), rawLog, false, null);
+
+        publication.addSubscription(newPosition("sub", 1024));
+
+        assertThat(ipcPublisherLimit(rawLog.metaData(), counterBuffer), is(0L));
+    }
+
+    @Test
+    public void shouldBoundPublisherLimitByTermCleanerProgress() throws Exception
+    {
+        final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
+        final TermCleaner termCleaner = new TermCleaner(
+            16, countersManager.newCounter("bytes cleaned"), countersManager.newCounter("cleaning lag"));
+        final Position publisherLimit = newPosition("limit", 0);
+        final DirectPublication publication = new DirectPublication(
+            1, 2, STREAM_ID, publisherLimit, rawLog, false, termCleaner);
+        final int termWindowLength = Configuration.ipcPublicationTermWindowLength(TERM_BUFFER_LENGTH);
+        final long subscriberPosition = TERM_BUFFER_LENGTH * 2L;
+
+        publication.addSubscription(newPosition("sub", subscriberPosition));
+        publication.updatePublishersLimit(0);
+        assertThat(publisherLimit.get(), is(subscriberPosition));
+
+        assertThat(termCleaner.doWork(), is(1));
+        publication.updatePublishersLimit(0);
+        assertThat(publisherLimit.get(), is(subscriberPosition + termWindowLength));
+    }
+
+    private Position newPosition(final String label, final long value)
+    {
+        final Position position = new UnsafeBufferPosition(
+            counterBuffer, countersManager.allocate(label), countersManager);
+        position.setOrdered(value);
+
+        return position;
+    }
 }
@@ -28,8 +28,8 @@ import io.aeron.logbuffer.HeaderWriter;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermAppender;
 import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.NanoClock;
-import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.agrona.concurrent.SystemEpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.errors.DistinctErrorLog;
@@ -46,6 +46,7 @@ import org.mockito.stubbing.Answer;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
@@ -129,8 +130,8 @@ public class DriverConductorTest
             .unicastFlowControlSupplier(Configuration.unicastFlowControlSupplier())
             .multicastFlowControlSupplier(Configuration.multicastFlowControlSupplier())
                 // TODO: remove
-            .toConductorFromReceiverCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
-            .toConductorFromSenderCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
+            .toConductorFromReceiverCommandQueue(new ManyToOneConcurrentArrayQueue<>(1024))
+            .toConductorFromSenderCommandQueue(new ManyToOneConcurrentArrayQueue<>(1024))
             .errorLog(mockErrorLog)
             .rawLogBuffersFactory(mockRawLogFactory)
             .countersManager(countersManager)
@@ -184,6 +185,43 @@ public class DriverConductorTest
         verify(mockClientProxy).onPublicationReady(anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt());
     }
 
+    @Test
+    public void shouldAddExclusivePublicationsWithOwnSessions() throws Exception
+    {
+        final long idShared = driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        final long idExclusive1 = driverProxy.addExclusivePublication(CHANNEL_4000, STREAM_ID_1);
+        final long idExclusive2 = driverProxy.addExclusivePublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(3)).newNetworkPublication(captor.capture());
+
+        final List<NetworkPublication> publications = captor.getAllValues();
+        assertFalse(publications.get(0).isExclusive());
+        assertTrue(publications.get(1).isExclusive());
+        assertTrue(publications.get(2).isExclusive());
+        assertThat(publications.get(1).sessionId(), not(publications.get(0).sessionId()));
+        assertThat(publications.get(2).sessionId(), not(publications.get(1).sessionId()));
+
+        verify(mockClientProxy).onPublicationReady(eq(idShared), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy).onExclusivePublicationReady(
+            eq(idExclusive1), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy).onExclusivePublicationReady(
+            eq(idExclusive2), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    public void shouldErrorOnAddExclusivePublicationForIpc() throws Exception
+    {
+        driverProxy.addExclusivePublication(CHANNEL_IPC, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onError(eq(INVALID_CHANNEL), anyString(), anyLong());
+        verify(mockClientProxy, never()).onExclusivePublicationReady(anyLong(), anyInt(), anyInt(), any(), anyInt());
+    }
+
     @Test
     public void shouldBeAbleToAddSingleSubscription() throws Exception
     {
@@ -346,6 +384,18 @@ public class DriverConductorTest
         assertThat(argumentCaptor.getValue().mtuLength(), is(mtuLength));
     }
 
+    @Test
+    public void shouldErrorOnAddPublicationWithSendBurstLengthBelowOne() throws Exception
+    {
+        final String sendBurstParam = "|" + CommonContext.SEND_BURST_LENGTH_PARAM_NAME + "=0";
+        driverProxy.addPublication(CHANNEL_4000 + sendBurstParam, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onError(eq(GENERIC_ERROR), anyString(), anyLong());
+        verify(senderProxy, never()).newNetworkPublication(any());
+    }
+
     @Test
     public void shouldErrorOnRemoveSubscriptionOnUnknownRegistrationId() throws Exception
     {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.cmd.*;
+import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import java.util.Queue;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class EndpointShardingTest
+{
+    private static final UdpChannel CHANNEL_ONE = UdpChannel.parse("aeron:udp?endpoint=localhost:40123");
+    private static final UdpChannel CHANNEL_TWO = UdpChannel.parse("aeron:udp?endpoint=localhost:40124");
+    private static final int AGENT_COUNT = 3;
+
+    private final EndpointShardingPolicy shardingPolicy = mock(EndpointShardingPolicy.class);
+    private final AtomicCounter failCount = mock(AtomicCounter.class);
+
+    @Test
+    public void shouldRouteSenderCommandsToQueueOfEndpointShard()
+    {
+        final Queue<SenderCmd>[] queues = newQueues();
+        final SenderProxy senderProxy = new SenderProxy(ThreadingMode.SHARDED, queues, shardingPolicy, failCount);
+
+        final SendChannelEndpoint channelEndpoint = mock(SendChannelEndpoint.class);
+        when(channelEndpoint.udpChannel()).thenReturn(CHANNEL_ONE);
+        when(shardingPolicy.senderIndex(CHANNEL_ONE, AGENT_COUNT)).thenReturn(2);
+
+        final NetworkPublication publication = mock(NetworkPublication.class);
+        when(publication.sendChannelEndpoint()).thenReturn(channelEndpoint);
+
+        senderProxy.registerSendChannelEndpoint(channelEndpoint);
+        senderProxy.newNetworkPublication(publication);
+
+        assertThat(queues[0].size(), is(0));
+        assertThat(queues[1].size(), is(0));
+        assertThat(queues[2].poll(), instanceOf(RegisterSendChannelEndpointCmd.class));
+        assertThat(queues[2].poll(), instanceOf(NewPublicationCmd.class));
+    }
+
+    @Test
+    public void shouldRouteReceiverCommandsToQueueOfEndpointShard()
+    {
+        final Queue<ReceiverCmd>[] queues = newQueues();
+        final ReceiverProxy receiverProxy = new ReceiverProxy(
+            ThreadingMode.SHARDED, queues, shardingPolicy, failCount);
+
+        final ReceiveChannelEndpoint channelEndpoint = mock(ReceiveChannelEndpoint.class);
+        when(channelEndpoint.udpChannel()).thenReturn(CHANNEL_TWO);
+        when(shardingPolicy.receiverIndex(CHANNEL_TWO, AGENT_COUNT)).thenReturn(1);
+
+        receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+        receiverProxy.addSubscription(channelEndpoint, 10);
+
+        assertThat(queues[0].size(), is(0));
+        assertThat(queues[2].size(), is(0));
+        assertThat(queues[1].poll(), instanceOf(RegisterReceiveChannelEndpointCmd.class));
+        assertThat(queues[1].poll(), instanceOf(AddSubscriptionCmd.class));
+    }
+
+    @Test
+    public void shouldSelectReceiverWhichOwnsEndpointForChannel()
+    {
+        final ReceiverProxy receiverProxy = new ReceiverProxy(
+            ThreadingMode.SHARDED, newQueues(), shardingPolicy, failCount);
+        final Receiver[] receivers = { mock(Receiver.class), mock(Receiver.class), mock(Receiver.class) };
+        receiverProxy.receivers(receivers);
+
+        when(shardingPolicy.receiverIndex(CHANNEL_ONE, AGENT_COUNT)).thenReturn(2);
+        when(shardingPolicy.receiverIndex(CHANNEL_TWO, AGENT_COUNT)).thenReturn(0);
+
+        assertThat(receiverProxy.receiver(CHANNEL_ONE), sameInstance(receivers[2]));
+        assertThat(receiverProxy.receiver(CHANNEL_TWO), sameInstance(receivers[0]));
+        assertThat(receiverProxy.receiver(), sameInstance(receivers[0]));
+    }
+
+    @Test
+    public void shouldAssignSameChannelToSameAgentWithinRange()
+    {
+        final DefaultEndpointShardingPolicy policy = new DefaultEndpointShardingPolicy();
+        final UdpChannel sameChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40123");
+
+        for (int count = 1; count <= 8; count++)
+        {
+            final int senderIndex = policy.senderIndex(CHANNEL_ONE, count);
+            final int receiverIndex = policy.receiverIndex(CHANNEL_ONE, count);
+
+            assertThat(senderIndex, allOf(greaterThanOrEqualTo(0), lessThan(count)));
+            assertThat(receiverIndex, allOf(greaterThanOrEqualTo(0), lessThan(count)));
+            assertThat(policy.senderIndex(sameChannel, count), is(senderIndex));
+            assertThat(policy.receiverIndex(sameChannel, count), is(receiverIndex));
+        }
+    }
+
+    private static <E> Queue<E>[] newQueues()
+    {
+        final Queue<E>[] queues = CommandQueues.newQueueArray(AGENT_COUNT);
+        for (int i = 0; i < AGENT_COUNT; i++)
+        {
+            queues[i] = new OneToOneConcurrentArrayQueue<>(16);
+        }
+
+        return queues;
+    }
+}
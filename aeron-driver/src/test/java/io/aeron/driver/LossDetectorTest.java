@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
@@ -26,6 +27,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -291,6 +294,86 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldNakMultipleGapsInSingleSignal()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final ArgumentCaptor<int[]> termOffsets = ArgumentCaptor.forClass(int[].class);
+        final ArgumentCaptor<int[]> lengths = ArgumentCaptor.forClass(int[].class);
+        verify(lossHandler).onGapsDetected(eq(TERM_ID), eq(2), termOffsets.capture(), lengths.capture());
+        verifyNoMoreInteractions(lossHandler);
+
+        assertThat(termOffsets.getValue()[0], is(offsetOfMessage(1)));
+        assertThat(lengths.getValue()[0], is(gapLength()));
+        assertThat(termOffsets.getValue()[1], is(offsetOfMessage(3)));
+        assertThat(lengths.getValue()[1], is(gapLength()));
+    }
+
+    @Test
+    public void shouldNakSingleGapWhenOnlyOneFoundWithMultipleGapsEnabled()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldNotifyDelayGeneratorOfFeedbackSentAndSuppressed()
+    {
+        final FeedbackDelayGenerator delayGenerator = spy(new StaticDelayGenerator(
+            TimeUnit.MILLISECONDS.toNanos(20), false));
+        lossDetector = new LossDetector(delayGenerator, lossHandler);
+
+        long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(1));
+        rebuildPosition += ALIGNED_FRAME_LENGTH * 3;
+        currentTime = TimeUnit.MILLISECONDS.toNanos(45);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(3));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(50);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final InOrder inOrder = inOrder(delayGenerator);
+        inOrder.verify(delayGenerator).onLossDetected(0, gapLength());
+        inOrder.verify(delayGenerator).onFeedbackSent(currentTime - TimeUnit.MILLISECONDS.toNanos(10));
+        inOrder.verify(delayGenerator).onLossDetected(TimeUnit.MILLISECONDS.toNanos(45), gapLength());
+        inOrder.verify(delayGenerator).onFeedbackSuppressed(currentTime);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
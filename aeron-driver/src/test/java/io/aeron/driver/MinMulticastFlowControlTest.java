@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MinMulticastFlowControlTest
+{
+    private static final int INITIAL_TERM_ID = 7;
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final int POSITION_BITS_TO_SHIFT = Integer.numberOfTrailingZeros(TERM_LENGTH);
+    private static final int WINDOW_LENGTH = 16 * 1024;
+    private static final long RECEIVER_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("localhost", 40123);
+
+    private final StatusMessageFlyweight flyweight = new StatusMessageFlyweight(
+        ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH));
+    private final MinMulticastFlowControl flowControl = new MinMulticastFlowControl();
+
+    @Test
+    public void shouldTrackMinimumRightEdgeOfReceivers()
+    {
+        assertThat(onStatusMessage(1, 4096, 0, 0), is(4096L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(2, 1024, 0, 0), is(1024L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(2, 8192, 0, 0), is(4096L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(1, 12288, 0, 0), is(8192L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(2));
+    }
+
+    @Test
+    public void shouldNotReduceSenderLimit()
+    {
+        final long senderLimit = 100_000;
+
+        assertThat(onStatusMessage(1, 4096, senderLimit, 0), is(senderLimit));
+    }
+
+    @Test
+    public void shouldRemoveTimedOutReceiversOnIdle()
+    {
+        final long senderLimit = 777;
+
+        onStatusMessage(1, 1024, 0, 0);
+        onStatusMessage(2, 4096, 0, RECEIVER_TIMEOUT_NS / 2);
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 1, senderLimit), is(4096L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(1));
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS * 2, senderLimit), is(senderLimit));
+        assertThat(flowControl.receiverCount(), is(0));
+    }
+
+    @Test
+    public void shouldMatchLinearScanOfReceivers()
+    {
+        final int receiverCount = 200;
+        final long[] rightEdges = new long[receiverCount];
+        final long[] timesOfLastStatusMessage = new long[receiverCount];
+        final boolean[] isActive = new boolean[receiverCount];
+        final Random random = new Random(1234);
+        long now = 0;
+
+        for (int i = 0; i < 20_000; i++)
+        {
+            now += random.nextInt(1_000_000);
+            final int receiverId = random.nextInt(receiverCount);
+            final int termOffset = random.nextInt(TERM_LENGTH / 32) * 32;
+
+            final long senderLimit = onStatusMessage(receiverId, termOffset, 0, now);
+            rightEdges[receiverId] = termOffset + WINDOW_LENGTH;
+            timesOfLastStatusMessage[receiverId] = now;
+            isActive[receiverId] = true;
+
+            long expectedMin = Long.MAX_VALUE;
+            for (int j = 0; j < receiverCount; j++)
+            {
+                if (isActive[j])
+                {
+                    expectedMin = Math.min(expectedMin, rightEdges[j]);
+                }
+            }
+            assertThat(senderLimit, is(expectedMin));
+
+            if (0 == (i & 7))
+            {
+                final long idleLimit = flowControl.onIdle(now, -1);
+
+                long expectedIdleMin = Long.MAX_VALUE;
+                for (int j = 0; j < receiverCount; j++)
+                {
+                    if (isActive[j] && now > (timesOfLastStatusMessage[j] + RECEIVER_TIMEOUT_NS))
+                    {
+                        isActive[j] = false;
+                    }
+                    else if (isActive[j])
+                    {
+                        expectedIdleMin = Math.min(expectedIdleMin, rightEdges[j]);
+                    }
+                }
+                assertThat(idleLimit, is(Long.MAX_VALUE == expectedIdleMin ? -1 : expectedIdleMin));
+            }
+        }
+    }
+
+    private long onStatusMessage(final long receiverId, final int termOffset, final long senderLimit, final long now)
+    {
+        flyweight
+            .consumptionTermId(INITIAL_TERM_ID)
+            .consumptionTermOffset(termOffset)
+            .receiverWindowLength(WINDOW_LENGTH)
+            .receiverId(receiverId);
+
+        return flowControl.onStatusMessage(
+            flyweight, ADDRESS, senderLimit, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, now);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class QuorumMulticastFlowControlTest
+{
+    private static final int INITIAL_TERM_ID = 7;
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final int POSITION_BITS_TO_SHIFT = Integer.numberOfTrailingZeros(TERM_LENGTH);
+    private static final int WINDOW_LENGTH = 16 * 1024;
+    private static final long RECEIVER_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("localhost", 40123);
+    private static final byte[] GROUP_TAG = { 1, 2, 3, 4 };
+    private static final byte[] OTHER_TAG = { 1, 2, 3, 5 };
+    private static final byte[] EXTENDED_TAG = { 1, 2, 3, 4, 5 };
+
+    private final StatusMessageFlyweight flyweight = new StatusMessageFlyweight(
+        ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH + 64));
+    private final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl(GROUP_TAG, 2);
+
+    @Test
+    public void shouldNotAdvanceUntilQuorumOfMembersHaveReported()
+    {
+        final long senderLimit = 1024;
+
+        assertThat(onStatusMessage(1, GROUP_TAG, 8192, senderLimit, 0), is(senderLimit));
+        assertThat(flowControl.onIdle(1, senderLimit), is(senderLimit));
+        assertThat(onStatusMessage(2, GROUP_TAG, 4096, senderLimit, 0), is(4096L + WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldAdvanceToPositionReachedByQuorumIgnoringSlowestMember()
+    {
+        onStatusMessage(1, GROUP_TAG, 8192, 0, 0);
+        onStatusMessage(2, GROUP_TAG, 12288, 0, 0);
+
+        assertThat(onStatusMessage(3, GROUP_TAG, 0, 0, 0), is(8192L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(1, GROUP_TAG, 16384, 0, 0), is(12288L + WINDOW_LENGTH));
+        assertThat(flowControl.memberCount(), is(3));
+    }
+
+    @Test
+    public void shouldIgnoreReceiversOutsideTheGroup()
+    {
+        final long senderLimit = 1024;
+
+        onStatusMessage(1, GROUP_TAG, 8192, senderLimit, 0);
+
+        assertThat(onStatusMessage(2, OTHER_TAG, 4096, senderLimit, 0), is(senderLimit));
+        assertThat(onStatusMessage(3, new byte[0], 4096, senderLimit, 0), is(senderLimit));
+        assertThat(onStatusMessage(4, EXTENDED_TAG, 4096, senderLimit, 0), is(senderLimit));
+        assertThat(flowControl.memberCount(), is(1));
+    }
+
+    @Test
+    public void shouldTrackQuorumPositionAsMembersOvertakeEachOther()
+    {
+        onStatusMessage(1, GROUP_TAG, 4096, 0, 0);
+        onStatusMessage(2, GROUP_TAG, 8192, 0, 0);
+        onStatusMessage(3, GROUP_TAG, 12288, 0, 0);
+
+        assertThat(onStatusMessage(1, GROUP_TAG, 20480, 0, 0), is(12288L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(2, GROUP_TAG, 16384, 0, 0), is(16384L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(3, GROUP_TAG, 24576, 0, 0), is(20480L + WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldHoldSenderLimitWhenMembersTimeOutBelowQuorum()
+    {
+        final long senderLimit = 1024;
+
+        onStatusMessage(1, GROUP_TAG, 8192, senderLimit, 0);
+        onStatusMessage(2, GROUP_TAG, 4096, senderLimit, RECEIVER_TIMEOUT_NS / 2);
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS, senderLimit), is(4096L + WINDOW_LENGTH));
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 1, senderLimit), is(senderLimit));
+        assertThat(flowControl.memberCount(), is(1));
+    }
+
+    private long onStatusMessage(
+        final long receiverId, final byte[] tag, final int termOffset, final long senderLimit, final long now)
+    {
+        flyweight
+            .consumptionTermId(INITIAL_TERM_ID)
+            .consumptionTermOffset(termOffset)
+            .receiverWindowLength(WINDOW_LENGTH)
+            .receiverId(receiverId)
+            .applicationSpecificFeedback(tag, 0, tag.length);
+
+        return flowControl.onStatusMessage(
+            flyweight, ADDRESS, senderLimit, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, now);
+    }
+}
@@ -36,6 +36,7 @@ import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.ErrorHandler;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicLongPosition;
@@ -110,7 +111,7 @@ public class ReceiverTest
     private InetSocketAddress senderAddress = new InetSocketAddress("localhost", 40123);
     private Receiver receiver;
     private ReceiverProxy receiverProxy;
-    private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorQueue;
+    private ManyToOneConcurrentArrayQueue<DriverConductorCmd> toConductorQueue;
 
     private MediaDriver.Context context = new MediaDriver.Context();
     private ReceiveChannelEndpoint receiveChannelEndpoint;
@@ -130,7 +131,7 @@ public class ReceiverTest
         when(congestionControl.initialWindowLength()).thenReturn(INITIAL_WINDOW_LENGTH);
 
         final MediaDriver.Context ctx = new MediaDriver.Context()
-            .toConductorFromReceiverCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
+            .toConductorFromReceiverCommandQueue(new ManyToOneConcurrentArrayQueue<>(1024))
             .dataTransportPoller(mockDataTransportPoller)
             .controlTransportPoller(mockControlTransportPoller)
             .rawLogBuffersFactory(mockRawLogFactory)
@@ -206,7 +207,8 @@ public class ReceiverTest
             SOURCE_ADDRESS,
             congestionControl,
             lossReport,
-            true);
+            true,
+            Configuration.NAK_MAX_GAPS_DEFAULT);
 
         final int messagesRead = toConductorQueue.drain(
             (e) ->
@@ -288,7 +290,8 @@ public class ReceiverTest
                         SOURCE_ADDRESS,
                         congestionControl,
                         lossReport,
-                        true));
+                        true,
+                        Configuration.NAK_MAX_GAPS_DEFAULT));
             });
 
         assertThat(commandsRead, is(1));
@@ -356,7 +359,8 @@ public class ReceiverTest
                         SOURCE_ADDRESS,
                         congestionControl,
                         lossReport,
-                        true));
+                        true,
+                        Configuration.NAK_MAX_GAPS_DEFAULT));
             });
 
         assertThat(commandsRead, is(1));
@@ -427,7 +431,8 @@ public class ReceiverTest
                         SOURCE_ADDRESS,
                         congestionControl,
                         lossReport,
-                        true));
+                        true,
+                        Configuration.NAK_MAX_GAPS_DEFAULT));
             });
 
         assertThat(commandsRead, is(1));
@@ -502,7 +507,8 @@ public class ReceiverTest
                         SOURCE_ADDRESS,
                         congestionControl,
                         lossReport,
-                        true));
+                        true,
+                        Configuration.NAK_MAX_GAPS_DEFAULT));
             });
 
         assertThat(commandsRead, is(1));
@@ -17,6 +17,8 @@ package io.aeron.driver;
 
 import io.aeron.ReservedValueSupplier;
 import io.aeron.driver.status.SystemCounters;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Before;
 import org.junit.experimental.theories.DataPoint;
 import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
@@ -35,6 +37,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.NAKS_COALESCED;
+import static io.aeron.driver.status.SystemCounterDescriptor.RETRANSMIT_BYTES_COALESCED;
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.mockito.Mockito.*;
 import static org.agrona.BitUtil.align;
@@ -68,12 +72,22 @@ public class RetransmitHandlerTest
 
     private final RetransmitSender retransmitSender = mock(RetransmitSender.class);
     private final SystemCounters systemCounters = mock(SystemCounters.class);
+    private final AtomicCounter naksCoalesced = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitBytesCoalesced = mock(AtomicCounter.class);
 
     private final HeaderWriter headerWriter =
         new HeaderWriter(DataHeaderFlyweight.createDefaultHeader(0, 0, 0));
 
-    private RetransmitHandler handler = new RetransmitHandler(
-        () -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR);
+    private RetransmitHandler handler;
+
+    @Before
+    public void setUp()
+    {
+        when(systemCounters.get(NAKS_COALESCED)).thenReturn(naksCoalesced);
+        when(systemCounters.get(RETRANSMIT_BYTES_COALESCED)).thenReturn(retransmitBytesCoalesced);
+
+        handler = new RetransmitHandler(() -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR);
+    }
 
     @DataPoint
     public static final BiConsumer<RetransmitHandlerTest, Integer> SENDER_ADD_DATA_FRAME =
@@ -129,13 +143,13 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
         final InOrder inOrder = inOrder(retransmitSender);
         inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
-        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @Theory
@@ -178,12 +192,25 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         handler.onRetransmitReceived(TERM_ID, offsetOfFrame(0));
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
-        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+    }
+
+    @Theory
+    public void shouldStopRetransmitOnRetransmitReceptionWithinRange(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onRetransmitReceived(TERM_ID, offsetOfFrame(1));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verifyZeroInteractions(retransmitSender);
     }
 
     @Theory
@@ -220,6 +247,93 @@ public class RetransmitHandlerTest
         verifyZeroInteractions(retransmitSender);
     }
 
+    @Theory
+    public void shouldCoalesceAdjacentNaksIntoSingleRetransmit(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(naksCoalesced).increment();
+    }
+
+    @Theory
+    public void shouldCoalesceOverlappingNaksIntoSingleRetransmit(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(retransmitBytesCoalesced).add(ALIGNED_FRAME_LENGTH);
+    }
+
+    @Theory
+    public void shouldOnlyRetransmitRangeNotCoveredByLinger(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(70);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verify(retransmitBytesCoalesced).add(ALIGNED_FRAME_LENGTH);
+    }
+
+    @Theory
+    public void shouldRetransmitWhenMoreNaksThanDefaultMaxRetransmits(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final int nakCount = Configuration.MAX_RETRANSMITS_DEFAULT * 2;
+        createTermBuffer(creator, nakCount * 2);
+
+        for (int i = 0; i < nakCount; i++)
+        {
+            handler.onNak(TERM_ID, offsetOfFrame(i * 2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        }
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        for (int i = 0; i < nakCount; i++)
+        {
+            verify(retransmitSender).resend(TERM_ID, offsetOfFrame(i * 2), ALIGNED_FRAME_LENGTH);
+        }
+    }
+
+    @Theory
+    public void shouldIgnoreNaksBeyondMaxRetransmitActions(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final int nakCount = RetransmitHandler.MAX_RETRANSMIT_ACTIONS + 1;
+        createTermBuffer(creator, nakCount * 2);
+
+        for (int i = 0; i < nakCount; i++)
+        {
+            handler.onNak(TERM_ID, offsetOfFrame(i * 2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        }
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender, times(RetransmitHandler.MAX_RETRANSMIT_ACTIONS))
+            .resend(eq(TERM_ID), anyInt(), eq(ALIGNED_FRAME_LENGTH));
+        verify(retransmitSender, never()).resend(TERM_ID, offsetOfFrame(nakCount * 2 - 2), ALIGNED_FRAME_LENGTH);
+    }
+
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
         return new RetransmitHandler(() -> currentTime, systemCounters, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SendPacerTest
+{
+    private static final long BYTES_PER_SECOND = 1_000_000;
+    private static final int CAPACITY_LENGTH = 4096;
+
+    private final SendPacer pacer = new SendPacer(BYTES_PER_SECOND, CAPACITY_LENGTH, 0);
+
+    @Test
+    public void shouldStartWithFullBucket()
+    {
+        assertThat(pacer.available(0), is(CAPACITY_LENGTH));
+    }
+
+    @Test
+    public void shouldAccrueCreditAtRateUpToCapacity()
+    {
+        pacer.consume(CAPACITY_LENGTH);
+        assertThat(pacer.available(0), is(0));
+
+        assertThat(pacer.available(TimeUnit.MILLISECONDS.toNanos(1)), is(1000));
+        assertThat(pacer.available(TimeUnit.SECONDS.toNanos(10)), is(CAPACITY_LENGTH));
+    }
+
+    @Test
+    public void shouldAccumulateFractionsOfByteAcrossRefills()
+    {
+        pacer.consume(CAPACITY_LENGTH);
+
+        long now = 0;
+        for (int i = 0; i < 1000; i++)
+        {
+            now += 100;
+            pacer.available(now);
+        }
+
+        assertThat(pacer.available(now), is(100));
+    }
+
+    @Test
+    public void shouldCarryDebtFromOverConsumptionBoundedByCapacity()
+    {
+        pacer.consume(CAPACITY_LENGTH * 4);
+        assertThat(pacer.available(0), is(0));
+
+        assertThat(pacer.available(TimeUnit.NANOSECONDS.convert(CAPACITY_LENGTH, TimeUnit.MICROSECONDS)), is(0));
+        assertThat(pacer.available(TimeUnit.MICROSECONDS.toNanos(CAPACITY_LENGTH + 1000)), is(1000));
+    }
+}
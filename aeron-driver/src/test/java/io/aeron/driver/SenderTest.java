@@ -43,6 +43,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -67,6 +68,7 @@ public class SenderTest
     private static final int ALIGNED_FRAME_LENGTH = align(FRAME_LENGTH, FRAME_ALIGNMENT);
 
     private final ControlTransportPoller mockTransportPoller = mock(ControlTransportPoller.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
 
     private final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
 
@@ -107,7 +109,6 @@ public class SenderTest
     @Before
     public void setUp() throws Exception
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
@@ -139,10 +140,14 @@ public class SenderTest
             STREAM_ID,
             INITIAL_TERM_ID,
             MAX_FRAME_LENGTH,
+            1,
+            0,
+            false,
             mockSystemCounters,
             flowControl,
             mockRetransmitHandler,
-            new NetworkPublicationThreadLocals());
+            new NetworkPublicationThreadLocals(),
+            null);
 
         senderCommandQueue.offer(new NewPublicationCmd(publication));
     }
@@ -330,6 +335,118 @@ public class SenderTest
         assertThat(dataHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
+    @Test
+    public void shouldSendBurstOfMtuLengthDatagramsInSingleSend() throws Exception
+    {
+        final NetworkPublication burstPublication = new NetworkPublication(
+            mockSendChannelEndpoint,
+            () -> currentTimestamp,
+            () -> currentTimestamp / (1_000_000L),
+            rawLog,
+            mock(Position.class),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ALIGNED_FRAME_LENGTH,
+            2,
+            0,
+            false,
+            mockSystemCounters,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            null);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(3 * ALIGNED_FRAME_LENGTH);
+
+        burstPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+
+        assertThat(burstPublication.send(currentTimestamp), is(2 * ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(3)); // setup then two data
+
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(1)));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
+
+        assertThat(burstPublication.send(currentTimestamp), is(ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(1));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(3)));
+    }
+
+    @Test
+    public void shouldPaceDatagramsToConfiguredRate() throws Exception
+    {
+        final NetworkPublication pacedPublication = new NetworkPublication(
+            mockSendChannelEndpoint,
+            () -> currentTimestamp,
+            () -> currentTimestamp / (1_000_000L),
+            rawLog,
+            mock(Position.class),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ALIGNED_FRAME_LENGTH,
+            2,
+            ALIGNED_FRAME_LENGTH * 100L,
+            false,
+            mockSystemCounters,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            null);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(3 * ALIGNED_FRAME_LENGTH);
+
+        pacedPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+
+        assertThat(pacedPublication.pacingRate(), is(ALIGNED_FRAME_LENGTH * 100L));
+        assertThat(pacedPublication.send(currentTimestamp), is(2 * ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(3)); // setup then two data
+        receivedFrames.clear();
+
+        currentTimestamp += TimeUnit.MILLISECONDS.toNanos(5);
+        assertThat(pacedPublication.send(currentTimestamp), is(0));
+        assertThat(receivedFrames.size(), is(0));
+
+        currentTimestamp += TimeUnit.MILLISECONDS.toNanos(5);
+        assertThat(pacedPublication.send(currentTimestamp), is(ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(1));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(3)));
+    }
+
     @Test
     public void shouldNotSendUntilStatusMessageReceived() throws Exception
     {
@@ -116,6 +116,35 @@ public class RawLogFactoryTest
         assertThat(metaData.getByte(LogBufferDescriptor.LOG_META_DATA_LENGTH - 1), is((byte)0));
     }
 
+    @Test
+    public void shouldClaimLogFromPoolAndMoveToStreamLocation() throws Exception
+    {
+        final int termLength = LogBufferDescriptor.TERM_MIN_LENGTH;
+        final RawLogPool rawLogPool = new RawLogPool(
+            DATA_DIR.getAbsolutePath(), new int[]{ termLength }, 1, PRE_ZERO_LOG, mock(DistinctErrorLog.class));
+        final RawLogFactory pooledRawLogFactory = new RawLogFactory(
+            DATA_DIR.getAbsolutePath(), TERM_BUFFER_MAX_LENGTH, PRE_ZERO_LOG, mock(DistinctErrorLog.class), rawLogPool);
+
+        assertThat(rawLogPool.doWork(), is(1));
+        assertThat(rawLogPool.doWork(), is(0));
+
+        final File poolDir = new FileMappingConvention(DATA_DIR.getAbsolutePath()).poolDir();
+        final File pooledFile = poolDir.listFiles()[0];
+
+        final RawLog rawLog = pooledRawLogFactory.newNetworkPublication(
+            udpChannel.canonicalForm(), SESSION_ID, STREAM_ID, CREATION_ID, termLength);
+
+        assertThat(rawLog.termLength(), is(termLength));
+        assertThat(pooledFile.exists(), is(false));
+        assertThat(new File(rawLog.fileName()).exists(), is(true));
+        assertThat(new File(rawLog.fileName()).getParentFile().getName(), is(FileMappingConvention.PUBLICATIONS));
+        assertThat(rawLogPool.doWork(), is(1));
+
+        rawLog.close();
+        rawLogPool.onClose();
+        assertThat(poolDir.listFiles().length, is(0));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldExceptionIfRequestedTermBufferLengthGreaterThanMax()
     {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TermCleanerTest
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final byte DIRTY = (byte)0xFF;
+
+    private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
+    private final RawLog rawLog = mock(RawLog.class);
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(8192)), new UnsafeBuffer(allocateDirect(1024)));
+    private final AtomicCounter bytesCleaned = countersManager.newCounter("bytes cleaned");
+    private final AtomicCounter cleaningLag = countersManager.newCounter("cleaning lag");
+    private final TermCleaner termCleaner = new TermCleaner(16, bytesCleaned, cleaningLag);
+    private TermCleaner.Log log;
+
+    @Before
+    public void setUp()
+    {
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            termBuffers[i] = new UnsafeBuffer(allocateDirect(TERM_LENGTH));
+            termBuffers[i].setMemory(0, TERM_LENGTH, DIRTY);
+        }
+
+        when(rawLog.termBuffers()).thenReturn(termBuffers);
+        when(rawLog.termLength()).thenReturn(TERM_LENGTH);
+
+        log = termCleaner.newLog(rawLog);
+    }
+
+    @Test
+    public void shouldCleanRequestedRangeAcrossTermBoundary() throws Exception
+    {
+        final long position = TERM_LENGTH + 128;
+
+        log.requestCleanTo(position);
+        assertThat(log.cleanedPosition(), is(0L));
+
+        assertThat(termCleaner.doWork(), is(1));
+        assertThat(log.cleanedPosition(), is(position));
+        assertThat(termBuffers[0].getByte(TERM_LENGTH - 1), is((byte)0));
+        assertThat(termBuffers[1].getByte(127), is((byte)0));
+        assertThat(termBuffers[1].getByte(128), is(DIRTY));
+        assertThat(bytesCleaned.get(), is(position));
+        assertThat(cleaningLag.get(), is(position));
+    }
+
+    @Test
+    public void shouldCoalesceRequestsWhileQueued() throws Exception
+    {
+        log.requestCleanTo(64);
+        log.requestCleanTo(256);
+
+        assertThat(termCleaner.doWork(), is(1));
+        assertThat(log.cleanedPosition(), is(256L));
+        assertThat(termBuffers[0].getByte(256), is(DIRTY));
+
+        log.requestCleanTo(128);
+        assertThat(termCleaner.doWork(), is(0));
+        assertThat(bytesCleaned.get(), is(256L));
+    }
+
+    @Test
+    public void shouldCloseRawLogOnCleanerThread() throws Exception
+    {
+        log.requestCleanTo(128);
+        log.close(rawLog);
+        verify(rawLog, never()).close();
+
+        termCleaner.doWork();
+        verify(rawLog).close();
+
+        log.requestCleanTo(256);
+        assertThat(termCleaner.doWork(), is(0));
+        assertThat(termBuffers[0].getByte(128), is(DIRTY));
+    }
+}
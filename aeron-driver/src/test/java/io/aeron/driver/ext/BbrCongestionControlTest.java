@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControlUtil;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BbrCongestionControlTest
+{
+    private static final int MTU_LENGTH = 1408;
+    private static final int TERM_LENGTH = 16 * 1024 * 1024;
+    private static final int INITIAL_WINDOW_LENGTH = 4 * 1024 * 1024;
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long STEP_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BANDWIDTH = 100_000_000;
+    private static final long BDP = (BANDWIDTH * RTT_NS) / TimeUnit.SECONDS.toNanos(1);
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(ByteBuffer.allocateDirect(64 * 1024)), new UnsafeBuffer(ByteBuffer.allocateDirect(8 * 1024)));
+    private final MediaDriver.Context context = new MediaDriver.Context().initialWindowLength(INITIAL_WINDOW_LENGTH);
+
+    private long now = 0;
+    private long rebuildPosition = 0;
+    private int window;
+
+    private final BbrCongestionControl congestionControl = new BbrCongestionControl(
+        1L,
+        UdpChannel.parse("aeron:udp?endpoint=localhost:40123"),
+        1001,
+        7,
+        TERM_LENGTH,
+        MTU_LENGTH,
+        () -> now,
+        context,
+        countersManager);
+
+    @After
+    public void after()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldUseInitialWindowUntilRttIsMeasured()
+    {
+        window = congestionControl.initialWindowLength();
+        assertThat(window, is(INITIAL_WINDOW_LENGTH));
+
+        for (int i = 0; i < 100; i++)
+        {
+            step(false);
+        }
+
+        assertThat(window, is(INITIAL_WINDOW_LENGTH));
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.STARTUP));
+    }
+
+    @Test
+    public void shouldMeasureRttAtIntervalWithSingleOutstandingMeasurement()
+    {
+        assertTrue(congestionControl.shouldMeasureRtt(now));
+        now += BbrCongestionControl.RTT_MEASUREMENT_INTERVAL_NS;
+        assertFalse(congestionControl.shouldMeasureRtt(now));
+
+        congestionControl.onRttMeasurement(now, RTT_NS, null);
+        assertFalse(congestionControl.shouldMeasureRtt(now));
+
+        now += BbrCongestionControl.RTT_MEASUREMENT_INTERVAL_NS;
+        assertTrue(congestionControl.shouldMeasureRtt(now));
+
+        now += BbrCongestionControl.RTT_MEASUREMENT_TIMEOUT_NS + 1;
+        assertTrue(congestionControl.shouldMeasureRtt(now));
+    }
+
+    @Test
+    public void shouldConvergeOnBandwidthDelayProduct()
+    {
+        window = congestionControl.initialWindowLength();
+
+        for (int i = 0; i < 2000; i++)
+        {
+            step(true);
+        }
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_BW));
+        assertThat((double)congestionControl.bottleneckBandwidth(), closeTo(BANDWIDTH, BANDWIDTH * 0.05));
+        assertThat(window, allOf(greaterThanOrEqualTo((int)(BDP * 0.7)), lessThanOrEqualTo((int)(BDP * 1.3))));
+    }
+
+    @Test
+    public void shouldGrowFromMinimumWindowInStartup()
+    {
+        window = congestionControl.initialWindowLength();
+        congestionControl.onRttMeasurement(now, RTT_NS, null);
+
+        step(true);
+        for (int i = 0; i < RTT_NS / STEP_NS; i++)
+        {
+            advance(false);
+        }
+
+        final int idleWindow = window;
+        assertThat(idleWindow, is(MTU_LENGTH * 4));
+
+        for (int i = 0; i < RTT_NS / STEP_NS * 2; i++)
+        {
+            step(true);
+        }
+
+        assertThat(window, greaterThan(idleWindow * 4));
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.STARTUP));
+    }
+
+    private void step(final boolean withRtt)
+    {
+        if (withRtt && congestionControl.shouldMeasureRtt(now))
+        {
+            congestionControl.onRttMeasurement(now, RTT_NS, null);
+        }
+
+        advance(true);
+    }
+
+    private void advance(final boolean isSending)
+    {
+        now += STEP_NS;
+
+        final long lastSmPosition = rebuildPosition;
+        final long startingRebuildPosition = rebuildPosition;
+        if (isSending)
+        {
+            rebuildPosition += Math.min(BANDWIDTH * STEP_NS / TimeUnit.SECONDS.toNanos(1), window * STEP_NS / RTT_NS);
+        }
+
+        final long hwmPosition = isSending ? lastSmPosition + window : rebuildPosition;
+        final long outcome = congestionControl.onTrackRebuild(
+            now, rebuildPosition, lastSmPosition, hwmPosition, startingRebuildPosition, rebuildPosition, false);
+
+        window = CongestionControlUtil.receiverWindowLength(outcome);
+    }
+}
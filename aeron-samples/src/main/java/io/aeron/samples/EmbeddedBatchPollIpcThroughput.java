@@ -0,0 +1,172 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.*;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.BatchFragmentHandler;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.NoOpIdleStrategy;
+import org.agrona.concurrent.SigInt;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Benchmark comparing the message rate of {@link Image#poll(FragmentHandler, int)} with
+ * {@link Image#batchPoll(BatchFragmentHandler, int)} for a stream of small IPC messages.
+ *
+ * The publication is filled up to its limit while nothing is reading, then the backlog is drained with one poll
+ * method while timing only the drain. So the read path is the bottleneck rather than the rate of the publisher. Each
+ * round repeats the fill and drain for a fixed duration of draining with each poll method in turn, then reports the
+ * message rate and time per message.
+ */
+public class EmbeddedBatchPollIpcThroughput
+{
+    public static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    public static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    public static final String CHANNEL = CommonContext.IPC_CHANNEL;
+    public static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    public static final int ROUNDS = 10;
+    public static final long ROUND_DURATION_NS = TimeUnit.SECONDS.toNanos(2);
+
+    private static long fragmentCount = 0;
+    private static final FragmentHandler FRAGMENT_HANDLER = (buffer, offset, length, header) -> fragmentCount++;
+    private static final BatchFragmentHandler BATCH_HANDLER =
+        (buffer, offsets, lengths, count, header) -> fragmentCount += count;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        SigInt.register(() -> running.set(false));
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .sharedIdleStrategy(new NoOpIdleStrategy());
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+             Aeron aeron = Aeron.connect();
+             Publication publication = aeron.addPublication(CHANNEL, STREAM_ID);
+             Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID))
+        {
+            final UnsafeBuffer buffer = new UnsafeBuffer(
+                BufferUtil.allocateDirectAligned(MESSAGE_LENGTH, CACHE_LINE_LENGTH));
+
+            while (subscription.imageCount() == 0)
+            {
+                Thread.yield();
+            }
+
+            final Image image = subscription.images().get(0);
+
+            for (int i = 0; i < ROUNDS && running.get(); i++)
+            {
+                final long[] pollResult = drainRound(running, publication, buffer, image, false);
+                final long[] batchPollResult = drainRound(running, publication, buffer, image, true);
+
+                System.out.format(
+                    "Round %d: poll %,d msgs/sec %.1fns/msg - batchPoll %,d msgs/sec %.1fns/msg%n",
+                    i,
+                    rate(pollResult),
+                    costNs(pollResult),
+                    rate(batchPollResult),
+                    costNs(batchPollResult));
+            }
+        }
+    }
+
+    /**
+     * Repeatedly fill the publication and drain it until the time spent draining reaches the round duration.
+     *
+     * @return the number of messages drained and the nanoseconds spent draining them.
+     */
+    private static long[] drainRound(
+        final AtomicBoolean running,
+        final Publication publication,
+        final UnsafeBuffer buffer,
+        final Image image,
+        final boolean isBatch)
+    {
+        long messages = 0;
+        long durationNs = 0;
+
+        while (durationNs < ROUND_DURATION_NS && running.get())
+        {
+            final long filled = fill(running, publication, buffer);
+
+            fragmentCount = 0;
+            final long startNs = System.nanoTime();
+            while (fragmentCount < filled && running.get())
+            {
+                if (isBatch)
+                {
+                    image.batchPoll(BATCH_HANDLER, FRAGMENT_COUNT_LIMIT);
+                }
+                else
+                {
+                    image.poll(FRAGMENT_HANDLER, FRAGMENT_COUNT_LIMIT);
+                }
+            }
+            durationNs += System.nanoTime() - startNs;
+            messages += fragmentCount;
+        }
+
+        return new long[]{ messages, durationNs };
+    }
+
+    /**
+     * Offer until the publication is back pressured at its limit. Until the first message is accepted the limit may
+     * not yet reflect the last drain so back pressure is retried.
+     *
+     * @return the number of messages offered.
+     */
+    private static long fill(final AtomicBoolean running, final Publication publication, final UnsafeBuffer buffer)
+    {
+        long count = 0;
+
+        while (running.get())
+        {
+            final long result = publication.offer(buffer, 0, MESSAGE_LENGTH);
+            if (result > 0)
+            {
+                ++count;
+            }
+            else if (result == Publication.BACK_PRESSURED && count > 0)
+            {
+                break;
+            }
+        }
+
+        return count;
+    }
+
+    private static long rate(final long[] result)
+    {
+        return result[1] > 0 ? result[0] * TimeUnit.SECONDS.toNanos(1) / result[1] : 0;
+    }
+
+    private static double costNs(final long[] result)
+    {
+        return result[0] > 0 ? result[1] / (double)result[0] : 0.0;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.MinMulticastFlowControl;
+import io.aeron.protocol.StatusMessageFlyweight;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark of the cost of processing a status message in {@link MinMulticastFlowControl} as the number of multicast
+ * receivers grows. Status messages arrive from receivers in random order and advance their positions, with an idle
+ * check after every status message as would happen in the sender duty cycle.
+ */
+public class MinMulticastFlowControlBenchmark
+{
+    private static final int[] RECEIVER_COUNTS = { 10, 100, 1_000, 10_000 };
+    private static final int STATUS_MESSAGES_PER_RUN = 5_000_000;
+    private static final int RUNS = 5;
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int TERM_LENGTH = 16 * 1024 * 1024;
+    private static final int POSITION_BITS_TO_SHIFT = Integer.numberOfTrailingZeros(TERM_LENGTH);
+    private static final int WINDOW_LENGTH = 128 * 1024;
+
+    private static long sink;
+
+    public static void main(final String[] args)
+    {
+        final StatusMessageFlyweight flyweight = new StatusMessageFlyweight(
+            ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH));
+        final InetSocketAddress address = new InetSocketAddress("localhost", 40123);
+
+        for (final int receiverCount : RECEIVER_COUNTS)
+        {
+            final int[] receiverIds = new int[STATUS_MESSAGES_PER_RUN];
+            final int[] termOffsets = new int[STATUS_MESSAGES_PER_RUN];
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < STATUS_MESSAGES_PER_RUN; i++)
+            {
+                receiverIds[i] = random.nextInt(receiverCount);
+                termOffsets[i] = random.nextInt(TERM_LENGTH / 32) * 32;
+            }
+
+            for (int run = 0; run < RUNS; run++)
+            {
+                final MinMulticastFlowControl flowControl = new MinMulticastFlowControl();
+                long senderLimit = 0;
+
+                final long startNs = System.nanoTime();
+                for (int i = 0; i < STATUS_MESSAGES_PER_RUN; i++)
+                {
+                    flyweight
+                        .consumptionTermId(INITIAL_TERM_ID)
+                        .consumptionTermOffset(termOffsets[i])
+                        .receiverWindowLength(WINDOW_LENGTH)
+                        .receiverId(receiverIds[i]);
+
+                    final long now = startNs + i;
+                    senderLimit = flowControl.onStatusMessage(
+                        flyweight, address, senderLimit, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, now);
+                    senderLimit = flowControl.onIdle(now, senderLimit);
+                }
+                final long durationNs = System.nanoTime() - startNs;
+
+                sink += senderLimit;
+                System.out.format(
+                    "receivers=%,d run=%d %.1fns per status message%n",
+                    receiverCount,
+                    run,
+                    (double)durationNs / STATUS_MESSAGES_PER_RUN);
+            }
+        }
+
+        System.out.println("sink=" + sink);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 - 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.logbuffer.TermAppender;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.SigInt;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.createDefaultHeader;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Microbenchmark comparing the cost of appending messages with the {@link TermAppender} used by a concurrent
+ * {@link io.aeron.Publication} against the {@link ExclusiveTermAppender} used by an
+ * {@link io.aeron.ExclusivePublication}.
+ *
+ * The appenders are driven directly over a term which fits in cache, without a driver or subscriber, so the
+ * difference between an atomic get-and-add of the tail and an ordered store is not hidden by transport or consumer
+ * back pressure. The term is rewound once full so no end of term padding is written.
+ */
+public class TermAppenderBenchmark
+{
+    public static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    public static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    public static final int ROUNDS = 10;
+    public static final long ROUND_DURATION_NS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final int SESSION_ID = 7;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int TERM_ID = 0;
+    private static final int MESSAGES_PER_TERM =
+        TERM_LENGTH / BitUtil.align(HEADER_LENGTH + MESSAGE_LENGTH, FRAME_ALIGNMENT);
+
+    public static void main(final String[] args)
+    {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        SigInt.register(() -> running.set(false));
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(
+            BufferUtil.allocateDirectAligned(TERM_LENGTH, CACHE_LINE_LENGTH));
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, CACHE_LINE_LENGTH));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(
+            BufferUtil.allocateDirectAligned(MESSAGE_LENGTH, CACHE_LINE_LENGTH));
+        final HeaderWriter headerWriter = new HeaderWriter(createDefaultHeader(SESSION_ID, STREAM_ID, TERM_ID));
+
+        final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+        final ExclusiveTermAppender exclusiveTermAppender = new ExclusiveTermAppender(termBuffer, metaDataBuffer, 0);
+
+        for (int i = 0; i < ROUNDS && running.get(); i++)
+        {
+            final long concurrentCount = appendConcurrent(running, termAppender, headerWriter, srcBuffer);
+            final long exclusiveCount = appendExclusive(running, exclusiveTermAppender, headerWriter, srcBuffer);
+
+            System.out.format(
+                "Round %d: TermAppender %,d msgs/sec %.1fns/msg - ExclusiveTermAppender %,d msgs/sec %.1fns/msg%n",
+                i,
+                rate(concurrentCount),
+                costNs(concurrentCount),
+                rate(exclusiveCount),
+                costNs(exclusiveCount));
+        }
+    }
+
+    private static long appendConcurrent(
+        final AtomicBoolean running,
+        final TermAppender termAppender,
+        final HeaderWriter headerWriter,
+        final UnsafeBuffer srcBuffer)
+    {
+        long count = 0;
+        final long deadlineNs = System.nanoTime() + ROUND_DURATION_NS;
+
+        while (System.nanoTime() < deadlineNs && running.get())
+        {
+            termAppender.tailTermId(TERM_ID);
+            for (int i = 0; i < MESSAGES_PER_TERM; i++)
+            {
+                termAppender.appendUnfragmentedMessage(headerWriter, srcBuffer, 0, MESSAGE_LENGTH, null);
+            }
+
+            count += MESSAGES_PER_TERM;
+        }
+
+        return count;
+    }
+
+    private static long appendExclusive(
+        final AtomicBoolean running,
+        final ExclusiveTermAppender termAppender,
+        final HeaderWriter headerWriter,
+        final UnsafeBuffer srcBuffer)
+    {
+        long count = 0;
+        final long deadlineNs = System.nanoTime() + ROUND_DURATION_NS;
+
+        while (System.nanoTime() < deadlineNs && running.get())
+        {
+            termAppender.tailTermId(TERM_ID);
+            int termOffset = 0;
+            for (int i = 0; i < MESSAGES_PER_TERM; i++)
+            {
+                termOffset = termAppender.appendUnfragmentedMessage(
+                    TERM_ID, termOffset, headerWriter, srcBuffer, 0, MESSAGE_LENGTH, null);
+            }
+
+            count += MESSAGES_PER_TERM;
+        }
+
+        return count;
+    }
+
+    private static long rate(final long count)
+    {
+        return count * TimeUnit.SECONDS.toNanos(1) / ROUND_DURATION_NS;
+    }
+
+    private static double costNs(final long count)
+    {
+        return count > 0 ? ROUND_DURATION_NS / (double)count : 0.0;
+    }
+}
@@ -430,6 +430,65 @@ public class FlowControlStrategiesTest
             any(Header.class));
     }
 
+    @Test(timeout = 10000)
+    public void shouldKeepUpToQuorumOfGroupWithQuorumMulticastFlowControlStrategy() throws Exception
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+        int numMessagesLeftToSend = numMessagesToSend;
+        int numFragmentsReadFromA = 0;
+        final byte[] groupTag = { 7, 7, 7, 7 };
+
+        driverBContext.imageLivenessTimeoutNs(TimeUnit.MILLISECONDS.toNanos(500));
+        driverAContext.multicastFlowControlSupplier(
+            (udpChannel, streamId, registrationId) -> new QuorumMulticastFlowControl(groupTag, 1));
+        driverAContext.applicationSpecificFeedback(groupTag);
+
+        launch();
+
+        publication = clientA.addPublication(MULTICAST_URI, STREAM_ID);
+        subscriptionA = clientA.addSubscription(MULTICAST_URI, STREAM_ID);
+        subscriptionB = clientB.addSubscription(MULTICAST_URI, STREAM_ID);
+
+        while (subscriptionA.hasNoImages() || subscriptionB.hasNoImages())
+        {
+            Thread.yield();
+        }
+
+        for (long i = 0; numFragmentsReadFromA < numMessagesToSend; i++)
+        {
+            if (numMessagesLeftToSend > 0)
+            {
+                if (publication.offer(buffer, 0, buffer.capacity()) >= 0L)
+                {
+                    numMessagesLeftToSend--;
+                }
+            }
+
+            Thread.yield();
+
+            // A is in the group and keeps up
+            numFragmentsReadFromA += subscriptionA.poll(fragmentHandlerA, 10);
+
+            // B is outside the group and receives slowly
+            if ((i % 2) == 0)
+            {
+                subscriptionB.poll(fragmentHandlerB, 1);
+            }
+        }
+
+        verify(fragmentHandlerA, times(numMessagesToSend)).onFragment(
+            any(DirectBuffer.class),
+            anyInt(),
+            eq(MESSAGE_LENGTH),
+            any(Header.class));
+
+        verify(fragmentHandlerB, atMost(numMessagesToSend - 1)).onFragment(
+            any(DirectBuffer.class),
+            anyInt(),
+            eq(MESSAGE_LENGTH),
+            any(Header.class));
+    }
+
     @Test(timeout = 10000)
     public void shouldRemoveDeadPreferredReceiverWithPreferredMulticastFlowControlStrategy() throws Exception
     {
@@ -51,6 +51,9 @@ public class FragmentedMessageTest
     @DataPoint
     public static final ThreadingMode DEDICATED = ThreadingMode.DEDICATED;
 
+    @DataPoint
+    public static final ThreadingMode SHARDED = ThreadingMode.SHARDED;
+
     public static final int STREAM_ID = 1;
     public static final int FRAGMENT_COUNT_LIMIT = 10;
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.EndpointShardingPolicy;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.ERRORS;
+import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
+import static io.aeron.driver.status.SystemCounterDescriptor.STATUS_MESSAGES_RECEIVED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Streams on several channels at once through a driver with multiple sender and receiver agents, so data and control
+ * frames are built and sent by different shard threads concurrently.
+ */
+public class ShardedDriverTest
+{
+    public static final String[] CHANNELS =
+    {
+        "aeron:udp?endpoint=localhost:54331",
+        "aeron:udp?endpoint=localhost:54332",
+        "aeron:udp?endpoint=localhost:54333",
+        "aeron:udp?endpoint=localhost:54334",
+    };
+    public static final int AGENT_COUNT = 2;
+    public static final int STREAM_ID = 1;
+    public static final int MESSAGE_COUNT = 20_000;
+    public static final int MESSAGE_LENGTH = 128;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+
+    private final long[] nextSequence = new long[CHANNELS.length];
+    private final AtomicReference<Throwable> publisherError = new AtomicReference<>();
+
+    @Test(timeout = 20000)
+    public void shouldStreamConcurrentlyOnChannelsSpreadAcrossShards() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARDED)
+            .senderCount(AGENT_COUNT)
+            .receiverCount(AGENT_COUNT);
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+             Aeron aeron = Aeron.connect())
+        {
+            assertChannelsSpreadAcrossShards(ctx.endpointShardingPolicy());
+
+            final Publication[] publications = new Publication[CHANNELS.length];
+            final Subscription[] subscriptions = new Subscription[CHANNELS.length];
+            final FragmentHandler[] handlers = new FragmentHandler[CHANNELS.length];
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                subscriptions[i] = aeron.addSubscription(CHANNELS[i], STREAM_ID);
+                publications[i] = aeron.addPublication(CHANNELS[i], STREAM_ID);
+                handlers[i] = newVerifyingHandler(i, publications[i].sessionId());
+            }
+
+            final Thread[] publishers = new Thread[CHANNELS.length];
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                publishers[i] = newPublisher(i, publications[i]);
+                publishers[i].start();
+            }
+
+            boolean isComplete;
+            do
+            {
+                isComplete = true;
+                for (int i = 0; i < CHANNELS.length; i++)
+                {
+                    subscriptions[i].poll(handlers[i], FRAGMENT_COUNT_LIMIT);
+                    isComplete &= nextSequence[i] == MESSAGE_COUNT;
+                }
+            }
+            while (!isComplete);
+
+            for (final Thread publisher : publishers)
+            {
+                publisher.join();
+            }
+            assertNull(publisherError.get());
+
+            final SystemCounters systemCounters = ctx.systemCounters();
+            assertThat(systemCounters.get(INVALID_PACKETS).get(), is(0L));
+            assertThat(systemCounters.get(ERRORS).get(), is(0L));
+            assertThat(systemCounters.get(STATUS_MESSAGES_RECEIVED).get(), greaterThan(0L));
+
+            for (int i = 0; i < CHANNELS.length; i++)
+            {
+                publications[i].close();
+                subscriptions[i].close();
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+
+    private static void assertChannelsSpreadAcrossShards(final EndpointShardingPolicy shardingPolicy)
+    {
+        final Set<Integer> senderIndices = new HashSet<>();
+        final Set<Integer> receiverIndices = new HashSet<>();
+        for (final String channel : CHANNELS)
+        {
+            final UdpChannel udpChannel = UdpChannel.parse(channel);
+            senderIndices.add(shardingPolicy.senderIndex(udpChannel, AGENT_COUNT));
+            receiverIndices.add(shardingPolicy.receiverIndex(udpChannel, AGENT_COUNT));
+        }
+
+        assertThat(senderIndices.size(), is(AGENT_COUNT));
+        assertThat(receiverIndices.size(), is(AGENT_COUNT));
+    }
+
+    private FragmentHandler newVerifyingHandler(final int channelIndex, final int sessionId)
+    {
+        return (buffer, offset, length, header) ->
+        {
+            final long sequence = nextSequence[channelIndex];
+
+            assertThat(header.sessionId(), is(sessionId));
+            assertThat(header.streamId(), is(STREAM_ID));
+            assertThat(length, is(MESSAGE_LENGTH));
+            assertThat(buffer.getInt(offset), is(channelIndex));
+            assertThat(buffer.getLong(offset + 8), is(sequence));
+            for (int i = 16; i < MESSAGE_LENGTH; i++)
+            {
+                assertThat(buffer.getByte(offset + i), is((byte)(sequence + i)));
+            }
+
+            nextSequence[channelIndex] = sequence + 1;
+        };
+    }
+
+    private Thread newPublisher(final int channelIndex, final Publication publication)
+    {
+        final Thread thread = new Thread(
+            () ->
+            {
+                try
+                {
+                    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+                    buffer.putInt(0, channelIndex);
+                    for (long sequence = 0; sequence < MESSAGE_COUNT; sequence++)
+                    {
+                        buffer.putLong(8, sequence);
+                        for (int i = 16; i < MESSAGE_LENGTH; i++)
+                        {
+                            buffer.putByte(i, (byte)(sequence + i));
+                        }
+
+                        while (publication.offer(buffer) < 0L)
+                        {
+                            Thread.yield();
+                        }
+                    }
+                }
+                catch (final Throwable ex)
+                {
+                    publisherError.set(ex);
+                }
+            });
+        thread.setName("publisher-" + channelIndex);
+
+        return thread;
+    }
+}